@@ -0,0 +1,31 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.AllPairsShortestPathAlgorithms.DistanceMatrix;
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+/**
+ * Interface for all-pairs shortest path algorithms.
+ * Every implementation returns a dense distance matrix, so results are directly comparable.
+ */
+public interface AllPairsShortestPathAlgorithm extends Algorithm {
+    
+    /**
+     * Finds the shortest distances between every pair of vertices of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @return The distance matrix, with Integer.MAX_VALUE for unreachable pairs
+     */
+    DistanceMatrix findAllPairs(CsrGraph graph);
+    
+    /**
+     * Finds the shortest distances between every pair of vertices.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @return The distance matrix, with Integer.MAX_VALUE for unreachable pairs
+     */
+    default DistanceMatrix findAllPairs(Graph graph) {
+        return findAllPairs(CsrGraph.fromGraph(graph));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,522 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.ShortestPathAlgorithms.BinaryHeapDijkstra;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of all-pairs shortest path algorithms.
+ * Includes a cache-blocked Floyd-Warshall for dense graphs, parallelized within each phase,
+ * and Johnson's algorithm for sparse graphs, which reweights edges with Bellman-Ford and then
+ * runs Dijkstra's Algorithm from every vertex in parallel. Both fill a flat row-major matrix.
+ */
+public class AllPairsShortestPathAlgorithms {
+    
+    // Largest vertex count whose V x V matrix fits in one array
+    private static final int MAX_VERTICES = 46340;
+    
+    /**
+     * Dense matrix of shortest distances stored row by row in a flat array.
+     */
+    public static class DistanceMatrix {
+        private final int vertices;
+        private final int[] distances;
+        
+        /**
+         * Constructs a distance matrix.
+         * 
+         * @param vertices The number of vertices
+         * @param distances The distances in row-major order, of length vertices * vertices
+         */
+        public DistanceMatrix(int vertices, int[] distances) {
+            if ((long) vertices * vertices != distances.length) {
+                throw new IllegalArgumentException("Distance array does not match the vertex count");
+            }
+            this.vertices = vertices;
+            this.distances = distances;
+        }
+        
+        /**
+         * Gets the number of vertices.
+         * 
+         * @return The number of vertices
+         */
+        public int getVertices() {
+            return vertices;
+        }
+        
+        /**
+         * Gets the shortest distance from one vertex to another.
+         * 
+         * @param source The source vertex
+         * @param target The target vertex
+         * @return The distance, or Integer.MAX_VALUE if the target is unreachable
+         */
+        public int getDistance(int source, int target) {
+            return distances[source * vertices + target];
+        }
+        
+        /**
+         * Copies the distances from one source vertex.
+         * 
+         * @param source The source vertex
+         * @return The distances from the source, with Integer.MAX_VALUE for unreachable vertices
+         */
+        public int[] getRow(int source) {
+            int start = source * vertices;
+            return Arrays.copyOfRange(distances, start, start + vertices);
+        }
+        
+        /**
+         * Gets the underlying row-major array.
+         * 
+         * @return The distances, with Integer.MAX_VALUE for unreachable pairs
+         */
+        public int[] getDistances() {
+            return distances;
+        }
+        
+        /**
+         * Estimates the heap footprint of the matrix.
+         * 
+         * @return The estimated size in bytes
+         */
+        public long estimateSizeInBytes() {
+            return 4L * distances.length + 16 + 24;
+        }
+    }
+    
+    /**
+     * Checks that a graph is small enough for a dense distance matrix.
+     * 
+     * @param vertices The number of vertices
+     */
+    private static void checkMatrixSize(int vertices) {
+        if (vertices > MAX_VERTICES) {
+            throw new IllegalArgumentException("Too many vertices for a distance matrix: " + vertices
+                    + " (at most " + MAX_VERTICES + ")");
+        }
+    }
+    
+    /**
+     * Floyd-Warshall over a matrix split into square tiles.
+     * For each diagonal tile k, the tile itself is relaxed first, then every tile in row k and
+     * column k, which depend only on the diagonal tile, and finally all remaining tiles, which
+     * depend only on their row-k and column-k tiles. A tile update then reads three tiles that
+     * fit in cache instead of streaming whole rows, and all tiles within the second and third
+     * phases are independent and run in parallel on a ForkJoinPool.
+     * Edge weights must be non-negative; Johnson's algorithm handles negative weights.
+     */
+    public static class BlockedFloydWarshall implements AllPairsShortestPathAlgorithm {
+        // Tile width; three 256 x 256 int tiles take 768 KB, and rows of 256 keep the vector loop long
+        private static final int DEFAULT_BLOCK_SIZE = 256;
+        
+        private final int blockSize;
+        private final ForkJoinPool pool;
+        // Tile rows for each thread, allocated on first use and reused across tiles, phases and calls
+        private final ThreadLocal<int[][]> tileScratch;
+        
+        /**
+         * Constructs the algorithm with the default tile width and one thread per available processor.
+         */
+        public BlockedFloydWarshall() {
+            this(DEFAULT_BLOCK_SIZE);
+        }
+        
+        /**
+         * Constructs the algorithm with the specified tile width and one thread per available processor.
+         * 
+         * @param blockSize The tile width in vertices
+         */
+        public BlockedFloydWarshall(int blockSize) {
+            this(blockSize, Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs the algorithm with the specified tile width and number of threads.
+         * 
+         * @param blockSize The tile width in vertices
+         * @param threads The number of worker threads
+         */
+        public BlockedFloydWarshall(int blockSize, int threads) {
+            if (blockSize < 1) {
+                throw new IllegalArgumentException("Block size must be at least 1");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.blockSize = blockSize;
+            this.pool = WorkerPools.forThreads(threads);
+            this.tileScratch = ThreadLocal.withInitial(() -> new int[3 * blockSize][blockSize]);
+        }
+        
+        /**
+         * Gets the tile width.
+         * 
+         * @return The tile width in vertices
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        @Override
+        public DistanceMatrix findAllPairs(CsrGraph graph) {
+            int n = graph.getVertices();
+            checkMatrixSize(n);
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            
+            int[] d = new int[n * n];
+            Arrays.fill(d, Integer.MAX_VALUE);
+            for (int u = 0; u < n; u++) {
+                d[u * n + u] = 0;
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    if (weights[e] < 0) {
+                        throw new IllegalArgumentException("Floyd-Warshall requires non-negative edge weights");
+                    }
+                    int index = u * n + targets[e];
+                    d[index] = Math.min(d[index], weights[e]);
+                }
+            }
+            
+            int blocks = (n + blockSize - 1) / blockSize;
+            for (int block = 0; block < blocks; block++) {
+                int diagonal = block;
+                
+                // Phase 1: the diagonal tile depends only on itself
+                relaxTile(d, n, diagonal, diagonal, diagonal, tileScratch.get());
+                
+                // Phase 2: tiles in row k and column k depend on the diagonal tile
+                ParallelLoop.forRange(pool, 0, 2 * blocks, 1, (start, end) -> {
+                    int[][] scratch = tileScratch.get();
+                    for (int t = start; t < end; t++) {
+                        int other = t >> 1;
+                        if (other == diagonal) {
+                            continue;
+                        }
+                        if ((t & 1) == 0) {
+                            relaxTile(d, n, diagonal, other, diagonal, scratch);
+                        } else {
+                            relaxTile(d, n, other, diagonal, diagonal, scratch);
+                        }
+                    }
+                });
+                
+                // Phase 3: every other tile depends on its row-k and column-k tiles
+                ParallelLoop.forRange(pool, 0, blocks * blocks, 1, (start, end) -> {
+                    int[][] scratch = tileScratch.get();
+                    for (int t = start; t < end; t++) {
+                        int row = t / blocks;
+                        int column = t % blocks;
+                        if (row != diagonal && column != diagonal) {
+                            relaxTile(d, n, row, column, diagonal, scratch);
+                        }
+                    }
+                });
+            }
+            return new DistanceMatrix(n, d);
+        }
+        
+        /**
+         * Relaxes the pairs of one tile through the intermediate vertices of another.
+         * The updated tile C, the tile A holding the distances to the intermediate vertices, and
+         * the tile B holding the distances from them are copied into separate row arrays first.
+         * The innermost loop then reads and writes two different arrays at the same index, which
+         * the JIT compiler can vectorize; within the flat matrix the rows would sit at different
+         * offsets of one array and the loop would stay scalar. When A or B is the updated tile
+         * itself, its rows are shared so later intermediate vertices see earlier improvements.
+         * 
+         * @param d The distance matrix in row-major order
+         * @param n The number of vertices
+         * @param rowBlock The tile row of the updated tile
+         * @param columnBlock The tile column of the updated tile
+         * @param kBlock The tile holding the intermediate vertices
+         * @param scratch Row arrays for the three tiles, 3 * blockSize rows of blockSize
+         */
+        private void relaxTile(int[] d, int n, int rowBlock, int columnBlock, int kBlock, int[][] scratch) {
+            int rowStart = rowBlock * blockSize;
+            int rows = Math.min(blockSize, n - rowStart);
+            int columnStart = columnBlock * blockSize;
+            int columns = Math.min(blockSize, n - columnStart);
+            int kStart = kBlock * blockSize;
+            int ks = Math.min(blockSize, n - kStart);
+            
+            // Tile C occupies rows [0, blockSize), A rows [blockSize, 2 * blockSize), B the rest
+            loadTile(d, n, rowStart, rows, columnStart, columns, scratch, 0);
+            int aBase = columnBlock == kBlock ? 0 : blockSize;
+            int bBase = rowBlock == kBlock ? 0 : 2 * blockSize;
+            if (aBase != 0) {
+                loadTile(d, n, rowStart, rows, kStart, ks, scratch, aBase);
+            }
+            if (bBase != 0) {
+                loadTile(d, n, kStart, ks, columnStart, columns, scratch, bBase);
+            }
+            
+            for (int k = 0; k < ks; k++) {
+                int[] fromK = scratch[bBase + k];
+                for (int i = 0; i < rows; i++) {
+                    int throughK = scratch[aBase + i][k];
+                    if (throughK == Integer.MAX_VALUE) {
+                        continue;
+                    }
+                    int[] row = scratch[i];
+                    for (int j = 0; j < columns; j++) {
+                        // Saturating sum then branch-free minimum. Both terms lie in [0, MAX_VALUE],
+                        // so a sum that wraps negative saturates to MAX_VALUE, which means
+                        // unreachable, just as longer paths do in Dijkstra's Algorithm
+                        int current = row[j];
+                        int sum = throughK + fromK[j];
+                        sum = (sum | (sum >> 31)) & Integer.MAX_VALUE;
+                        int difference = sum - current;
+                        row[j] = current + (difference & (difference >> 31));
+                    }
+                }
+            }
+            
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(scratch[i], 0, d, (rowStart + i) * n + columnStart, columns);
+            }
+        }
+        
+        /**
+         * Copies a tile of the matrix into consecutive scratch rows.
+         * 
+         * @param d The distance matrix in row-major order
+         * @param n The number of vertices
+         * @param rowStart The first matrix row of the tile
+         * @param rows The number of rows in the tile
+         * @param columnStart The first matrix column of the tile
+         * @param columns The number of columns in the tile
+         * @param scratch The scratch rows
+         * @param base The first scratch row to fill
+         */
+        private static void loadTile(int[] d, int n, int rowStart, int rows, int columnStart, int columns,
+                int[][] scratch, int base) {
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(d, (rowStart + i) * n + columnStart, scratch[base + i], 0, columns);
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Floyd-Warshall (Blocked, Parallel)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Floyd-Warshall over cache-sized tiles, relaxing the diagonal tile, then its row " +
+                   "and column, then all remaining tiles in parallel for each intermediate block.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V^3)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V^2)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Johnson's algorithm.
+     * Bellman-Ford from a virtual vertex joined to every vertex by a zero-weight edge yields
+     * potentials h with w(u, v) + h(u) - h(v) >= 0 for every edge, so after reweighting
+     * Dijkstra's Algorithm can run from each vertex, and the original distances are recovered
+     * as d'(u, v) - h(u) + h(v). Negative edge weights are allowed, negative cycles are not.
+     * Graphs without negative weights skip the reweighting. The Dijkstra runs are independent
+     * and are spread across a ForkJoinPool.
+     */
+    public static class JohnsonAllPairs implements AllPairsShortestPathAlgorithm {
+        private final BinaryHeapDijkstra dijkstra = new BinaryHeapDijkstra();
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs the algorithm with one thread per available processor.
+         */
+        public JohnsonAllPairs() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs the algorithm with the specified number of threads.
+         * 
+         * @param threads The number of worker threads
+         */
+        public JohnsonAllPairs(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        @Override
+        public DistanceMatrix findAllPairs(CsrGraph graph) {
+            int n = graph.getVertices();
+            checkMatrixSize(n);
+            
+            long[] potentials = computePotentials(graph);
+            CsrGraph reweighted = potentials == null ? graph : reweight(graph, potentials);
+            
+            int[] d = new int[n * n];
+            ParallelLoop.forRange(pool, 0, n, 1, (start, end) -> {
+                for (int source = start; source < end; source++) {
+                    int[] distances = dijkstra.findShortestPaths(reweighted, source);
+                    int row = source * n;
+                    if (potentials == null) {
+                        System.arraycopy(distances, 0, d, row, n);
+                        continue;
+                    }
+                    for (int target = 0; target < n; target++) {
+                        d[row + target] = distances[target] == Integer.MAX_VALUE ? Integer.MAX_VALUE
+                                : (int) (distances[target] - potentials[source] + potentials[target]);
+                    }
+                }
+            });
+            return new DistanceMatrix(n, d);
+        }
+        
+        /**
+         * Computes vertex potentials with a queue-based Bellman-Ford from a virtual vertex,
+         * which starts every vertex at distance 0 and in the queue.
+         * 
+         * @param graph The CSR graph
+         * @return The potentials, or null if no edge weight is negative
+         */
+        private long[] computePotentials(CsrGraph graph) {
+            int n = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            
+            boolean negative = false;
+            for (int weight : weights) {
+                if (weight < 0) {
+                    negative = true;
+                    break;
+                }
+            }
+            if (!negative) {
+                return null;
+            }
+            
+            long[] potentials = new long[n];
+            int[] pathEdges = new int[n];
+            boolean[] queued = new boolean[n];
+            
+            // Circular queue; each vertex is in it at most once at a time
+            int[] queue = new int[n];
+            int head = 0;
+            int size = n;
+            for (int v = 0; v < n; v++) {
+                queue[v] = v;
+                queued[v] = true;
+            }
+            
+            while (size > 0) {
+                int u = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                size--;
+                queued[u] = false;
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = potentials[u] + weights[e];
+                    if (candidate < potentials[v]) {
+                        potentials[v] = candidate;
+                        // A path through n real edges repeats a vertex, so it closes a negative cycle
+                        pathEdges[v] = pathEdges[u] + 1;
+                        if (pathEdges[v] >= n) {
+                            throw new IllegalArgumentException("Graph contains a negative cycle");
+                        }
+                        if (!queued[v]) {
+                            queued[v] = true;
+                            int tail = head + size;
+                            queue[tail >= n ? tail - n : tail] = v;
+                            size++;
+                        }
+                    }
+                }
+            }
+            return potentials;
+        }
+        
+        /**
+         * Builds a copy of the graph with every edge weight shifted by the potentials of its
+         * endpoints, making all weights non-negative.
+         * 
+         * @param graph The CSR graph
+         * @param potentials The vertex potentials
+         * @return The reweighted graph, sharing the offsets and targets of the original
+         */
+        private CsrGraph reweight(CsrGraph graph, long[] potentials) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] reweighted = new int[weights.length];
+            for (int u = 0; u < graph.getVertices(); u++) {
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    long weight = weights[e] + potentials[u] - potentials[targets[e]];
+                    if (weight > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Reweighted edge weight exceeds the integer range");
+                    }
+                    reweighted[e] = (int) weight;
+                }
+            }
+            return new CsrGraph(offsets, targets, reweighted);
+        }
+        
+        @Override
+        public String getName() {
+            return "Johnson (Parallel)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Reweights edges with Bellman-Ford potentials to remove negative weights, then runs " +
+                   "Dijkstra's Algorithm from every vertex in parallel.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(VE log V)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V^2)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+}
\ No newline at end of file
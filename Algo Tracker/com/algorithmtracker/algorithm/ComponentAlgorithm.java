@@ -0,0 +1,32 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+/**
+ * Interface for connected component algorithms.
+ * Edges are treated as undirected, so the components found are the weakly connected components
+ * of a directed graph. Every implementation labels a vertex with the smallest vertex id in its
+ * component, which makes the outputs of different implementations directly comparable.
+ */
+public interface ComponentAlgorithm extends Algorithm {
+    
+    /**
+     * Finds the connected components of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @return The component id of each vertex, the smallest vertex id in its component
+     */
+    int[] findComponents(CsrGraph graph);
+    
+    /**
+     * Finds the connected components of a graph.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @return The component id of each vertex, the smallest vertex id in its component
+     */
+    default int[] findComponents(Graph graph) {
+        return findComponents(CsrGraph.fromGraph(graph));
+    }
+}
\ No newline at end of file
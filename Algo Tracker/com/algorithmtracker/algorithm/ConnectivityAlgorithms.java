@@ -0,0 +1,777 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implementation of graph connectivity algorithms.
+ * Includes a disjoint-set forest, sequential connected components built on it, a parallel
+ * lock-free variant following the Afforest approach of linking sampled neighbors first, and
+ * iterative strongly connected components with the condensation they induce.
+ */
+public class ConnectivityAlgorithms {
+    
+    /**
+     * Counts the components in a labelling produced by a ComponentAlgorithm.
+     * 
+     * @param componentIds The component id of each vertex
+     * @return The number of distinct components
+     */
+    public static int countComponents(int[] componentIds) {
+        int count = 0;
+        for (int vertex = 0; vertex < componentIds.length; vertex++) {
+            if (componentIds[vertex] == vertex) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Finds the size of the largest component in a labelling produced by a ComponentAlgorithm.
+     * 
+     * @param componentIds The component id of each vertex
+     * @return The number of vertices in the largest component
+     */
+    public static int largestComponentSize(int[] componentIds) {
+        int[] sizes = new int[componentIds.length];
+        int largest = 0;
+        for (int id : componentIds) {
+            largest = Math.max(largest, ++sizes[id]);
+        }
+        return largest;
+    }
+    
+    /**
+     * Disjoint-set forest with path compression and union by rank.
+     * Any sequence of m operations on n elements runs in O(m α(n)) time.
+     */
+    public static class UnionFind {
+        private final int[] parent;
+        private final byte[] rank;
+        private int sets;
+        
+        /**
+         * Constructs a forest of singleton sets.
+         * 
+         * @param size The number of elements
+         */
+        public UnionFind(int size) {
+            parent = new int[size];
+            rank = new byte[size];
+            sets = size;
+            for (int i = 0; i < size; i++) {
+                parent[i] = i;
+            }
+        }
+        
+        /**
+         * Finds the representative of an element's set, pointing every element on the way
+         * directly at it.
+         * 
+         * @param element The element
+         * @return The representative of the set
+         */
+        public int find(int element) {
+            int root = element;
+            while (parent[root] != root) {
+                root = parent[root];
+            }
+            while (parent[element] != root) {
+                int next = parent[element];
+                parent[element] = root;
+                element = next;
+            }
+            return root;
+        }
+        
+        /**
+         * Merges the sets of two elements, attaching the shallower tree below the deeper one.
+         * 
+         * @param first The first element
+         * @param second The second element
+         * @return true if the elements were in different sets, false otherwise
+         */
+        public boolean union(int first, int second) {
+            int firstRoot = find(first);
+            int secondRoot = find(second);
+            if (firstRoot == secondRoot) {
+                return false;
+            }
+            if (rank[firstRoot] < rank[secondRoot]) {
+                parent[firstRoot] = secondRoot;
+            } else if (rank[firstRoot] > rank[secondRoot]) {
+                parent[secondRoot] = firstRoot;
+            } else {
+                parent[secondRoot] = firstRoot;
+                rank[firstRoot]++;
+            }
+            sets--;
+            return true;
+        }
+        
+        /**
+         * Checks whether two elements are in the same set.
+         * 
+         * @param first The first element
+         * @param second The second element
+         * @return true if the elements are in the same set, false otherwise
+         */
+        public boolean connected(int first, int second) {
+            return find(first) == find(second);
+        }
+        
+        /**
+         * Gets the number of disjoint sets.
+         * 
+         * @return The number of sets
+         */
+        public int getSetCount() {
+            return sets;
+        }
+    }
+    
+    /**
+     * Connected components with a union-find forest.
+     * Unions the endpoints of every edge, then labels each vertex with the smallest vertex of its set.
+     */
+    public static class UnionFindComponents implements ComponentAlgorithm {
+        
+        @Override
+        public int[] findComponents(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            UnionFind sets = new UnionFind(vertices);
+            
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                    sets.union(vertex, targets[e]);
+                }
+            }
+            
+            // Vertices are visited in increasing order, so the first one seen in a set is its smallest
+            int[] smallest = new int[vertices];
+            int[] componentIds = new int[vertices];
+            Arrays.fill(smallest, -1);
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                int root = sets.find(vertex);
+                if (smallest[root] < 0) {
+                    smallest[root] = vertex;
+                }
+                componentIds[vertex] = smallest[root];
+            }
+            return componentIds;
+        }
+        
+        @Override
+        public String getName() {
+            return "Connected Components (Union-Find)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Merges the endpoints of every edge in a disjoint-set forest with path compression and union by rank, then labels each vertex by its set.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) α(V))";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Parallel lock-free connected components in the style of Afforest.
+     * Every vertex starts as its own tree. Trees are joined by hooking the larger root below the
+     * smaller one with a compare-and-swap, so concurrent links never need locks and each root ends
+     * up as the smallest vertex of its component. Linking only the first few neighbors of every
+     * vertex already merges most of a typical graph into one giant component; a random sample then
+     * identifies that component, and only vertices outside it process their remaining edges.
+     */
+    public static class ParallelComponents implements ComponentAlgorithm {
+        // Neighbors linked per vertex before sampling
+        private static final int NEIGHBOR_ROUNDS = 2;
+        
+        // Vertices sampled to find the largest intermediate component
+        private static final int SAMPLE_SIZE = 1024;
+        
+        // Vertices per parallel chunk
+        private static final int VERTEX_GRAIN = 4096;
+        
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs the algorithm with one thread per available processor.
+         */
+        public ParallelComponents() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs the algorithm with the specified number of threads.
+         * 
+         * @param threads The number of worker threads
+         */
+        public ParallelComponents(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        @Override
+        public int[] findComponents(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            AtomicIntegerArray parent = new AtomicIntegerArray(vertices);
+            
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int vertex = start; vertex < end; vertex++) {
+                    parent.set(vertex, vertex);
+                }
+            });
+            
+            // Link a few neighbors of every vertex, flattening the trees after each round
+            for (int round = 0; round < NEIGHBOR_ROUNDS; round++) {
+                int offset = round;
+                ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                    for (int vertex = start; vertex < end; vertex++) {
+                        int e = offsets[vertex] + offset;
+                        if (e < offsets[vertex + 1]) {
+                            link(parent, vertex, targets[e]);
+                        }
+                    }
+                });
+                compress(parent, vertices);
+            }
+            
+            int giant = sampleLargestComponent(parent, vertices);
+            
+            // Edges leaving the giant component are also in-edges of vertices outside it, so
+            // vertices inside it can skip their edges entirely
+            CsrGraph transpose = graph.transpose();
+            int[] inOffsets = transpose.getOffsets();
+            int[] inSources = transpose.getTargets();
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int vertex = start; vertex < end; vertex++) {
+                    if (parent.get(vertex) == giant) {
+                        continue;
+                    }
+                    for (int e = offsets[vertex] + NEIGHBOR_ROUNDS; e < offsets[vertex + 1]; e++) {
+                        link(parent, vertex, targets[e]);
+                    }
+                    for (int e = inOffsets[vertex]; e < inOffsets[vertex + 1]; e++) {
+                        link(parent, vertex, inSources[e]);
+                    }
+                }
+            });
+            compress(parent, vertices);
+            
+            int[] componentIds = new int[vertices];
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int vertex = start; vertex < end; vertex++) {
+                    componentIds[vertex] = parent.get(vertex);
+                }
+            });
+            return componentIds;
+        }
+        
+        /**
+         * Joins the trees of two vertices by hooking the larger root below the smaller one.
+         * A failed compare-and-swap means another thread moved the root, so the walk resumes
+         * from the updated parents.
+         * 
+         * @param parent The parent of each vertex
+         * @param first The first vertex
+         * @param second The second vertex
+         */
+        private static void link(AtomicIntegerArray parent, int first, int second) {
+            int firstParent = parent.get(first);
+            int secondParent = parent.get(second);
+            while (firstParent != secondParent) {
+                int high = Math.max(firstParent, secondParent);
+                int low = Math.min(firstParent, secondParent);
+                int highParent = parent.get(high);
+                if (highParent == low || (highParent == high && parent.compareAndSet(high, high, low))) {
+                    return;
+                }
+                firstParent = parent.get(parent.get(high));
+                secondParent = parent.get(low);
+            }
+        }
+        
+        /**
+         * Points every vertex directly at the root of its tree.
+         * 
+         * @param parent The parent of each vertex
+         * @param vertices The number of vertices
+         */
+        private void compress(AtomicIntegerArray parent, int vertices) {
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int vertex = start; vertex < end; vertex++) {
+                    int grandparent;
+                    while (parent.get(vertex) != (grandparent = parent.get(parent.get(vertex)))) {
+                        parent.set(vertex, grandparent);
+                    }
+                }
+            });
+        }
+        
+        /**
+         * Finds the most common root among a fixed random sample of vertices.
+         * 
+         * @param parent The compressed parent of each vertex
+         * @param vertices The number of vertices
+         * @return The root of the most likely largest component, or -1 for an empty graph
+         */
+        private static int sampleLargestComponent(AtomicIntegerArray parent, int vertices) {
+            if (vertices == 0) {
+                return -1;
+            }
+            Random random = new Random(vertices);
+            Map<Integer, Integer> counts = new HashMap<>();
+            int best = -1;
+            int bestCount = 0;
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                int root = parent.get(random.nextInt(vertices));
+                int count = counts.merge(root, 1, Integer::sum);
+                if (count > bestCount) {
+                    best = root;
+                    bestCount = count;
+                }
+            }
+            return best;
+        }
+        
+        @Override
+        public String getName() {
+            return "Connected Components (Parallel Afforest)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Links sampled neighbors with lock-free compare-and-swap hooking, finds the giant component by sampling, and links the remaining edges only outside it.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) log V) work worst case, near-linear in practice";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) including the transposed edges";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Tarjan's strongly connected components algorithm without recursion.
+     * A single depth-first search numbers vertices in visiting order and tracks, for each one,
+     * the lowest number reachable through its subtree and at most one edge back into the search
+     * stack. A vertex whose low link equals its own number roots a component, which is popped off
+     * the component stack when the vertex finishes. An explicit call stack with a per-vertex edge
+     * cursor replaces recursion, so paths of any length fit in memory.
+     */
+    public static class TarjanStrongComponents implements StrongComponentAlgorithm {
+        
+        @Override
+        public int[] findStrongComponents(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] order = new int[vertices];
+            int[] lowLinks = new int[vertices];
+            int[] cursors = new int[vertices];
+            int[] callStack = new int[vertices];
+            int[] componentStack = new int[vertices];
+            boolean[] onStack = new boolean[vertices];
+            int[] componentIds = new int[vertices];
+            Arrays.fill(order, -1);
+            int counter = 0;
+            
+            for (int root = 0; root < vertices; root++) {
+                if (order[root] >= 0) {
+                    continue;
+                }
+                int callSize = 0;
+                int componentSize = 0;
+                order[root] = lowLinks[root] = counter++;
+                cursors[root] = offsets[root];
+                callStack[callSize++] = root;
+                componentStack[componentSize++] = root;
+                onStack[root] = true;
+                
+                while (callSize > 0) {
+                    int vertex = callStack[callSize - 1];
+                    if (cursors[vertex] < offsets[vertex + 1]) {
+                        int next = targets[cursors[vertex]++];
+                        if (order[next] < 0) {
+                            order[next] = lowLinks[next] = counter++;
+                            cursors[next] = offsets[next];
+                            callStack[callSize++] = next;
+                            componentStack[componentSize++] = next;
+                            onStack[next] = true;
+                        } else if (onStack[next]) {
+                            lowLinks[vertex] = Math.min(lowLinks[vertex], order[next]);
+                        }
+                        continue;
+                    }
+                    
+                    // The vertex is finished: pass its low link up, or pop its component
+                    callSize--;
+                    if (callSize > 0) {
+                        int parent = callStack[callSize - 1];
+                        lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[vertex]);
+                    }
+                    if (lowLinks[vertex] == order[vertex]) {
+                        int start = componentSize;
+                        int smallest = vertex;
+                        do {
+                            smallest = Math.min(smallest, componentStack[--start]);
+                        } while (componentStack[start] != vertex);
+                        for (int i = start; i < componentSize; i++) {
+                            componentIds[componentStack[i]] = smallest;
+                            onStack[componentStack[i]] = false;
+                        }
+                        componentSize = start;
+                    }
+                }
+            }
+            return componentIds;
+        }
+        
+        @Override
+        public String getName() {
+            return "Strong Components (Tarjan, Iterative)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Finds strongly connected components in one depth-first search using low links, with an explicit stack instead of recursion.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Kosaraju's strongly connected components algorithm without recursion.
+     * A first depth-first search records vertices in order of finishing. A second one runs on
+     * the transposed graph, starting from vertices in reverse finishing order, and every tree
+     * it grows is exactly one component. Simpler than Tarjan's algorithm but makes two passes
+     * and needs the transpose.
+     */
+    public static class KosarajuStrongComponents implements StrongComponentAlgorithm {
+        
+        @Override
+        public int[] findStrongComponents(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] finishOrder = new int[vertices];
+            int[] cursors = new int[vertices];
+            int[] stack = new int[vertices];
+            boolean[] visited = new boolean[vertices];
+            int finished = 0;
+            
+            // First pass: finishing order on the original graph
+            for (int root = 0; root < vertices; root++) {
+                if (visited[root]) {
+                    continue;
+                }
+                int size = 0;
+                visited[root] = true;
+                cursors[root] = offsets[root];
+                stack[size++] = root;
+                while (size > 0) {
+                    int vertex = stack[size - 1];
+                    if (cursors[vertex] < offsets[vertex + 1]) {
+                        int next = targets[cursors[vertex]++];
+                        if (!visited[next]) {
+                            visited[next] = true;
+                            cursors[next] = offsets[next];
+                            stack[size++] = next;
+                        }
+                    } else {
+                        finishOrder[finished++] = vertex;
+                        size--;
+                    }
+                }
+            }
+            
+            // Second pass: each search on the transpose collects one component
+            CsrGraph transpose = graph.transpose();
+            int[] inOffsets = transpose.getOffsets();
+            int[] inSources = transpose.getTargets();
+            int[] componentIds = new int[vertices];
+            int[] members = cursors;
+            Arrays.fill(componentIds, -1);
+            for (int i = vertices - 1; i >= 0; i--) {
+                int root = finishOrder[i];
+                if (componentIds[root] >= 0) {
+                    continue;
+                }
+                int size = 0;
+                int collected = 0;
+                int smallest = root;
+                componentIds[root] = root;
+                stack[size++] = root;
+                while (size > 0) {
+                    int vertex = stack[--size];
+                    members[collected++] = vertex;
+                    smallest = Math.min(smallest, vertex);
+                    for (int e = inOffsets[vertex]; e < inOffsets[vertex + 1]; e++) {
+                        int previous = inSources[e];
+                        if (componentIds[previous] < 0) {
+                            componentIds[previous] = root;
+                            stack[size++] = previous;
+                        }
+                    }
+                }
+                for (int j = 0; j < collected; j++) {
+                    componentIds[members[j]] = smallest;
+                }
+            }
+            return componentIds;
+        }
+        
+        @Override
+        public String getName() {
+            return "Strong Components (Kosaraju, Iterative)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Finds strongly connected components with one depth-first search for finishing order and a second on the transposed graph.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) including the transposed edges";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Condensation of a directed graph: every strongly connected component collapsed into a
+     * single vertex. The result is always acyclic. Components are numbered in topological order,
+     * so every edge of the condensed graph runs from a lower to a higher component number, and
+     * parallel edges between two components are merged into one.
+     */
+    public static class Condensation {
+        private final int[] componentOf;
+        private final int[] componentSizes;
+        private final CsrGraph dag;
+        
+        /**
+         * Condenses a graph using a strongly connected component labelling.
+         * 
+         * @param graph The CSR graph
+         * @param strongComponentIds The component id of each vertex, as produced by a
+         *                           StrongComponentAlgorithm
+         */
+        public Condensation(CsrGraph graph, int[] strongComponentIds) {
+            int vertices = graph.getVertices();
+            if (strongComponentIds.length != vertices) {
+                throw new IllegalArgumentException("Expected " + vertices + " component ids, got "
+                        + strongComponentIds.length);
+            }
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            
+            // Renumber the components densely in order of their smallest vertex
+            int[] dense = new int[vertices];
+            Arrays.fill(dense, -1);
+            int[] denseOf = new int[vertices];
+            int count = 0;
+            for (int v = 0; v < vertices; v++) {
+                int label = strongComponentIds[v];
+                if (label < 0 || label >= vertices) {
+                    throw new IllegalArgumentException("Component id out of range: " + label);
+                }
+                if (dense[label] < 0) {
+                    dense[label] = count++;
+                }
+                denseOf[v] = dense[label];
+            }
+            
+            // Group the vertices of each component together
+            int[] memberOffsets = new int[count + 1];
+            for (int v = 0; v < vertices; v++) {
+                memberOffsets[denseOf[v] + 1]++;
+            }
+            for (int c = 0; c < count; c++) {
+                memberOffsets[c + 1] += memberOffsets[c];
+            }
+            int[] members = new int[vertices];
+            int[] slots = Arrays.copyOf(memberOffsets, count);
+            for (int v = 0; v < vertices; v++) {
+                members[slots[denseOf[v]]++] = v;
+            }
+            
+            // Collect the distinct edges leaving each component; a stamp per target
+            // component drops duplicates without sorting
+            int[] edgeOffsets = new int[count + 1];
+            int[] edgeTargets = new int[16];
+            int[] stamps = new int[count];
+            Arrays.fill(stamps, -1);
+            int[] inDegrees = new int[count];
+            int edges = 0;
+            for (int c = 0; c < count; c++) {
+                stamps[c] = c;
+                for (int m = memberOffsets[c]; m < memberOffsets[c + 1]; m++) {
+                    int u = members[m];
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        int target = denseOf[targets[e]];
+                        if (stamps[target] != c) {
+                            stamps[target] = c;
+                            if (edges == edgeTargets.length) {
+                                edgeTargets = Arrays.copyOf(edgeTargets, edges * 2);
+                            }
+                            edgeTargets[edges++] = target;
+                            inDegrees[target]++;
+                        }
+                    }
+                }
+                edgeOffsets[c + 1] = edges;
+            }
+            
+            // Kahn's algorithm gives the topological numbering
+            int[] order = new int[count];
+            int head = 0;
+            int tail = 0;
+            for (int c = 0; c < count; c++) {
+                if (inDegrees[c] == 0) {
+                    order[tail++] = c;
+                }
+            }
+            while (head < tail) {
+                int c = order[head++];
+                for (int e = edgeOffsets[c]; e < edgeOffsets[c + 1]; e++) {
+                    if (--inDegrees[edgeTargets[e]] == 0) {
+                        order[tail++] = edgeTargets[e];
+                    }
+                }
+            }
+            if (tail != count) {
+                throw new IllegalArgumentException("Component ids do not describe strongly connected components");
+            }
+            int[] rank = new int[count];
+            for (int i = 0; i < count; i++) {
+                rank[order[i]] = i;
+            }
+            
+            // Rebuild the condensed graph and the vertex mapping in topological numbering
+            int[] dagOffsets = new int[count + 1];
+            int[] dagTargets = new int[edges];
+            this.componentSizes = new int[count];
+            for (int i = 0; i < count; i++) {
+                int c = order[i];
+                int degree = edgeOffsets[c + 1] - edgeOffsets[c];
+                dagOffsets[i + 1] = dagOffsets[i] + degree;
+                for (int e = 0; e < degree; e++) {
+                    dagTargets[dagOffsets[i] + e] = rank[edgeTargets[edgeOffsets[c] + e]];
+                }
+                componentSizes[i] = memberOffsets[c + 1] - memberOffsets[c];
+            }
+            int[] dagWeights = new int[edges];
+            Arrays.fill(dagWeights, 1);
+            this.dag = new CsrGraph(dagOffsets, dagTargets, dagWeights);
+            
+            this.componentOf = new int[vertices];
+            for (int v = 0; v < vertices; v++) {
+                componentOf[v] = rank[denseOf[v]];
+            }
+        }
+        
+        /**
+         * Gets the condensed graph. Each vertex is a component, every edge has weight 1 and
+         * runs from a lower to a higher component number.
+         * 
+         * @return The condensed acyclic graph
+         */
+        public CsrGraph getDag() {
+            return dag;
+        }
+        
+        /**
+         * Gets the topological component number of every vertex of the original graph.
+         * 
+         * @return The component number of each vertex
+         */
+        public int[] getComponentOf() {
+            return componentOf;
+        }
+        
+        /**
+         * Gets the number of strongly connected components.
+         * 
+         * @return The component count
+         */
+        public int getComponentCount() {
+            return componentSizes.length;
+        }
+        
+        /**
+         * Gets the number of original vertices in a component.
+         * 
+         * @param component The topological component number
+         * @return The component size
+         */
+        public int getComponentSize(int component) {
+            return componentSizes[component];
+        }
+    }
+}
\ No newline at end of file
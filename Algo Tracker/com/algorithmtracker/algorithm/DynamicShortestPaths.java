@@ -0,0 +1,348 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Single-source shortest paths kept up to date while edges are inserted or made lighter.
+ * Neither update can lengthen a shortest path, so a repair only has to lower distances:
+ * the heads of updated edges whose distance improves seed a Dijkstra search that relaxes
+ * outward from them and stops where distances no longer change. Its cost depends on the
+ * number of affected vertices rather than the size of the graph. Updates made to the graph
+ * directly rather than through this class are detected by the graph version and answered
+ * with a full recomputation.
+ */
+public class DynamicShortestPaths implements Algorithm {
+    private final Graph graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] predecessors;
+    private long[] heap;
+    private int heapSize;
+    private long version;
+    private long lastAffectedVertices;
+    
+    /**
+     * Constructs the structure and computes the initial shortest paths.
+     * 
+     * @param graph The graph, whose edge weights must be non-negative
+     * @param sourceVertex The source vertex
+     */
+    public DynamicShortestPaths(Graph graph, int sourceVertex) {
+        if (sourceVertex < 0 || sourceVertex >= graph.getVertices()) {
+            throw new IllegalArgumentException("Source vertex out of range: " + sourceVertex);
+        }
+        this.graph = graph;
+        this.source = sourceVertex;
+        this.distances = new int[graph.getVertices()];
+        this.predecessors = new int[graph.getVertices()];
+        this.heap = new long[Math.max(16, graph.getVertices())];
+        recompute();
+    }
+    
+    /**
+     * Recomputes all distances from scratch with Dijkstra's Algorithm.
+     */
+    public void recompute() {
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        Arrays.fill(predecessors, -1);
+        distances[source] = 0;
+        heapSize = 0;
+        push(0, source);
+        lastAffectedVertices = propagate();
+        version = graph.getVersion();
+    }
+    
+    /**
+     * Adds an edge to the graph and repairs the distances it shortens.
+     * 
+     * @param source The source vertex
+     * @param destination The destination vertex
+     * @param weight The non-negative edge weight
+     * @return The number of vertices whose distance changed
+     */
+    public long addEdge(int source, int destination, int weight) {
+        return addEdges(List.of(new Graph.Edge(source, destination, weight)));
+    }
+    
+    /**
+     * Adds a batch of edges to the graph and repairs the distances in a single search,
+     * so a vertex improved by several edges of the batch is settled only once.
+     * 
+     * @param edges The edges to add
+     * @return The number of vertices whose distance changed
+     */
+    public long addEdges(List<Graph.Edge> edges) {
+        for (Graph.Edge edge : edges) {
+            checkWeight(edge.getWeight());
+        }
+        boolean current = isCurrent();
+        for (Graph.Edge edge : edges) {
+            graph.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+        }
+        return repair(edges, current);
+    }
+    
+    /**
+     * Lowers the weight of an edge in the graph and repairs the distances it shortens.
+     * 
+     * @param source The source vertex
+     * @param destination The destination vertex
+     * @param weight The new, non-negative weight
+     * @return The number of vertices whose distance changed
+     */
+    public long decreaseEdgeWeight(int source, int destination, int weight) {
+        return decreaseEdgeWeights(List.of(new Graph.Edge(source, destination, weight)));
+    }
+    
+    /**
+     * Lowers the weights of a batch of existing edges and repairs the distances in a single
+     * search. Edges that are already lighter than their new weight are left unchanged.
+     * 
+     * @param edges The edges with their new weights
+     * @return The number of vertices whose distance changed
+     */
+    public long decreaseEdgeWeights(List<Graph.Edge> edges) {
+        for (Graph.Edge edge : edges) {
+            checkWeight(edge.getWeight());
+        }
+        boolean current = isCurrent();
+        for (Graph.Edge edge : edges) {
+            graph.decreaseEdgeWeight(edge.getSource(), edge.getDestination(), edge.getWeight());
+        }
+        return repair(edges, current);
+    }
+    
+    /**
+     * Checks whether the distances reflect every change made to the graph, that is, whether
+     * the graph has not been mutated behind this structure's back.
+     * 
+     * @return true if the distances are current, false otherwise
+     */
+    public boolean isCurrent() {
+        return version == graph.getVersion();
+    }
+    
+    /**
+     * Repairs the distances after a batch of updated edges, or recomputes them when the graph
+     * had already changed in ways the batch does not describe.
+     * 
+     * @param edges The updated edges with their current weights
+     * @param current Whether the distances were current before the batch was applied
+     * @return The number of vertices whose distance changed
+     */
+    private long repair(List<Graph.Edge> edges, boolean current) {
+        if (!current) {
+            recompute();
+            return lastAffectedVertices;
+        }
+        heapSize = 0;
+        for (Graph.Edge edge : edges) {
+            int u = edge.getSource();
+            int v = edge.getDestination();
+            if (distances[u] == Integer.MAX_VALUE) {
+                continue;
+            }
+            long candidate = (long) distances[u] + edge.getWeight();
+            if (candidate < distances[v]) {
+                distances[v] = (int) candidate;
+                predecessors[v] = u;
+                push(candidate, v);
+            }
+        }
+        lastAffectedVertices = propagate();
+        version = graph.getVersion();
+        return lastAffectedVertices;
+    }
+    
+    /**
+     * Runs Dijkstra's Algorithm from the vertices already in the heap. Entries made stale by
+     * a later improvement are skipped when popped.
+     * 
+     * @return The number of vertices settled, each of which had its distance lowered
+     */
+    private long propagate() {
+        List<List<Graph.Edge>> adjacencyList = graph.getAdjacencyList();
+        long settled = 0;
+        while (heapSize > 0) {
+            long top = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown();
+            
+            int u = (int) top;
+            int distance = (int) (top >>> 32);
+            if (distance > distances[u]) {
+                continue;
+            }
+            settled++;
+            
+            for (Graph.Edge edge : adjacencyList.get(u)) {
+                int v = edge.getDestination();
+                long candidate = (long) distance + edge.getWeight();
+                if (candidate < distances[v]) {
+                    distances[v] = (int) candidate;
+                    predecessors[v] = u;
+                    push(candidate, v);
+                }
+            }
+        }
+        return settled;
+    }
+    
+    /**
+     * Pushes a (distance, vertex) entry onto the heap.
+     * 
+     * @param distance The tentative distance
+     * @param vertex The vertex
+     */
+    private void push(long distance, int vertex) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+        }
+        int index = heapSize++;
+        long entry = (distance << 32) | vertex;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = entry;
+    }
+    
+    /**
+     * Moves the root entry down until neither child is smaller.
+     */
+    private void siftDown() {
+        if (heapSize == 0) {
+            return;
+        }
+        long entry = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (entry <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = entry;
+    }
+    
+    /**
+     * Rejects negative edge weights, which would break the Dijkstra order the repair relies on.
+     * 
+     * @param weight The edge weight
+     */
+    private static void checkWeight(int weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Edge weights must be non-negative");
+        }
+    }
+    
+    /**
+     * Gets the source vertex.
+     * 
+     * @return The source vertex
+     */
+    public int getSource() {
+        return source;
+    }
+    
+    /**
+     * Gets the current shortest distances. The array is updated in place by later repairs.
+     * 
+     * @return The distances, with Integer.MAX_VALUE for unreachable vertices
+     */
+    public int[] getDistances() {
+        return distances;
+    }
+    
+    /**
+     * Gets the current shortest distance to a vertex.
+     * 
+     * @param vertex The vertex
+     * @return The distance, or Integer.MAX_VALUE if the vertex is unreachable
+     */
+    public int getDistance(int vertex) {
+        return distances[vertex];
+    }
+    
+    /**
+     * Gets the predecessor of each vertex on its shortest path. The array is updated in
+     * place by later repairs.
+     * 
+     * @return The predecessors, with -1 for the source and unreachable vertices
+     */
+    public int[] getPredecessors() {
+        return predecessors;
+    }
+    
+    /**
+     * Builds the current shortest path to a vertex by following predecessor links.
+     * 
+     * @param vertex The target vertex
+     * @return The vertices from source to target, empty if the target is unreachable
+     */
+    public int[] getPath(int vertex) {
+        if (distances[vertex] == Integer.MAX_VALUE) {
+            return new int[0];
+        }
+        int length = 0;
+        for (int v = vertex; v != -1; v = predecessors[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = vertex; v != -1; v = predecessors[v]) {
+            path[--length] = v;
+        }
+        return path;
+    }
+    
+    /**
+     * Gets the number of vertices whose distance changed in the last repair, or that were
+     * reached by the last full recomputation.
+     * 
+     * @return The affected vertex count
+     */
+    public long getLastAffectedVertices() {
+        return lastAffectedVertices;
+    }
+    
+    @Override
+    public String getName() {
+        return "Incremental Dijkstra";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Maintains single-source shortest paths under edge insertions and weight decreases, " +
+               "propagating improvements only from the vertices an update affects.";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(A log A) per batch, where A counts the affected vertices and their edges";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+    
+    @Override
+    public AlgorithmCategory getCategory() {
+        return AlgorithmCategory.GRAPH;
+    }
+}
\ No newline at end of file
@@ -1,10 +1,17 @@
 package com.algorithmtracker.algorithm;
 
+import java.nio.IntBuffer;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Implementation of various graph algorithms.
- * Includes Depth-First Search, Breadth-First Search, and Dijkstra's Algorithm.
+ * Includes recursive and iterative Depth-First Search, sequential, direction-optimizing
+ * parallel, and bit-parallel multi-source Breadth-First Search, and Dijkstra's Algorithm,
+ * which run on both the adjacency-list Graph and the compact CsrGraph. Breadth-First Search
+ * also runs on a MappedCsrGraph read directly from a memory-mapped file.
  */
 public class GraphAlgorithms {
     
@@ -14,6 +21,9 @@ public class GraphAlgorithms {
     public static class Graph {
         private int vertices;
         private List<List<Edge>> adjacencyList;
+        private int[] xCoordinates;
+        private int[] yCoordinates;
+        private volatile long version;
         
         /**
          * Constructs a graph with the specified number of vertices.
@@ -30,7 +40,7 @@ public class GraphAlgorithms {
         }
         
         /**
-         * Adds an edge to the graph.
+         * Adds an edge to the graph and advances the graph version.
          * 
          * @param source The source vertex
          * @param destination The destination vertex
@@ -39,6 +49,96 @@ public class GraphAlgorithms {
         public void addEdge(int source, int destination, int weight) {
             Edge edge = new Edge(source, destination, weight);
             adjacencyList.get(source).add(edge);
+            version++;
+        }
+        
+        /**
+         * Lowers the weight of the edges from source to destination that are heavier than the
+         * given weight, advancing the graph version if any edge changed.
+         * 
+         * @param source The source vertex
+         * @param destination The destination vertex
+         * @param weight The new weight
+         * @return true if an edge was lowered, false if none was heavier than the new weight
+         */
+        public boolean decreaseEdgeWeight(int source, int destination, int weight) {
+            boolean found = false;
+            boolean lowered = false;
+            for (Edge edge : adjacencyList.get(source)) {
+                if (edge.destination == destination) {
+                    found = true;
+                    if (edge.weight > weight) {
+                        edge.weight = weight;
+                        lowered = true;
+                    }
+                }
+            }
+            if (!found) {
+                throw new IllegalArgumentException("No edge from " + source + " to " + destination);
+            }
+            if (lowered) {
+                version++;
+            }
+            return lowered;
+        }
+        
+        /**
+         * Gets the graph version, which changes every time addEdge or decreaseEdgeWeight
+         * mutates the graph.
+         * Results derived from the graph, such as cached shortest paths, are valid only for
+         * the version they were computed at. Edits made directly through the adjacency list
+         * are not tracked.
+         * 
+         * @return The graph version
+         */
+        public long getVersion() {
+            return version;
+        }
+        
+        /**
+         * Sets the planar coordinates of a vertex.
+         * Coordinates are optional; once any vertex has them, the rest default to the origin.
+         * 
+         * @param vertex The vertex
+         * @param x The x coordinate
+         * @param y The y coordinate
+         */
+        public void setCoordinates(int vertex, int x, int y) {
+            if (xCoordinates == null) {
+                xCoordinates = new int[vertices];
+                yCoordinates = new int[vertices];
+            }
+            xCoordinates[vertex] = x;
+            yCoordinates[vertex] = y;
+        }
+        
+        /**
+         * Checks whether the vertices have planar coordinates.
+         * 
+         * @return true if coordinates have been set, false otherwise
+         */
+        public boolean hasCoordinates() {
+            return xCoordinates != null;
+        }
+        
+        /**
+         * Gets the x coordinate of a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The x coordinate
+         */
+        public int getX(int vertex) {
+            return xCoordinates[vertex];
+        }
+        
+        /**
+         * Gets the y coordinate of a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The y coordinate
+         */
+        public int getY(int vertex) {
+            return yCoordinates[vertex];
         }
         
         /**
@@ -59,6 +159,30 @@ public class GraphAlgorithms {
             return vertices;
         }
         
+        /**
+         * Gets the number of edges in the graph.
+         * 
+         * @return The number of edges
+         */
+        public long getEdgeCount() {
+            long edges = 0;
+            for (List<Edge> edgeList : adjacencyList) {
+                edges += edgeList.size();
+            }
+            return edges;
+        }
+        
+        /**
+         * Estimates the heap footprint of the adjacency list, assuming compressed object pointers:
+         * a 24-byte Edge object plus a 4-byte reference per edge, and an ArrayList with its backing
+         * array header per vertex. Unused ArrayList capacity is not counted.
+         * 
+         * @return The estimated size in bytes
+         */
+        public long estimateSizeInBytes() {
+            return getEdgeCount() * (24 + 4) + (long) vertices * (24 + 16 + 4) + 40;
+        }
+        
         /**
          * Represents an edge in the graph.
          */
@@ -109,6 +233,304 @@ public class GraphAlgorithms {
         }
     }
     
+    /**
+     * Represents a graph in Compressed Sparse Row form.
+     * The outgoing edges of vertex v occupy slots offsets[v] to offsets[v + 1] - 1 of the
+     * targets and weights arrays, so a graph costs 8 bytes per edge plus 4 bytes per vertex.
+     */
+    public static class CsrGraph {
+        private final int vertices;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+        private volatile CsrGraph cachedTranspose;
+        
+        /**
+         * Constructs a CSR graph from its arrays.
+         * 
+         * @param offsets The edge offsets, of length vertices + 1
+         * @param targets The edge targets
+         * @param weights The edge weights, parallel to targets
+         */
+        public CsrGraph(int[] offsets, int[] targets, int[] weights) {
+            if (offsets.length == 0 || targets.length != weights.length
+                    || offsets[offsets.length - 1] != targets.length) {
+                throw new IllegalArgumentException("Inconsistent CSR arrays");
+            }
+            this.vertices = offsets.length - 1;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+        
+        /**
+         * Converts an adjacency-list graph to CSR form, keeping each vertex's edge order.
+         * 
+         * @param graph The graph to convert
+         * @return The CSR graph
+         */
+        public static CsrGraph fromGraph(Graph graph) {
+            int vertices = graph.getVertices();
+            List<List<Graph.Edge>> adjacencyList = graph.getAdjacencyList();
+            
+            // First pass: prefix sums of the out-degrees
+            int[] offsets = new int[vertices + 1];
+            for (int v = 0; v < vertices; v++) {
+                offsets[v + 1] = Math.addExact(offsets[v], adjacencyList.get(v).size());
+            }
+            
+            // Second pass: copy the edges into the flat arrays
+            int[] targets = new int[offsets[vertices]];
+            int[] weights = new int[offsets[vertices]];
+            for (int v = 0; v < vertices; v++) {
+                int slot = offsets[v];
+                for (Graph.Edge edge : adjacencyList.get(v)) {
+                    targets[slot] = edge.getDestination();
+                    weights[slot] = edge.getWeight();
+                    slot++;
+                }
+            }
+            
+            return new CsrGraph(offsets, targets, weights);
+        }
+        
+        /**
+         * Gets the transpose of this graph, in which every edge is reversed.
+         * The incoming edges of each vertex appear in order of their source vertex. The transpose
+         * is built on first use and cached, since the CSR arrays are not modified after construction.
+         * 
+         * @return The transposed CSR graph
+         */
+        public CsrGraph transpose() {
+            CsrGraph result = cachedTranspose;
+            if (result == null) {
+                result = buildTranspose();
+                cachedTranspose = result;
+            }
+            return result;
+        }
+        
+        /**
+         * Builds the transpose of this graph.
+         * 
+         * @return The transposed CSR graph
+         */
+        private CsrGraph buildTranspose() {
+            // Count the in-degrees, then turn them into offsets
+            int[] reverseOffsets = new int[vertices + 1];
+            for (int target : targets) {
+                reverseOffsets[target + 1]++;
+            }
+            for (int v = 0; v < vertices; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+            
+            int[] reverseTargets = new int[targets.length];
+            int[] reverseWeights = new int[weights.length];
+            int[] slot = Arrays.copyOf(reverseOffsets, vertices);
+            for (int v = 0; v < vertices; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int position = slot[targets[e]]++;
+                    reverseTargets[position] = v;
+                    reverseWeights[position] = weights[e];
+                }
+            }
+            
+            return new CsrGraph(reverseOffsets, reverseTargets, reverseWeights);
+        }
+        
+        /**
+         * Gets the number of vertices in the graph.
+         * 
+         * @return The number of vertices
+         */
+        public int getVertices() {
+            return vertices;
+        }
+        
+        /**
+         * Gets the number of edges in the graph.
+         * 
+         * @return The number of edges
+         */
+        public int getEdgeCount() {
+            return targets.length;
+        }
+        
+        /**
+         * Gets the edge offsets.
+         * 
+         * @return The offsets array, of length vertices + 1
+         */
+        public int[] getOffsets() {
+            return offsets;
+        }
+        
+        /**
+         * Gets the edge targets.
+         * 
+         * @return The targets array
+         */
+        public int[] getTargets() {
+            return targets;
+        }
+        
+        /**
+         * Gets the edge weights.
+         * 
+         * @return The weights array
+         */
+        public int[] getWeights() {
+            return weights;
+        }
+        
+        /**
+         * Gets the number of outgoing edges of a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The out-degree
+         */
+        public int getOutDegree(int vertex) {
+            return offsets[vertex + 1] - offsets[vertex];
+        }
+        
+        /**
+         * Gets the size of the CSR arrays.
+         * 
+         * @return The size in bytes
+         */
+        public long getSizeInBytes() {
+            return 4L * ((long) offsets.length + targets.length + weights.length);
+        }
+        
+        /**
+         * Gets the memory used per edge, including the amortized offsets array.
+         * 
+         * @return The bytes per edge
+         */
+        public double getBytesPerEdge() {
+            return targets.length == 0 ? 0 : (double) getSizeInBytes() / targets.length;
+        }
+    }
+    
+    /**
+     * Represents a graph in Compressed Sparse Row form backed by int buffers instead of arrays.
+     * The buffers are usually views of a memory-mapped file, so the graph is read in place and
+     * pages are loaded by the operating system as edges are first touched.
+     */
+    public static class MappedCsrGraph {
+        private final int vertices;
+        private final IntBuffer offsets;
+        private final IntBuffer targets;
+        private final IntBuffer weights;
+        
+        /**
+         * Constructs a CSR graph from its buffers.
+         * The offsets and targets are checked in one sequential pass, so a truncated or corrupt
+         * buffer is rejected here instead of failing in the middle of a traversal.
+         * 
+         * @param offsets The edge offsets, of capacity vertices + 1
+         * @param targets The edge targets
+         * @param weights The edge weights, parallel to targets
+         */
+        public MappedCsrGraph(IntBuffer offsets, IntBuffer targets, IntBuffer weights) {
+            if (offsets.capacity() == 0 || targets.capacity() != weights.capacity()
+                    || offsets.get(0) != 0 || offsets.get(offsets.capacity() - 1) != targets.capacity()) {
+                throw new IllegalArgumentException("Inconsistent CSR buffers");
+            }
+            int vertexCount = offsets.capacity() - 1;
+            for (int v = 0; v < vertexCount; v++) {
+                if (offsets.get(v + 1) < offsets.get(v)) {
+                    throw new IllegalArgumentException("Edge offsets decrease at vertex " + v);
+                }
+            }
+            for (int e = 0; e < targets.capacity(); e++) {
+                int target = targets.get(e);
+                if (target < 0 || target >= vertexCount) {
+                    throw new IllegalArgumentException("Edge " + e + " has target out of range: " + target);
+                }
+            }
+            this.vertices = vertexCount;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+        
+        /**
+         * Gets the number of vertices in the graph.
+         * 
+         * @return The number of vertices
+         */
+        public int getVertices() {
+            return vertices;
+        }
+        
+        /**
+         * Gets the number of edges in the graph.
+         * 
+         * @return The number of edges
+         */
+        public int getEdgeCount() {
+            return targets.capacity();
+        }
+        
+        /**
+         * Gets the index of a vertex's first outgoing edge.
+         * The edges of vertex v are getOffset(v) to getOffset(v + 1) - 1.
+         * 
+         * @param vertex The vertex, or the vertex count for the end of the last vertex's edges
+         * @return The edge index
+         */
+        public int getOffset(int vertex) {
+            return offsets.get(vertex);
+        }
+        
+        /**
+         * Gets the target of an edge.
+         * 
+         * @param edge The edge index
+         * @return The target vertex
+         */
+        public int getTarget(int edge) {
+            return targets.get(edge);
+        }
+        
+        /**
+         * Gets the weight of an edge.
+         * 
+         * @param edge The edge index
+         * @return The weight
+         */
+        public int getWeight(int edge) {
+            return weights.get(edge);
+        }
+        
+        /**
+         * Gets the number of outgoing edges of a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The out-degree
+         */
+        public int getOutDegree(int vertex) {
+            return offsets.get(vertex + 1) - offsets.get(vertex);
+        }
+        
+        /**
+         * Copies the graph into heap arrays.
+         * 
+         * @return The equivalent array-backed CSR graph
+         */
+        public CsrGraph toCsrGraph() {
+            int[] offsetArray = new int[offsets.capacity()];
+            int[] targetArray = new int[targets.capacity()];
+            int[] weightArray = new int[weights.capacity()];
+            offsets.duplicate().rewind().get(offsetArray);
+            targets.duplicate().rewind().get(targetArray);
+            weights.duplicate().rewind().get(weightArray);
+            return new CsrGraph(offsetArray, targetArray, weightArray);
+        }
+    }
+    
     /**
      * Depth-First Search implementation.
      */
@@ -131,6 +553,43 @@ public class GraphAlgorithms {
             return result;
         }
         
+        /**
+         * Performs a Depth-First Search traversal of a CSR graph starting from the specified vertex.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(CsrGraph graph, int startVertex) {
+            boolean[] visited = new boolean[graph.getVertices()];
+            List<Integer> result = new ArrayList<>();
+            
+            dfsUtil(graph, startVertex, visited, result);
+            
+            return result;
+        }
+        
+        /**
+         * Recursive utility function for DFS on a CSR graph.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param vertex The current vertex
+         * @param visited Array to track visited vertices
+         * @param result List to store the traversal result
+         */
+        private void dfsUtil(CsrGraph graph, int vertex, boolean[] visited, List<Integer> result) {
+            visited[vertex] = true;
+            result.add(vertex);
+            
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                if (!visited[targets[e]]) {
+                    dfsUtil(graph, targets[e], visited, result);
+                }
+            }
+        }
+        
         /**
          * Recursive utility function for DFS.
          * 
@@ -180,51 +639,389 @@ public class GraphAlgorithms {
     }
     
     /**
-     * Breadth-First Search implementation.
+     * Iterative Depth-First Search implementation.
+     * Replaces recursion with an explicit stack of (vertex, next edge) pairs held in primitive
+     * int arrays, so traversal depth is limited by the heap rather than the thread stack.
+     * Visits vertices in exactly the same order as the recursive DepthFirstSearch.
      */
-    public static class BreadthFirstSearch implements Algorithm {
+    public static class IterativeDepthFirstSearch implements Algorithm {
         
         /**
-         * Performs a Breadth-First Search traversal of the graph starting from the specified vertex.
+         * Performs an iterative Depth-First Search traversal of the graph starting from the specified vertex.
          * 
          * @param graph The graph to traverse
          * @param startVertex The starting vertex
          * @return A list of vertices in the order they were visited
          */
         public List<Integer> traverse(Graph graph, int startVertex) {
-            boolean[] visited = new boolean[graph.getVertices()];
-            List<Integer> result = new ArrayList<>();
-            Queue<Integer> queue = new LinkedList<>();
+            return traverseWithTimestamps(graph, startVertex).getVisitOrderList();
+        }
+        
+        /**
+         * Performs an iterative Depth-First Search traversal of a CSR graph starting from the specified vertex.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(CsrGraph graph, int startVertex) {
+            return traverseWithTimestamps(graph, startVertex).getVisitOrderList();
+        }
+        
+        /**
+         * Performs an iterative Depth-First Search and records pre- and post-order timestamps.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @return The traversal result
+         */
+        public DfsResult traverseWithTimestamps(Graph graph, int startVertex) {
+            List<List<Graph.Edge>> adjacencyList = graph.getAdjacencyList();
+            DfsResult result = new DfsResult(graph.getVertices());
             
-            // Mark the current node as visited and enqueue it
-            visited[startVertex] = true;
-            queue.add(startVertex);
+            // stackVertex[i] is the vertex at depth i, stackEdge[i] the index of its next edge to try
+            int[] stackVertex = new int[graph.getVertices()];
+            int[] stackEdge = new int[graph.getVertices()];
+            int depth = 0;
             
-            while (!queue.isEmpty()) {
-                // Dequeue a vertex from queue and add to result
-                int vertex = queue.poll();
-                result.add(vertex);
+            result.discover(startVertex);
+            stackVertex[0] = startVertex;
+            
+            while (depth >= 0) {
+                int vertex = stackVertex[depth];
+                List<Graph.Edge> edges = adjacencyList.get(vertex);
                 
-                // Get all adjacent vertices of the dequeued vertex
-                // If an adjacent vertex has not been visited, mark it as visited and enqueue it
-                for (Graph.Edge edge : graph.getAdjacencyList().get(vertex)) {
-                    int neighbor = edge.getDestination();
-                    if (!visited[neighbor]) {
-                        visited[neighbor] = true;
-                        queue.add(neighbor);
-                    }
+                // Advance to the next unvisited neighbor, exactly where the recursion would resume
+                int e = stackEdge[depth];
+                while (e < edges.size() && result.isVisited(edges.get(e).getDestination())) {
+                    e++;
+                }
+                
+                if (e < edges.size()) {
+                    int neighbor = edges.get(e).getDestination();
+                    stackEdge[depth] = e + 1;
+                    result.discover(neighbor);
+                    depth++;
+                    stackVertex[depth] = neighbor;
+                    stackEdge[depth] = 0;
+                } else {
+                    result.finish(vertex);
+                    depth--;
                 }
             }
             
             return result;
         }
         
-        @Override
-        public String getName() {
-            return "Breadth-First Search";
-        }
-        
-        @Override
+        /**
+         * Performs an iterative Depth-First Search on a CSR graph and records pre- and post-order timestamps.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param startVertex The starting vertex
+         * @return The traversal result
+         */
+        public DfsResult traverseWithTimestamps(CsrGraph graph, int startVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            DfsResult result = new DfsResult(graph.getVertices());
+            
+            // For CSR the per-level cursor is a position in the targets array
+            int[] stackVertex = new int[graph.getVertices()];
+            int[] stackEdge = new int[graph.getVertices()];
+            int depth = 0;
+            
+            result.discover(startVertex);
+            stackVertex[0] = startVertex;
+            stackEdge[0] = offsets[startVertex];
+            
+            while (depth >= 0) {
+                int vertex = stackVertex[depth];
+                int end = offsets[vertex + 1];
+                
+                int e = stackEdge[depth];
+                while (e < end && result.isVisited(targets[e])) {
+                    e++;
+                }
+                
+                if (e < end) {
+                    int neighbor = targets[e];
+                    stackEdge[depth] = e + 1;
+                    result.discover(neighbor);
+                    depth++;
+                    stackVertex[depth] = neighbor;
+                    stackEdge[depth] = offsets[neighbor];
+                } else {
+                    result.finish(vertex);
+                    depth--;
+                }
+            }
+            
+            return result;
+        }
+        
+        @Override
+        public String getName() {
+            return "Depth-First Search (Iterative)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Depth-First Search driven by an explicit primitive stack instead of recursion, recording pre- and post-order timestamps.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E) where V is the number of vertices and E is the number of edges";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Result of a Depth-First Search with discovery (pre-order) and finish (post-order) timestamps.
+     * Both timestamps come from one counter, so for any two vertices their intervals are either
+     * nested or disjoint.
+     */
+    public static class DfsResult {
+        private final int[] preOrder;
+        private final int[] postOrder;
+        private final int[] visitOrder;
+        private final int[] finishOrder;
+        private int visited;
+        private int finished;
+        private int clock;
+        
+        /**
+         * Constructs an empty result for a graph with the specified number of vertices.
+         * 
+         * @param vertices The number of vertices
+         */
+        DfsResult(int vertices) {
+            preOrder = new int[vertices];
+            postOrder = new int[vertices];
+            visitOrder = new int[vertices];
+            finishOrder = new int[vertices];
+            Arrays.fill(preOrder, -1);
+            Arrays.fill(postOrder, -1);
+        }
+        
+        /**
+         * Records the discovery of a vertex.
+         * 
+         * @param vertex The vertex
+         */
+        void discover(int vertex) {
+            preOrder[vertex] = clock++;
+            visitOrder[visited++] = vertex;
+        }
+        
+        /**
+         * Records that all descendants of a vertex have been explored.
+         * 
+         * @param vertex The vertex
+         */
+        void finish(int vertex) {
+            postOrder[vertex] = clock++;
+            finishOrder[finished++] = vertex;
+        }
+        
+        /**
+         * Checks whether a vertex has been discovered.
+         * 
+         * @param vertex The vertex
+         * @return true if the vertex has been discovered, false otherwise
+         */
+        boolean isVisited(int vertex) {
+            return preOrder[vertex] != -1;
+        }
+        
+        /**
+         * Gets the discovery timestamps.
+         * 
+         * @return The discovery time of each vertex, or -1 if it was not reached
+         */
+        public int[] getPreOrder() {
+            return preOrder;
+        }
+        
+        /**
+         * Gets the finish timestamps.
+         * 
+         * @return The finish time of each vertex, or -1 if it was not reached
+         */
+        public int[] getPostOrder() {
+            return postOrder;
+        }
+        
+        /**
+         * Gets the vertices in the order they were discovered.
+         * 
+         * @return The visit order
+         */
+        public int[] getVisitOrder() {
+            return Arrays.copyOf(visitOrder, visited);
+        }
+        
+        /**
+         * Gets the vertices in the order they were discovered as a list.
+         * 
+         * @return The visit order
+         */
+        public List<Integer> getVisitOrderList() {
+            List<Integer> result = new ArrayList<>(visited);
+            for (int i = 0; i < visited; i++) {
+                result.add(visitOrder[i]);
+            }
+            return result;
+        }
+        
+        /**
+         * Gets the vertices in the order they were finished.
+         * 
+         * @return The finish order
+         */
+        public int[] getFinishOrder() {
+            return Arrays.copyOf(finishOrder, finished);
+        }
+        
+        /**
+         * Gets the number of vertices reached.
+         * 
+         * @return The number of visited vertices
+         */
+        public int getVisitedCount() {
+            return visited;
+        }
+    }
+    
+    /**
+     * Breadth-First Search implementation.
+     */
+    public static class BreadthFirstSearch implements Algorithm {
+        
+        /**
+         * Performs a Breadth-First Search traversal of the graph starting from the specified vertex.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(Graph graph, int startVertex) {
+            boolean[] visited = new boolean[graph.getVertices()];
+            List<Integer> result = new ArrayList<>();
+            Queue<Integer> queue = new LinkedList<>();
+            
+            // Mark the current node as visited and enqueue it
+            visited[startVertex] = true;
+            queue.add(startVertex);
+            
+            while (!queue.isEmpty()) {
+                // Dequeue a vertex from queue and add to result
+                int vertex = queue.poll();
+                result.add(vertex);
+                
+                // Get all adjacent vertices of the dequeued vertex
+                // If an adjacent vertex has not been visited, mark it as visited and enqueue it
+                for (Graph.Edge edge : graph.getAdjacencyList().get(vertex)) {
+                    int neighbor = edge.getDestination();
+                    if (!visited[neighbor]) {
+                        visited[neighbor] = true;
+                        queue.add(neighbor);
+                    }
+                }
+            }
+            
+            return result;
+        }
+        
+        /**
+         * Performs a Breadth-First Search traversal of a CSR graph starting from the specified vertex.
+         * Uses a flat int array as the queue, since every vertex is enqueued at most once.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(CsrGraph graph, int startVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            boolean[] visited = new boolean[graph.getVertices()];
+            int[] queue = new int[graph.getVertices()];
+            int head = 0;
+            int tail = 0;
+            
+            visited[startVertex] = true;
+            queue[tail++] = startVertex;
+            
+            while (head < tail) {
+                int vertex = queue[head++];
+                for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                    int neighbor = targets[e];
+                    if (!visited[neighbor]) {
+                        visited[neighbor] = true;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            
+            // The queue already holds the visit order
+            List<Integer> result = new ArrayList<>(tail);
+            for (int i = 0; i < tail; i++) {
+                result.add(queue[i]);
+            }
+            return result;
+        }
+        
+        /**
+         * Performs a Breadth-First Search traversal of a buffer-backed CSR graph starting from the
+         * specified vertex, reading edges in place.
+         * 
+         * @param graph The mapped CSR graph to traverse
+         * @param startVertex The starting vertex
+         * @return A list of vertices in the order they were visited
+         */
+        public List<Integer> traverse(MappedCsrGraph graph, int startVertex) {
+            boolean[] visited = new boolean[graph.getVertices()];
+            int[] queue = new int[graph.getVertices()];
+            int head = 0;
+            int tail = 0;
+            
+            visited[startVertex] = true;
+            queue[tail++] = startVertex;
+            
+            while (head < tail) {
+                int vertex = queue[head++];
+                int end = graph.getOffset(vertex + 1);
+                for (int e = graph.getOffset(vertex); e < end; e++) {
+                    int neighbor = graph.getTarget(e);
+                    if (!visited[neighbor]) {
+                        visited[neighbor] = true;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+            
+            List<Integer> result = new ArrayList<>(tail);
+            for (int i = 0; i < tail; i++) {
+                result.add(queue[i]);
+            }
+            return result;
+        }
+        
+        @Override
+        public String getName() {
+            return "Breadth-First Search";
+        }
+        
+        @Override
         public String getDescription() {
             return "A graph traversal algorithm that explores all the vertices of a graph at the present depth prior to moving on to vertices at the next depth level.";
         }
@@ -245,10 +1042,698 @@ public class GraphAlgorithms {
         }
     }
     
+    /**
+     * Direction-optimizing parallel Breadth-First Search.
+     * Expands the graph one level at a time with the frontier held as a bitmap. Small frontiers
+     * are expanded top-down, pushing along outgoing edges and claiming neighbors with a
+     * compare-and-set on the visited bitmap. Once the frontier's edges outnumber a fraction of
+     * the unexplored edges, it switches to bottom-up, where every unvisited vertex scans its
+     * incoming edges for a parent in the frontier and stops at the first hit (Beamer's heuristic).
+     */
+    public static class DirectionOptimizingBfs implements Algorithm {
+        // Switch to bottom-up when frontier edges exceed unexplored edges / ALPHA
+        private static final int ALPHA = 14;
+        // Switch back to top-down when the frontier shrinks below vertices / BETA
+        private static final int BETA = 24;
+        // Bitmap words per parallel chunk
+        private static final int WORD_GRAIN = 16;
+        
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs a parallel BFS that uses one thread per available processor.
+         */
+        public DirectionOptimizingBfs() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs a parallel BFS with the specified number of threads.
+         * 
+         * @param threads The number of worker threads
+         */
+        public DirectionOptimizingBfs(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        /**
+         * Performs a parallel Breadth-First Search of the graph starting from the specified vertex.
+         * 
+         * @param graph The graph to traverse
+         * @param startVertex The starting vertex
+         * @return The reached vertices ordered by level, and by vertex within a level
+         */
+        public List<Integer> traverse(Graph graph, int startVertex) {
+            return traverse(CsrGraph.fromGraph(graph), startVertex);
+        }
+        
+        /**
+         * Performs a parallel Breadth-First Search of a CSR graph starting from the specified vertex.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param startVertex The starting vertex
+         * @return The reached vertices ordered by level, and by vertex within a level
+         */
+        public List<Integer> traverse(CsrGraph graph, int startVertex) {
+            return search(graph, graph.transpose(), startVertex).getVisitOrderList();
+        }
+        
+        /**
+         * Performs a parallel Breadth-First Search and records per-level statistics.
+         * The transpose supplies the incoming edges for bottom-up levels.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param transpose The transpose of the graph, from CsrGraph.transpose()
+         * @param startVertex The starting vertex
+         * @return The traversal result
+         */
+        public ParallelBfsResult search(CsrGraph graph, CsrGraph transpose, int startVertex) {
+            int vertices = graph.getVertices();
+            if (transpose.getVertices() != vertices || transpose.getEdgeCount() != graph.getEdgeCount()) {
+                throw new IllegalArgumentException("Transpose does not match the graph");
+            }
+            if (startVertex < 0 || startVertex >= vertices) {
+                throw new IllegalArgumentException("Invalid start vertex: " + startVertex);
+            }
+            
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] reverseOffsets = transpose.getOffsets();
+            int[] reverseTargets = transpose.getTargets();
+            
+            int words = (vertices + 63) >>> 6;
+            AtomicLongArray visited = new AtomicLongArray(words);
+            AtomicLongArray frontier = new AtomicLongArray(words);
+            int[] levels = new int[vertices];
+            Arrays.fill(levels, -1);
+            List<BfsLevel> levelStats = new ArrayList<>();
+            
+            levels[startVertex] = 0;
+            setBit(visited, startVertex);
+            setBit(frontier, startVertex);
+            
+            long frontierSize = 1;
+            long frontierEdges = graph.getOutDegree(startVertex);
+            long unexploredEdges = graph.getEdgeCount() - frontierEdges;
+            long reached = 1;
+            long traversedEdges = frontierEdges;
+            boolean bottomUp = false;
+            
+            long startTime = System.nanoTime();
+            
+            for (int level = 0; frontierSize > 0; level++) {
+                // Beamer's heuristic: pick the direction for this level
+                if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < vertices / BETA) {
+                    bottomUp = false;
+                }
+                
+                AtomicLongArray next = new AtomicLongArray(words);
+                LongAdder nextSize = new LongAdder();
+                LongAdder nextEdges = new LongAdder();
+                LongAdder examined = new LongAdder();
+                int nextLevel = level + 1;
+                AtomicLongArray current = frontier;
+                long levelStart = System.nanoTime();
+                
+                if (bottomUp) {
+                    // Each chunk owns its words of next and visited, so plain sets suffice
+                    ParallelLoop.forRange(pool, 0, words, WORD_GRAIN, (start, end) -> {
+                        long size = 0;
+                        long edges = 0;
+                        long scanned = 0;
+                        for (int w = start; w < end; w++) {
+                            long unvisited = ~visited.get(w);
+                            if (w == words - 1 && (vertices & 63) != 0) {
+                                unvisited &= (1L << (vertices & 63)) - 1;
+                            }
+                            long found = 0;
+                            while (unvisited != 0) {
+                                int bit = Long.numberOfTrailingZeros(unvisited);
+                                unvisited &= unvisited - 1;
+                                int v = (w << 6) | bit;
+                                for (int e = reverseOffsets[v]; e < reverseOffsets[v + 1]; e++) {
+                                    scanned++;
+                                    int parent = reverseTargets[e];
+                                    if ((current.get(parent >>> 6) & (1L << parent)) != 0) {
+                                        found |= 1L << bit;
+                                        levels[v] = nextLevel;
+                                        edges += offsets[v + 1] - offsets[v];
+                                        break;
+                                    }
+                                }
+                            }
+                            if (found != 0) {
+                                next.set(w, found);
+                                visited.set(w, visited.get(w) | found);
+                                size += Long.bitCount(found);
+                            }
+                        }
+                        nextSize.add(size);
+                        nextEdges.add(edges);
+                        examined.add(scanned);
+                    });
+                } else {
+                    ParallelLoop.forRange(pool, 0, words, WORD_GRAIN, (start, end) -> {
+                        long size = 0;
+                        long edges = 0;
+                        long scanned = 0;
+                        for (int w = start; w < end; w++) {
+                            long word = current.get(w);
+                            while (word != 0) {
+                                int v = (w << 6) | Long.numberOfTrailingZeros(word);
+                                word &= word - 1;
+                                scanned += offsets[v + 1] - offsets[v];
+                                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                                    int neighbor = targets[e];
+                                    if (claim(visited, neighbor)) {
+                                        levels[neighbor] = nextLevel;
+                                        setBit(next, neighbor);
+                                        size++;
+                                        edges += offsets[neighbor + 1] - offsets[neighbor];
+                                    }
+                                }
+                            }
+                        }
+                        nextSize.add(size);
+                        nextEdges.add(edges);
+                        examined.add(scanned);
+                    });
+                }
+                
+                levelStats.add(new BfsLevel(level, bottomUp, frontierSize, examined.sum(),
+                        System.nanoTime() - levelStart));
+                
+                frontier = next;
+                frontierSize = nextSize.sum();
+                frontierEdges = nextEdges.sum();
+                unexploredEdges -= frontierEdges;
+                reached += frontierSize;
+                traversedEdges += frontierEdges;
+            }
+            
+            long elapsed = System.nanoTime() - startTime;
+            return new ParallelBfsResult(levels, levelStats, (int) reached, traversedEdges, elapsed);
+        }
+        
+        /**
+         * Atomically sets a vertex's bit.
+         * 
+         * @param bitmap The bitmap
+         * @param vertex The vertex
+         */
+        private static void setBit(AtomicLongArray bitmap, int vertex) {
+            int w = vertex >>> 6;
+            long bit = 1L << vertex;
+            long old = bitmap.get(w);
+            while ((old & bit) == 0 && !bitmap.compareAndSet(w, old, old | bit)) {
+                old = bitmap.get(w);
+            }
+        }
+        
+        /**
+         * Atomically sets a vertex's bit if it is clear.
+         * 
+         * @param bitmap The bitmap
+         * @param vertex The vertex
+         * @return true if this call set the bit, false if it was already set
+         */
+        private static boolean claim(AtomicLongArray bitmap, int vertex) {
+            int w = vertex >>> 6;
+            long bit = 1L << vertex;
+            long old = bitmap.get(w);
+            while ((old & bit) == 0) {
+                if (bitmap.compareAndSet(w, old, old | bit)) {
+                    return true;
+                }
+                old = bitmap.get(w);
+            }
+            return false;
+        }
+        
+        @Override
+        public String getName() {
+            return "Breadth-First Search (Direction-Optimizing)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Level-synchronous parallel Breadth-First Search over bitmap frontiers that switches between top-down and bottom-up expansion based on frontier size.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E) work, O(D) synchronized levels where D is the graph diameter";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) including the transposed graph";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Statistics for one level of a parallel Breadth-First Search.
+     */
+    public static class BfsLevel {
+        private final int level;
+        private final boolean bottomUp;
+        private final long frontierSize;
+        private final long edgesExamined;
+        private final long nanos;
+        
+        /**
+         * Constructs the statistics for a level.
+         * 
+         * @param level The level being expanded
+         * @param bottomUp Whether the level was expanded bottom-up
+         * @param frontierSize The number of vertices in the frontier
+         * @param edgesExamined The number of edges looked at
+         * @param nanos The time taken in nanoseconds
+         */
+        public BfsLevel(int level, boolean bottomUp, long frontierSize, long edgesExamined, long nanos) {
+            this.level = level;
+            this.bottomUp = bottomUp;
+            this.frontierSize = frontierSize;
+            this.edgesExamined = edgesExamined;
+            this.nanos = nanos;
+        }
+        
+        /**
+         * Gets the level being expanded.
+         * 
+         * @return The level
+         */
+        public int getLevel() {
+            return level;
+        }
+        
+        /**
+         * Checks whether the level was expanded bottom-up.
+         * 
+         * @return true if bottom-up, false if top-down
+         */
+        public boolean isBottomUp() {
+            return bottomUp;
+        }
+        
+        /**
+         * Gets the number of vertices in the frontier.
+         * 
+         * @return The frontier size
+         */
+        public long getFrontierSize() {
+            return frontierSize;
+        }
+        
+        /**
+         * Gets the number of edges looked at while expanding the level.
+         * 
+         * @return The edges examined
+         */
+        public long getEdgesExamined() {
+            return edgesExamined;
+        }
+        
+        /**
+         * Gets the time taken to expand the level.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+    }
+    
+    /**
+     * Result of a parallel Breadth-First Search.
+     * Traversed-edges-per-second (TEPS) follows the Graph500 convention of counting every
+     * edge leaving a reached vertex, so it does not depend on how many edges each direction skipped.
+     */
+    public static class ParallelBfsResult {
+        private final int[] levels;
+        private final List<BfsLevel> levelStats;
+        private final int reachedCount;
+        private final long traversedEdges;
+        private final long elapsedNanos;
+        
+        /**
+         * Constructs a parallel BFS result.
+         * 
+         * @param levels The level of each vertex, or -1 if it was not reached
+         * @param levelStats The per-level statistics
+         * @param reachedCount The number of reached vertices
+         * @param traversedEdges The number of edges leaving reached vertices
+         * @param elapsedNanos The total traversal time in nanoseconds
+         */
+        public ParallelBfsResult(int[] levels, List<BfsLevel> levelStats, int reachedCount,
+                long traversedEdges, long elapsedNanos) {
+            this.levels = levels;
+            this.levelStats = levelStats;
+            this.reachedCount = reachedCount;
+            this.traversedEdges = traversedEdges;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        /**
+         * Gets the level of each vertex.
+         * 
+         * @return The hop distance from the start vertex, or -1 if not reached
+         */
+        public int[] getLevels() {
+            return levels;
+        }
+        
+        /**
+         * Gets the per-level statistics.
+         * 
+         * @return The statistics, one entry per level
+         */
+        public List<BfsLevel> getLevelStats() {
+            return levelStats;
+        }
+        
+        /**
+         * Gets the number of reached vertices.
+         * 
+         * @return The reached vertex count
+         */
+        public int getReachedCount() {
+            return reachedCount;
+        }
+        
+        /**
+         * Gets the number of edges leaving reached vertices.
+         * 
+         * @return The traversed edge count
+         */
+        public long getTraversedEdges() {
+            return traversedEdges;
+        }
+        
+        /**
+         * Gets the total traversal time.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+        
+        /**
+         * Gets the traversed edges per second.
+         * 
+         * @return The TEPS rate
+         */
+        public double getTeps() {
+            return elapsedNanos == 0 ? 0 : traversedEdges / (elapsedNanos / 1_000_000_000.0);
+        }
+        
+        /**
+         * Gets the reached vertices ordered by level, and by vertex within a level.
+         * 
+         * @return The visit order
+         */
+        public List<Integer> getVisitOrderList() {
+            int depth = levelStats.size();
+            int[] start = new int[depth + 1];
+            for (int level : levels) {
+                if (level >= 0) {
+                    start[level + 1]++;
+                }
+            }
+            for (int i = 0; i < depth; i++) {
+                start[i + 1] += start[i];
+            }
+            
+            // Counting sort by level keeps vertices in increasing order within a level
+            Integer[] order = new Integer[reachedCount];
+            for (int v = 0; v < levels.length; v++) {
+                if (levels[v] >= 0) {
+                    order[start[levels[v]]++] = v;
+                }
+            }
+            return Arrays.asList(order);
+        }
+    }
+    
+    /**
+     * Bit-parallel multi-source Breadth-First Search (MS-BFS).
+     * Runs one BFS per source at the same time, giving each source one bit in per-vertex bitsets:
+     * seen marks the sources that have reached a vertex, visit those whose frontier contains it,
+     * and visitNext those that will reach it on the next level. Expanding a vertex ORs its visit
+     * bits into each neighbor, so a single edge scan serves every source whose frontier shares the
+     * vertex. Each vertex holds ceil(sources / 64) words, so any number of sources is supported.
+     */
+    public static class MultiSourceBfs implements Algorithm {
+        
+        /**
+         * Runs a Breadth-First Search from every source.
+         * 
+         * @param graph The graph to traverse
+         * @param sources The source vertices
+         * @return The per-source traversal statistics
+         */
+        public MultiSourceBfsResult search(Graph graph, int[] sources) {
+            return search(CsrGraph.fromGraph(graph), sources);
+        }
+        
+        /**
+         * Runs a Breadth-First Search of a CSR graph from every source.
+         * 
+         * @param graph The CSR graph to traverse
+         * @param sources The source vertices
+         * @return The per-source traversal statistics
+         * @throws IllegalArgumentException If the bitsets for this many sources do not fit in an array
+         */
+        public MultiSourceBfsResult search(CsrGraph graph, int[] sources) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int words = Math.max(1, (int) ((sources.length + 63L) >>> 6));
+            int bitsetLength;
+            try {
+                bitsetLength = Math.multiplyExact(vertices, words);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Too many sources for " + vertices + " vertices: "
+                        + sources.length + " sources need " + (long) vertices * words + " words per bitset");
+            }
+            
+            // Word w of vertex v lives at index v * words + w
+            long[] seen = new long[bitsetLength];
+            long[] visit = new long[bitsetLength];
+            long[] visitNext = new long[bitsetLength];
+            
+            int[] reachedCounts = new int[sources.length];
+            long[] distanceSums = new long[sources.length];
+            int[] eccentricities = new int[sources.length];
+            
+            int[] frontier = new int[vertices];
+            int[] next = new int[vertices];
+            boolean[] queued = new boolean[vertices];
+            int frontierSize = 0;
+            
+            for (int i = 0; i < sources.length; i++) {
+                int source = sources[i];
+                if (source < 0 || source >= vertices) {
+                    throw new IllegalArgumentException("Invalid source vertex: " + source);
+                }
+                int index = source * words + (i >>> 6);
+                seen[index] |= 1L << i;
+                visit[index] |= 1L << i;
+                reachedCounts[i] = 1;
+                if (!queued[source]) {
+                    queued[source] = true;
+                    frontier[frontierSize++] = source;
+                }
+            }
+            Arrays.fill(queued, false);
+            
+            for (int level = 1; frontierSize > 0; level++) {
+                // Push each frontier vertex's visit bits to its neighbors
+                int nextSize = 0;
+                for (int f = 0; f < frontierSize; f++) {
+                    int v = frontier[f];
+                    int base = v * words;
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        int neighbor = targets[e];
+                        int neighborBase = neighbor * words;
+                        for (int w = 0; w < words; w++) {
+                            visitNext[neighborBase + w] |= visit[base + w];
+                        }
+                        if (!queued[neighbor]) {
+                            queued[neighbor] = true;
+                            next[nextSize++] = neighbor;
+                        }
+                    }
+                }
+                
+                // Keep only the sources that see each vertex for the first time
+                int kept = 0;
+                for (int n = 0; n < nextSize; n++) {
+                    int v = next[n];
+                    queued[v] = false;
+                    int base = v * words;
+                    boolean active = false;
+                    for (int w = 0; w < words; w++) {
+                        long discovered = visitNext[base + w] & ~seen[base + w];
+                        visitNext[base + w] = discovered;
+                        if (discovered == 0) {
+                            continue;
+                        }
+                        seen[base + w] |= discovered;
+                        active = true;
+                        while (discovered != 0) {
+                            int i = (w << 6) | Long.numberOfTrailingZeros(discovered);
+                            discovered &= discovered - 1;
+                            reachedCounts[i]++;
+                            distanceSums[i] += level;
+                            eccentricities[i] = level;
+                        }
+                    }
+                    if (active) {
+                        next[kept++] = v;
+                    }
+                }
+                
+                // The next level becomes the frontier; clear the old frontier's visit bits
+                for (int f = 0; f < frontierSize; f++) {
+                    int base = frontier[f] * words;
+                    for (int w = 0; w < words; w++) {
+                        visit[base + w] = 0;
+                    }
+                }
+                long[] swapBits = visit;
+                visit = visitNext;
+                visitNext = swapBits;
+                int[] swapList = frontier;
+                frontier = next;
+                next = swapList;
+                frontierSize = kept;
+            }
+            
+            return new MultiSourceBfsResult(sources, reachedCounts, distanceSums, eccentricities);
+        }
+        
+        @Override
+        public String getName() {
+            return "Multi-Source BFS (Bit-Parallel)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Runs Breadth-First Searches from many sources at once using per-vertex bitsets, so each edge scan is shared by all sources whose frontiers meet at a vertex.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(S / 64 * (V + E) * D) worst case for S sources and D levels, usually far less than S separate searches";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V * S / 64)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Result of a multi-source Breadth-First Search, with statistics for each source.
+     */
+    public static class MultiSourceBfsResult {
+        private final int[] sources;
+        private final int[] reachedCounts;
+        private final long[] distanceSums;
+        private final int[] eccentricities;
+        
+        /**
+         * Constructs a multi-source BFS result.
+         * 
+         * @param sources The source vertices
+         * @param reachedCounts The number of vertices each source reached, itself included
+         * @param distanceSums The sum of hop distances from each source to the vertices it reached
+         * @param eccentricities The largest hop distance from each source
+         */
+        public MultiSourceBfsResult(int[] sources, int[] reachedCounts, long[] distanceSums, int[] eccentricities) {
+            this.sources = sources;
+            this.reachedCounts = reachedCounts;
+            this.distanceSums = distanceSums;
+            this.eccentricities = eccentricities;
+        }
+        
+        /**
+         * Gets the source vertices.
+         * 
+         * @return The sources, in the order their statistics are indexed
+         */
+        public int[] getSources() {
+            return sources;
+        }
+        
+        /**
+         * Gets the number of vertices each source reached.
+         * 
+         * @return The reached counts, each including the source itself
+         */
+        public int[] getReachedCounts() {
+            return reachedCounts;
+        }
+        
+        /**
+         * Gets the sum of hop distances from each source.
+         * 
+         * @return The distance sums
+         */
+        public long[] getDistanceSums() {
+            return distanceSums;
+        }
+        
+        /**
+         * Gets the largest hop distance from each source.
+         * 
+         * @return The eccentricities within each source's reachable set
+         */
+        public int[] getEccentricities() {
+            return eccentricities;
+        }
+        
+        /**
+         * Gets the closeness centrality of a source within the vertices it reaches.
+         * 
+         * @param index The index of the source
+         * @return (reached - 1) / distance sum, or 0 if the source reaches nothing else
+         */
+        public double getCloseness(int index) {
+            return distanceSums[index] == 0 ? 0 : (reachedCounts[index] - 1) / (double) distanceSums[index];
+        }
+    }
+    
     /**
      * Dijkstra's Algorithm implementation.
      */
-    public static class DijkstraAlgorithm implements Algorithm {
+    public static class DijkstraAlgorithm implements ShortestPathAlgorithm {
         
         /**
          * Finds the shortest paths from the source vertex to all other vertices using Dijkstra's algorithm.
@@ -257,6 +1742,7 @@ public class GraphAlgorithms {
          * @param sourceVertex The source vertex
          * @return An array of shortest distances from the source vertex to all other vertices
          */
+        @Override
         public int[] findShortestPaths(Graph graph, int sourceVertex) {
             int vertices = graph.getVertices();
             int[] distances = new int[vertices];
@@ -290,6 +1776,41 @@ public class GraphAlgorithms {
             return distances;
         }
         
+        /**
+         * Finds the shortest paths from the source vertex to all other vertices of a CSR graph.
+         * 
+         * @param graph The CSR graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         */
+        @Override
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[vertices];
+            boolean[] visited = new boolean[vertices];
+            
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            for (int count = 0; count < vertices - 1; count++) {
+                int u = minDistance(distances, visited);
+                visited[u] = true;
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if (!visited[v] && distances[u] != Integer.MAX_VALUE
+                            && distances[u] + weights[e] < distances[v]) {
+                        distances[v] = distances[u] + weights[e];
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
         /**
          * Finds the vertex with the minimum distance value from the set of vertices not yet included in the shortest path tree.
          * 
@@ -0,0 +1,706 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of whole-graph analytics that touch every edge on each pass.
+ * Includes a pull-based parallel PageRank and a parallel triangle counter. Both split their
+ * reductions into fixed vertex blocks summed in block order, so their results do not depend
+ * on the number of threads.
+ */
+public class GraphAnalytics {
+    
+    /**
+     * Pull-based parallel PageRank.
+     * Each iteration first computes every vertex's outgoing share, rank divided by out-degree,
+     * then every vertex pulls the shares of its in-neighbors through the transposed graph. Each
+     * thread writes only the ranks of its own vertices, so no atomics or locks are needed. The
+     * rank of vertices without outgoing edges is spread evenly over all vertices, keeping the
+     * total at 1. Iteration stops once the L1 change between two iterations drops below the
+     * tolerance.
+     */
+    public static class PageRank implements Algorithm {
+        public static final double DEFAULT_DAMPING = 0.85;
+        public static final double DEFAULT_TOLERANCE = 1e-6;
+        public static final int DEFAULT_MAX_ITERATIONS = 100;
+        
+        // Vertices per parallel block, also the unit of the deterministic reductions
+        private static final int VERTEX_GRAIN = 4096;
+        
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs PageRank with one thread per available processor.
+         */
+        public PageRank() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs PageRank with the specified number of threads.
+         * 
+         * @param threads The number of worker threads
+         */
+        public PageRank(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        /**
+         * Computes PageRank with the default damping, tolerance and iteration limit.
+         * 
+         * @param graph The graph
+         * @return The ranks and per-iteration statistics
+         */
+        public PageRankResult compute(Graph graph) {
+            return compute(CsrGraph.fromGraph(graph));
+        }
+        
+        /**
+         * Computes PageRank with the default damping, tolerance and iteration limit.
+         * 
+         * @param graph The CSR graph
+         * @return The ranks and per-iteration statistics
+         */
+        public PageRankResult compute(CsrGraph graph) {
+            return compute(graph, DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+        }
+        
+        /**
+         * Computes PageRank until the ranks converge or the iteration limit is reached.
+         * 
+         * @param graph The CSR graph
+         * @param damping The probability of following an edge rather than jumping, in [0, 1)
+         * @param tolerance The L1 change between iterations at which to stop
+         * @param maxIterations The largest number of iterations to run
+         * @return The ranks and per-iteration statistics
+         */
+        public PageRankResult compute(CsrGraph graph, double damping, double tolerance, int maxIterations) {
+            if (damping < 0 || damping >= 1) {
+                throw new IllegalArgumentException("Damping must be in [0, 1): " + damping);
+            }
+            if (tolerance < 0 || maxIterations < 1) {
+                throw new IllegalArgumentException("Tolerance must be non-negative and iterations at least 1");
+            }
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            long transposeStart = System.nanoTime();
+            CsrGraph transpose = graph.transpose();
+            long transposeNanos = System.nanoTime() - transposeStart;
+            int[] inOffsets = transpose.getOffsets();
+            int[] inSources = transpose.getTargets();
+            long edges = graph.getEdgeCount();
+            
+            double[] ranks = new double[vertices];
+            double[] nextRanks = new double[vertices];
+            double[] shares = new double[vertices];
+            Arrays.fill(ranks, vertices == 0 ? 0 : 1.0 / vertices);
+            int blocks = (vertices + VERTEX_GRAIN - 1) / VERTEX_GRAIN;
+            double[] partials = new double[blocks];
+            List<PageRankIteration> iterations = new ArrayList<>();
+            boolean converged = vertices == 0;
+            
+            for (int iteration = 1; iteration <= maxIterations && !converged; iteration++) {
+                long iterationStart = System.nanoTime();
+                double[] current = ranks;
+                double[] next = nextRanks;
+                
+                // Share phase: each vertex splits its rank over its out-edges, or leaves it dangling
+                ParallelLoop.forRange(pool, 0, blocks, 1, (start, end) -> {
+                    for (int block = start; block < end; block++) {
+                        double dangling = 0;
+                        int last = Math.min(vertices, (block + 1) * VERTEX_GRAIN);
+                        for (int v = block * VERTEX_GRAIN; v < last; v++) {
+                            int degree = offsets[v + 1] - offsets[v];
+                            if (degree == 0) {
+                                dangling += current[v];
+                                shares[v] = 0;
+                            } else {
+                                shares[v] = current[v] / degree;
+                            }
+                        }
+                        partials[block] = dangling;
+                    }
+                });
+                double danglingMass = 0;
+                for (double partial : partials) {
+                    danglingMass += partial;
+                }
+                double base = (1 - damping) / vertices + damping * danglingMass / vertices;
+                
+                // Pull phase: every vertex sums the shares of its in-neighbors
+                ParallelLoop.forRange(pool, 0, blocks, 1, (start, end) -> {
+                    for (int block = start; block < end; block++) {
+                        double change = 0;
+                        int last = Math.min(vertices, (block + 1) * VERTEX_GRAIN);
+                        for (int v = block * VERTEX_GRAIN; v < last; v++) {
+                            double sum = 0;
+                            for (int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                                sum += shares[inSources[e]];
+                            }
+                            double rank = base + damping * sum;
+                            change += Math.abs(rank - current[v]);
+                            next[v] = rank;
+                        }
+                        partials[block] = change;
+                    }
+                });
+                double residual = 0;
+                for (double partial : partials) {
+                    residual += partial;
+                }
+                
+                ranks = next;
+                nextRanks = current;
+                converged = residual < tolerance;
+                iterations.add(new PageRankIteration(iteration, residual, edges, System.nanoTime() - iterationStart));
+            }
+            
+            return new PageRankResult(ranks, iterations, converged, edges, transposeNanos);
+        }
+        
+        @Override
+        public String getName() {
+            return "PageRank (Parallel, Pull)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Iterates PageRank by letting every vertex pull rank shares from its in-neighbors in parallel until the ranks converge.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(k(V + E)) for k iterations";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) including the transposed edges";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Statistics for one PageRank iteration.
+     */
+    public static class PageRankIteration {
+        private final int iteration;
+        private final double residual;
+        private final long edges;
+        private final long nanos;
+        
+        /**
+         * Constructs the statistics for an iteration.
+         * 
+         * @param iteration The iteration number, starting at 1
+         * @param residual The L1 change of the ranks during the iteration
+         * @param edges The number of edges pulled across
+         * @param nanos The time taken in nanoseconds
+         */
+        public PageRankIteration(int iteration, double residual, long edges, long nanos) {
+            this.iteration = iteration;
+            this.residual = residual;
+            this.edges = edges;
+            this.nanos = nanos;
+        }
+        
+        /**
+         * Gets the iteration number.
+         * 
+         * @return The iteration, starting at 1
+         */
+        public int getIteration() {
+            return iteration;
+        }
+        
+        /**
+         * Gets the L1 change of the ranks during the iteration.
+         * 
+         * @return The residual
+         */
+        public double getResidual() {
+            return residual;
+        }
+        
+        /**
+         * Gets the time taken by the iteration.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+        
+        /**
+         * Gets the edges processed per second during the iteration.
+         * 
+         * @return The edge rate
+         */
+        public double getEdgesPerSecond() {
+            return nanos == 0 ? 0 : edges / (nanos / 1_000_000_000.0);
+        }
+    }
+    
+    /**
+     * Result of a PageRank computation.
+     */
+    public static class PageRankResult {
+        private final double[] ranks;
+        private final List<PageRankIteration> iterations;
+        private final boolean converged;
+        private final long edges;
+        private final long transposeNanos;
+        
+        /**
+         * Constructs a PageRank result.
+         * 
+         * @param ranks The rank of each vertex, summing to 1
+         * @param iterations The per-iteration statistics
+         * @param converged Whether the tolerance was reached within the iteration limit
+         * @param edges The number of edges in the graph
+         * @param transposeNanos The time spent getting the transposed graph, near zero once it is cached
+         */
+        public PageRankResult(double[] ranks, List<PageRankIteration> iterations, boolean converged,
+                long edges, long transposeNanos) {
+            this.ranks = ranks;
+            this.iterations = iterations;
+            this.converged = converged;
+            this.edges = edges;
+            this.transposeNanos = transposeNanos;
+        }
+        
+        /**
+         * Gets the rank of each vertex.
+         * 
+         * @return The ranks, summing to 1
+         */
+        public double[] getRanks() {
+            return ranks;
+        }
+        
+        /**
+         * Gets the per-iteration statistics.
+         * 
+         * @return The statistics, one entry per iteration
+         */
+        public List<PageRankIteration> getIterations() {
+            return iterations;
+        }
+        
+        /**
+         * Checks whether the ranks converged within the iteration limit.
+         * 
+         * @return true if converged, false otherwise
+         */
+        public boolean isConverged() {
+            return converged;
+        }
+        
+        /**
+         * Gets the time spent getting the transposed graph. The graph caches its transpose,
+         * so this is only the build time on the first computation over a graph.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getTransposeNanos() {
+            return transposeNanos;
+        }
+        
+        /**
+         * Gets the time spent in the iterations.
+         * 
+         * @return The summed iteration time in nanoseconds
+         */
+        public long getIterationNanos() {
+            long nanos = 0;
+            for (PageRankIteration iteration : iterations) {
+                nanos += iteration.getNanos();
+            }
+            return nanos;
+        }
+        
+        /**
+         * Gets the total time of the transpose and all iterations.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return transposeNanos + getIterationNanos();
+        }
+        
+        /**
+         * Gets the edges processed per second over all iterations, excluding the transpose.
+         * 
+         * @return The edge rate
+         */
+        public double getEdgesPerSecond() {
+            long iterationNanos = getIterationNanos();
+            return iterationNanos == 0 ? 0 : edges * iterations.size() / (iterationNanos / 1_000_000_000.0);
+        }
+        
+        /**
+         * Finds the vertices with the highest ranks.
+         * 
+         * @param count The number of vertices to return
+         * @return Up to count vertices in decreasing order of rank, ties broken by vertex id
+         */
+        public int[] getTopVertices(int count) {
+            count = Math.min(count, ranks.length);
+            int[] top = new int[count];
+            int size = 0;
+            // Insertion into a short sorted array is cheaper than sorting every vertex
+            for (int v = 0; v < ranks.length; v++) {
+                if (size == count && (count == 0 || ranks[v] <= ranks[top[size - 1]])) {
+                    continue;
+                }
+                int i = size < count ? size++ : size - 1;
+                while (i > 0 && ranks[top[i - 1]] < ranks[v]) {
+                    top[i] = top[i - 1];
+                    i--;
+                }
+                top[i] = v;
+            }
+            return top;
+        }
+    }
+    
+    /**
+     * Parallel triangle counting by degree-ordered intersection.
+     * The graph is treated as undirected: edge directions, duplicate edges and self-loops are
+     * ignored. Every edge is oriented from the endpoint of lower degree to the one of higher
+     * degree, ties broken by vertex id, which makes the graph acyclic and bounds every
+     * out-degree by the square root of twice the edge count. Each triangle then has exactly one
+     * vertex from which both other vertices are out-neighbors, and is counted once by merging
+     * the sorted out-lists of the two ends of each oriented edge.
+     */
+    public static class TriangleCounter implements Algorithm {
+        // Vertices per parallel chunk
+        private static final int VERTEX_GRAIN = 1024;
+        
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs the counter with one thread per available processor.
+         */
+        public TriangleCounter() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs the counter with the specified number of threads.
+         * 
+         * @param threads The number of worker threads
+         */
+        public TriangleCounter(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        /**
+         * Counts the triangles of a graph.
+         * 
+         * @param graph The graph
+         * @return The triangle count and phase timings
+         */
+        public TriangleCountResult count(Graph graph) {
+            return count(CsrGraph.fromGraph(graph));
+        }
+        
+        /**
+         * Counts the triangles of a CSR graph.
+         * 
+         * @param graph The CSR graph
+         * @return The triangle count and phase timings
+         */
+        public TriangleCountResult count(CsrGraph graph) {
+            long startTime = System.nanoTime();
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            CsrGraph transpose = graph.transpose();
+            int[] inOffsets = transpose.getOffsets();
+            int[] inSources = transpose.getTargets();
+            
+            // Undirected neighbor lists: out- and in-neighbors, sorted with duplicates and
+            // self-loops removed, compacted in place within their upper-bound slots
+            int[] bounds = new int[vertices + 1];
+            for (int v = 0; v < vertices; v++) {
+                bounds[v + 1] = Math.addExact(bounds[v],
+                        offsets[v + 1] - offsets[v] + inOffsets[v + 1] - inOffsets[v]);
+            }
+            int[] neighbors = new int[bounds[vertices]];
+            int[] degrees = new int[vertices];
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int v = start; v < end; v++) {
+                    int slot = bounds[v];
+                    int outDegree = offsets[v + 1] - offsets[v];
+                    System.arraycopy(targets, offsets[v], neighbors, slot, outDegree);
+                    System.arraycopy(inSources, inOffsets[v], neighbors, slot + outDegree,
+                            inOffsets[v + 1] - inOffsets[v]);
+                    Arrays.sort(neighbors, slot, bounds[v + 1]);
+                    int degree = 0;
+                    int previous = -1;
+                    for (int i = slot; i < bounds[v + 1]; i++) {
+                        int w = neighbors[i];
+                        if (w != previous && w != v) {
+                            neighbors[slot + degree++] = w;
+                        }
+                        previous = w;
+                    }
+                    degrees[v] = degree;
+                }
+            });
+            long symmetrizeNanos = System.nanoTime() - startTime;
+            
+            // Keep only the neighbors that come later in degree order
+            long orientStart = System.nanoTime();
+            int[] forwardOffsets = new int[vertices + 1];
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int v = start; v < end; v++) {
+                    int count = 0;
+                    for (int i = bounds[v]; i < bounds[v] + degrees[v]; i++) {
+                        if (precedes(v, neighbors[i], degrees)) {
+                            count++;
+                        }
+                    }
+                    forwardOffsets[v + 1] = count;
+                }
+            });
+            for (int v = 0; v < vertices; v++) {
+                forwardOffsets[v + 1] += forwardOffsets[v];
+            }
+            int[] forward = new int[forwardOffsets[vertices]];
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int v = start; v < end; v++) {
+                    int slot = forwardOffsets[v];
+                    for (int i = bounds[v]; i < bounds[v] + degrees[v]; i++) {
+                        if (precedes(v, neighbors[i], degrees)) {
+                            forward[slot++] = neighbors[i];
+                        }
+                    }
+                }
+            });
+            long orientNanos = System.nanoTime() - orientStart;
+            
+            // Count common forward neighbors of the two ends of every forward edge
+            long countStart = System.nanoTime();
+            int chunks = (vertices + VERTEX_GRAIN - 1) / VERTEX_GRAIN;
+            long[] partials = new long[chunks];
+            ParallelLoop.forRange(pool, 0, chunks, 1, (start, end) -> {
+                for (int chunk = start; chunk < end; chunk++) {
+                    long triangles = 0;
+                    int last = Math.min(vertices, (chunk + 1) * VERTEX_GRAIN);
+                    for (int u = chunk * VERTEX_GRAIN; u < last; u++) {
+                        int uStart = forwardOffsets[u];
+                        int uEnd = forwardOffsets[u + 1];
+                        for (int e = uStart; e < uEnd; e++) {
+                            int v = forward[e];
+                            triangles += intersect(forward, uStart, uEnd, forwardOffsets[v], forwardOffsets[v + 1]);
+                        }
+                    }
+                    partials[chunk] = triangles;
+                }
+            });
+            long triangles = 0;
+            for (long partial : partials) {
+                triangles += partial;
+            }
+            long countNanos = System.nanoTime() - countStart;
+            
+            return new TriangleCountResult(triangles, forward.length, symmetrizeNanos, orientNanos, countNanos);
+        }
+        
+        /**
+         * Checks whether one vertex comes before another in degree order.
+         * 
+         * @param u The first vertex
+         * @param v The second vertex
+         * @param degrees The undirected degree of each vertex
+         * @return true if u has the lower degree, or the same degree and the lower id
+         */
+        private static boolean precedes(int u, int v, int[] degrees) {
+            return degrees[u] < degrees[v] || (degrees[u] == degrees[v] && u < v);
+        }
+        
+        /**
+         * Counts the values two sorted ranges of an array have in common.
+         * 
+         * @param values The array holding both ranges
+         * @param aStart The start of the first range, inclusive
+         * @param aEnd The end of the first range, exclusive
+         * @param bStart The start of the second range, inclusive
+         * @param bEnd The end of the second range, exclusive
+         * @return The size of the intersection
+         */
+        private static long intersect(int[] values, int aStart, int aEnd, int bStart, int bEnd) {
+            long common = 0;
+            int a = aStart;
+            int b = bStart;
+            while (a < aEnd && b < bEnd) {
+                int x = values[a];
+                int y = values[b];
+                if (x == y) {
+                    common++;
+                    a++;
+                    b++;
+                } else if (x < y) {
+                    a++;
+                } else {
+                    b++;
+                }
+            }
+            return common;
+        }
+        
+        @Override
+        public String getName() {
+            return "Triangle Counting (Parallel, Degree-Ordered)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Counts triangles by orienting edges from lower to higher degree and intersecting sorted adjacency lists in parallel.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(E^1.5)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Result of a triangle count, with the time spent in each phase.
+     */
+    public static class TriangleCountResult {
+        private final long triangles;
+        private final long undirectedEdges;
+        private final long symmetrizeNanos;
+        private final long orientNanos;
+        private final long countNanos;
+        
+        /**
+         * Constructs a triangle count result.
+         * 
+         * @param triangles The number of triangles
+         * @param undirectedEdges The number of distinct undirected edges, excluding self-loops
+         * @param symmetrizeNanos The time spent building sorted undirected neighbor lists
+         * @param orientNanos The time spent orienting edges by degree
+         * @param countNanos The time spent intersecting neighbor lists
+         */
+        public TriangleCountResult(long triangles, long undirectedEdges, long symmetrizeNanos,
+                long orientNanos, long countNanos) {
+            this.triangles = triangles;
+            this.undirectedEdges = undirectedEdges;
+            this.symmetrizeNanos = symmetrizeNanos;
+            this.orientNanos = orientNanos;
+            this.countNanos = countNanos;
+        }
+        
+        /**
+         * Gets the number of triangles.
+         * 
+         * @return The triangle count
+         */
+        public long getTriangles() {
+            return triangles;
+        }
+        
+        /**
+         * Gets the number of distinct undirected edges, excluding self-loops.
+         * 
+         * @return The undirected edge count
+         */
+        public long getUndirectedEdges() {
+            return undirectedEdges;
+        }
+        
+        /**
+         * Gets the time spent building sorted undirected neighbor lists.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getSymmetrizeNanos() {
+            return symmetrizeNanos;
+        }
+        
+        /**
+         * Gets the time spent orienting edges by degree.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getOrientNanos() {
+            return orientNanos;
+        }
+        
+        /**
+         * Gets the time spent intersecting neighbor lists.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getCountNanos() {
+            return countNanos;
+        }
+        
+        /**
+         * Gets the total time of all phases.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return symmetrizeNanos + orientNanos + countNanos;
+        }
+        
+        /**
+         * Gets the undirected edges processed per second over all phases.
+         * 
+         * @return The edge rate
+         */
+        public double getEdgesPerSecond() {
+            long elapsedNanos = getElapsedNanos();
+            return elapsedNanos == 0 ? 0 : undirectedEdges / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
\ No newline at end of file
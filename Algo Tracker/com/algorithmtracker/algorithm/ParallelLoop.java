@@ -0,0 +1,72 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs data-parallel loops over index ranges on a ForkJoinPool.
+ * Used by the parallel graph algorithms, which split their vertex or edge ranges into
+ * chunks of at least a given grain size and wait for all chunks before continuing.
+ */
+final class ParallelLoop {
+    
+    /**
+     * Body of a parallel loop, called once per chunk with a half-open index range.
+     */
+    @FunctionalInterface
+    interface RangeBody {
+        void run(int start, int end);
+    }
+    
+    private ParallelLoop() {
+    }
+    
+    /**
+     * Runs the body over [start, end) in parallel and returns once every chunk has finished.
+     * Ranges no larger than the grain, or pools with a single thread, run on the calling thread.
+     * 
+     * @param pool The pool to run on
+     * @param start The first index, inclusive
+     * @param end The last index, exclusive
+     * @param grain The largest chunk that is not split further
+     * @param body The loop body
+     */
+    static void forRange(ForkJoinPool pool, int start, int end, int grain, RangeBody body) {
+        if (end - start <= grain || pool.getParallelism() == 1) {
+            if (start < end) {
+                body.run(start, end);
+            }
+            return;
+        }
+        pool.invoke(new RangeTask(start, end, Math.max(1, grain), body));
+    }
+    
+    /**
+     * Recursively halves a range until it fits within the grain size.
+     */
+    private static class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final int start;
+        private final int end;
+        private final int grain;
+        private final RangeBody body;
+        
+        RangeTask(int start, int end, int grain, RangeBody body) {
+            this.start = start;
+            this.end = end;
+            this.grain = grain;
+            this.body = body;
+        }
+        
+        @Override
+        protected void compute() {
+            if (end - start <= grain) {
+                body.run(start, end);
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new RangeTask(start, middle, grain, body), new RangeTask(middle, end, grain, body));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+import com.algorithmtracker.algorithm.PointToPointAlgorithms.PathResult;
+
+/**
+ * Interface for point-to-point shortest path algorithms.
+ * Unlike ShortestPathAlgorithm, a query only has to search until the target's distance is known.
+ */
+public interface PointToPointAlgorithm extends Algorithm {
+    
+    /**
+     * Finds a shortest path from the source vertex to the target vertex of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @param sourceVertex The source vertex
+     * @param targetVertex The target vertex
+     * @return The path, its distance, and the number of vertices settled to find it
+     */
+    PathResult findPath(CsrGraph graph, int sourceVertex, int targetVertex);
+    
+    /**
+     * Finds a shortest path from the source vertex to the target vertex.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @param sourceVertex The source vertex
+     * @param targetVertex The target vertex
+     * @return The path, its distance, and the number of vertices settled to find it
+     */
+    default PathResult findPath(Graph graph, int sourceVertex, int targetVertex) {
+        return findPath(CsrGraph.fromGraph(graph), sourceVertex, targetVertex);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1247 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of point-to-point shortest path algorithms.
+ * Includes Dijkstra's Algorithm with early termination, bidirectional Dijkstra, A* search
+ * with a pluggable admissible heuristic, and Contraction Hierarchies for repeated queries.
+ * Each algorithm reuses its search arrays between queries and resets them by stamping, so a
+ * query costs time proportional to the vertices it touches rather than to the size of the
+ * graph. Instances are therefore not safe for concurrent queries.
+ */
+public class PointToPointAlgorithms {
+    
+    /**
+     * Estimates the remaining distance from a vertex to the target.
+     * An admissible heuristic never overestimates the true shortest path distance.
+     */
+    @FunctionalInterface
+    public interface Heuristic {
+        
+        /**
+         * Estimates the distance from a vertex to the target.
+         * 
+         * @param vertex The vertex
+         * @param target The target vertex
+         * @return A lower bound on the distance
+         */
+        int estimate(int vertex, int target);
+        
+        /**
+         * Creates a heuristic that always estimates zero, turning A* into Dijkstra's Algorithm.
+         * 
+         * @return The zero heuristic
+         */
+        static Heuristic zero() {
+            return (vertex, target) -> 0;
+        }
+        
+        /**
+         * Creates a straight-line distance heuristic from a graph's planar coordinates.
+         * It is admissible when every edge weighs at least its Euclidean length, as in
+         * graphs from TestDataGenerator.generatePlanarGraph.
+         * 
+         * @param graph The graph with coordinates
+         * @return The Euclidean heuristic
+         */
+        static Heuristic euclidean(Graph graph) {
+            if (!graph.hasCoordinates()) {
+                throw new IllegalArgumentException("Graph has no vertex coordinates");
+            }
+            int[] x = new int[graph.getVertices()];
+            int[] y = new int[graph.getVertices()];
+            for (int v = 0; v < x.length; v++) {
+                x[v] = graph.getX(v);
+                y[v] = graph.getY(v);
+            }
+            return (vertex, target) -> {
+                double dx = x[vertex] - x[target];
+                double dy = y[vertex] - y[target];
+                return (int) Math.sqrt(dx * dx + dy * dy);
+            };
+        }
+    }
+    
+    /**
+     * Result of a point-to-point shortest path query.
+     */
+    public static class PathResult {
+        private final int distance;
+        private final int[] path;
+        private final int settledVertices;
+        
+        /**
+         * Constructs a path result.
+         * 
+         * @param distance The path distance, or Integer.MAX_VALUE if the target is unreachable
+         * @param path The vertices from source to target, empty if the target is unreachable
+         * @param settledVertices The number of vertices settled by the search
+         */
+        public PathResult(int distance, int[] path, int settledVertices) {
+            this.distance = distance;
+            this.path = path;
+            this.settledVertices = settledVertices;
+        }
+        
+        /**
+         * Gets the shortest path distance.
+         * 
+         * @return The distance, or Integer.MAX_VALUE if the target is unreachable
+         */
+        public int getDistance() {
+            return distance;
+        }
+        
+        /**
+         * Gets the vertices on the path.
+         * 
+         * @return The vertices from source to target, empty if the target is unreachable
+         */
+        public int[] getPath() {
+            return path;
+        }
+        
+        /**
+         * Gets the number of vertices the search settled.
+         * 
+         * @return The settled vertex count
+         */
+        public int getSettledVertices() {
+            return settledVertices;
+        }
+        
+        /**
+         * Checks whether the target was reached.
+         * 
+         * @return true if a path exists, false otherwise
+         */
+        public boolean isReachable() {
+            return distance != Integer.MAX_VALUE;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm that stops as soon as the target is settled.
+     */
+    public static class EarlyExitDijkstra implements PointToPointAlgorithm {
+        // A* with a zero heuristic settles vertices in exactly Dijkstra's order
+        private final AStarSearch search = new AStarSearch(Heuristic.zero());
+        
+        @Override
+        public PathResult findPath(CsrGraph graph, int sourceVertex, int targetVertex) {
+            return search.findPath(graph, sourceVertex, targetVertex);
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (Early Exit)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's Algorithm from the source that stops once the target is settled and reconstructs the path from parent links.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V' + E') log V') where V' and E' are the vertices and edges closer than the target";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Bidirectional Dijkstra's Algorithm.
+     * Searches forward from the source and backward from the target over the transposed graph,
+     * always advancing the side with the smaller tentative distance. The best meeting distance
+     * found while relaxing edges is final once the two smallest queue keys add up to at least it.
+     */
+    public static class BidirectionalDijkstra implements PointToPointAlgorithm {
+        private final SearchState forward = new SearchState();
+        private final SearchState backward = new SearchState();
+        
+        @Override
+        public PathResult findPath(CsrGraph graph, int sourceVertex, int targetVertex) {
+            CsrGraph reverse = graph.transpose();
+            forward.reset(graph.getVertices());
+            backward.reset(graph.getVertices());
+            forward.relax(sourceVertex, 0, -1, 0);
+            backward.relax(targetVertex, 0, -1, 0);
+            
+            long best = sourceVertex == targetVertex ? 0 : Long.MAX_VALUE;
+            int meeting = sourceVertex == targetVertex ? sourceVertex : -1;
+            
+            while (!forward.isEmpty() && !backward.isEmpty()) {
+                if (forward.peekKey() + backward.peekKey() >= best) {
+                    break;
+                }
+                
+                // Advance the side whose frontier is closer
+                boolean forwardStep = forward.peekKey() <= backward.peekKey();
+                SearchState side = forwardStep ? forward : backward;
+                SearchState other = forwardStep ? backward : forward;
+                CsrGraph sideGraph = forwardStep ? graph : reverse;
+                
+                long key = side.peekKey();
+                int u = side.pop();
+                if (key > side.distance(u)) {
+                    continue;
+                }
+                side.settled++;
+                
+                int[] offsets = sideGraph.getOffsets();
+                int[] targets = sideGraph.getTargets();
+                int[] weights = sideGraph.getWeights();
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = key + weights[e];
+                    if (candidate < side.distance(v)) {
+                        side.relax(v, (int) candidate, u, candidate);
+                    }
+                    
+                    // A vertex reached from both sides closes a candidate path
+                    long otherDistance = other.distance(v);
+                    if (otherDistance != Integer.MAX_VALUE && candidate + otherDistance < best
+                            && candidate == side.distance(v)) {
+                        best = candidate + otherDistance;
+                        meeting = v;
+                    }
+                }
+            }
+            
+            int settled = forward.settled + backward.settled;
+            if (meeting == -1 || best >= Integer.MAX_VALUE) {
+                return new PathResult(Integer.MAX_VALUE, new int[0], settled);
+            }
+            
+            // Join the forward path to the meeting vertex with the backward path from it
+            int[] head = forward.pathTo(meeting);
+            int[] tail = backward.pathTo(meeting);
+            int[] path = Arrays.copyOf(head, head.length + tail.length - 1);
+            for (int i = 0; i < tail.length - 1; i++) {
+                path[head.length + i] = tail[tail.length - 2 - i];
+            }
+            return new PathResult((int) best, path, settled);
+        }
+        
+        @Override
+        public String getName() {
+            return "Bidirectional Dijkstra";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Runs Dijkstra's Algorithm forward from the source and backward from the target until the searches meet, roughly halving the search radius.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V' + E') log V') where V' and E' are the vertices and edges within half the target distance of either end";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E) including the transposed graph";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * A* search.
+     * Orders the queue by distance plus the heuristic's estimate of the remaining distance, so the
+     * search is drawn towards the target. With an admissible heuristic the first time the target
+     * leaves the queue its distance is optimal; vertices whose distance later improves are
+     * re-queued, so the heuristic does not have to be consistent.
+     */
+    public static class AStarSearch implements PointToPointAlgorithm {
+        private final Heuristic heuristic;
+        private final SearchState state = new SearchState();
+        
+        /**
+         * Constructs an A* search with the specified heuristic.
+         * 
+         * @param heuristic An admissible heuristic
+         */
+        public AStarSearch(Heuristic heuristic) {
+            this.heuristic = heuristic;
+        }
+        
+        @Override
+        public PathResult findPath(CsrGraph graph, int sourceVertex, int targetVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            state.reset(graph.getVertices());
+            state.relax(sourceVertex, 0, -1, heuristic.estimate(sourceVertex, targetVertex));
+            
+            while (!state.isEmpty()) {
+                long key = state.peekKey();
+                int u = state.pop();
+                int distance = state.distance(u);
+                
+                // Skip entries made stale by a later improvement
+                if (key > (long) distance + heuristic.estimate(u, targetVertex)) {
+                    continue;
+                }
+                state.settled++;
+                
+                if (u == targetVertex) {
+                    return new PathResult(distance, state.pathTo(targetVertex), state.settled);
+                }
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = (long) distance + weights[e];
+                    if (candidate < state.distance(v)) {
+                        state.relax(v, (int) candidate, u, candidate + heuristic.estimate(v, targetVertex));
+                    }
+                }
+            }
+            
+            return new PathResult(Integer.MAX_VALUE, new int[0], state.settled);
+        }
+        
+        @Override
+        public String getName() {
+            return "A* Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Best-first search ordered by distance plus an admissible estimate of the remaining distance, such as the straight-line distance between planar coordinates.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) log V) worst case; the heuristic shrinks the vertices actually settled";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * A Contraction Hierarchy over a fixed graph.
+     * Preprocessing contracts the vertices one at a time in order of importance, estimated mainly
+     * by the edge difference (shortcuts a contraction would add minus edges it would remove), with
+     * the number of contracted neighbors and the hierarchy depth below the vertex added so that
+     * contractions spread evenly over the graph. Contracting a vertex adds a shortcut between two of
+     * its neighbors whenever a bounded witness search finds no path at least as short that avoids
+     * it. Queries then only follow edges towards more important vertices, from both ends.
+     * Query arrays are reused, so an instance is not safe for concurrent queries.
+     */
+    public static class ContractionHierarchy {
+        private final int vertices;
+        private final int[] rank;
+        private final int[] upOffsets;
+        private final int[] upTargets;
+        private final int[] upWeights;
+        private final int[] upMiddles;
+        private final int[] downOffsets;
+        private final int[] downSources;
+        private final int[] downWeights;
+        private final int[] downMiddles;
+        private final int shortcutCount;
+        private final long preprocessingNanos;
+        private final SearchState forward = new SearchState();
+        private final SearchState backward = new SearchState();
+        private int[] unpacked = new int[16];
+        private int unpackedLength;
+        private int[] unpackStack = new int[16];
+        
+        /**
+         * Builds the hierarchy for a graph.
+         * 
+         * @param graph The graph to preprocess, with non-negative edge weights
+         */
+        public ContractionHierarchy(Graph graph) {
+            long startTime = System.nanoTime();
+            vertices = graph.getVertices();
+            HierarchyBuilder builder = new HierarchyBuilder(graph);
+            builder.contractAll();
+            
+            rank = builder.rank;
+            shortcutCount = builder.shortcutCount;
+            
+            // Flatten the per-vertex upward edges into two CSR structures
+            upOffsets = new int[vertices + 1];
+            downOffsets = new int[vertices + 1];
+            for (int v = 0; v < vertices; v++) {
+                upOffsets[v + 1] = upOffsets[v] + builder.upTargets[v].length;
+                downOffsets[v + 1] = downOffsets[v] + builder.downSources[v].length;
+            }
+            upTargets = new int[upOffsets[vertices]];
+            upWeights = new int[upOffsets[vertices]];
+            upMiddles = new int[upOffsets[vertices]];
+            downSources = new int[downOffsets[vertices]];
+            downWeights = new int[downOffsets[vertices]];
+            downMiddles = new int[downOffsets[vertices]];
+            for (int v = 0; v < vertices; v++) {
+                System.arraycopy(builder.upTargets[v], 0, upTargets, upOffsets[v], builder.upTargets[v].length);
+                System.arraycopy(builder.upWeights[v], 0, upWeights, upOffsets[v], builder.upWeights[v].length);
+                System.arraycopy(builder.upMiddles[v], 0, upMiddles, upOffsets[v], builder.upMiddles[v].length);
+                System.arraycopy(builder.downSources[v], 0, downSources, downOffsets[v], builder.downSources[v].length);
+                System.arraycopy(builder.downWeights[v], 0, downWeights, downOffsets[v], builder.downWeights[v].length);
+                System.arraycopy(builder.downMiddles[v], 0, downMiddles, downOffsets[v], builder.downMiddles[v].length);
+            }
+            
+            preprocessingNanos = System.nanoTime() - startTime;
+        }
+        
+        /**
+         * Finds a shortest path with a bidirectional search over upward edges.
+         * Each side keeps going until its smallest key reaches the best meeting distance, since the
+         * highest-ranked vertex of the shortest path may be settled late by either side.
+         * 
+         * @param sourceVertex The source vertex
+         * @param targetVertex The target vertex
+         * @return The unpacked path, its distance, and the number of settled vertices
+         */
+        public PathResult query(int sourceVertex, int targetVertex) {
+            forward.reset(vertices);
+            backward.reset(vertices);
+            forward.relax(sourceVertex, 0, -1, 0);
+            backward.relax(targetVertex, 0, -1, 0);
+            
+            long best = Long.MAX_VALUE;
+            int meeting = -1;
+            
+            while (true) {
+                boolean forwardOpen = !forward.isEmpty() && forward.peekKey() < best;
+                boolean backwardOpen = !backward.isEmpty() && backward.peekKey() < best;
+                if (!forwardOpen && !backwardOpen) {
+                    break;
+                }
+                
+                boolean forwardStep = forwardOpen && (!backwardOpen || forward.peekKey() <= backward.peekKey());
+                SearchState side = forwardStep ? forward : backward;
+                SearchState other = forwardStep ? backward : forward;
+                int[] offsets = forwardStep ? upOffsets : downOffsets;
+                int[] neighbors = forwardStep ? upTargets : downSources;
+                int[] weights = forwardStep ? upWeights : downWeights;
+                
+                long key = side.peekKey();
+                int u = side.pop();
+                if (key > side.distance(u)) {
+                    continue;
+                }
+                side.settled++;
+                
+                int otherDistance = other.distance(u);
+                if (otherDistance != Integer.MAX_VALUE && key + otherDistance < best) {
+                    best = key + otherDistance;
+                    meeting = u;
+                }
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = neighbors[e];
+                    long candidate = key + weights[e];
+                    if (candidate < side.distance(v)) {
+                        side.relax(v, (int) candidate, u, candidate);
+                    }
+                }
+            }
+            
+            int settled = forward.settled + backward.settled;
+            if (meeting == -1 || best >= Integer.MAX_VALUE) {
+                return new PathResult(Integer.MAX_VALUE, new int[0], settled);
+            }
+            
+            // Unpack the shortcuts on both halves of the path
+            // The backward parents lead from the meeting vertex towards the target
+            int[] head = forward.pathTo(meeting);
+            int[] tail = backward.pathTo(meeting);
+            unpackedLength = 0;
+            append(sourceVertex);
+            for (int i = 0; i + 1 < head.length; i++) {
+                unpack(head[i], head[i + 1]);
+            }
+            for (int i = tail.length - 1; i > 0; i--) {
+                unpack(tail[i], tail[i - 1]);
+            }
+            return new PathResult((int) best, Arrays.copyOf(unpacked, unpackedLength), settled);
+        }
+        
+        /**
+         * Appends the original vertices of the edge from a to b, excluding a, to the unpacked path.
+         * Shortcuts are expanded through their middle vertices with an explicit stack.
+         * 
+         * @param a The edge source
+         * @param b The edge target
+         */
+        private void unpack(int a, int b) {
+            int top = 0;
+            unpackStack[top++] = a;
+            unpackStack[top++] = b;
+            
+            while (top > 0) {
+                int to = unpackStack[--top];
+                int from = unpackStack[--top];
+                int middle = findMiddle(from, to);
+                if (middle == -1) {
+                    append(to);
+                } else {
+                    if (top + 4 > unpackStack.length) {
+                        unpackStack = Arrays.copyOf(unpackStack, unpackStack.length * 2);
+                    }
+                    // Push the second half first so the first half is expanded first
+                    unpackStack[top++] = middle;
+                    unpackStack[top++] = to;
+                    unpackStack[top++] = from;
+                    unpackStack[top++] = middle;
+                }
+            }
+        }
+        
+        /**
+         * Appends a vertex to the unpacked path.
+         * 
+         * @param vertex The vertex
+         */
+        private void append(int vertex) {
+            if (unpackedLength == unpacked.length) {
+                unpacked = Arrays.copyOf(unpacked, unpackedLength * 2);
+            }
+            unpacked[unpackedLength++] = vertex;
+        }
+        
+        /**
+         * Finds the middle vertex of the shortest stored edge from one vertex to another.
+         * An edge is stored with whichever endpoint was contracted first.
+         * 
+         * @param from The edge source
+         * @param to The edge target
+         * @return The middle vertex, or -1 if the edge is an original edge
+         */
+        private int findMiddle(int from, int to) {
+            int middle = -1;
+            int bestWeight = Integer.MAX_VALUE;
+            if (rank[from] < rank[to]) {
+                for (int e = upOffsets[from]; e < upOffsets[from + 1]; e++) {
+                    if (upTargets[e] == to && upWeights[e] < bestWeight) {
+                        bestWeight = upWeights[e];
+                        middle = upMiddles[e];
+                    }
+                }
+            } else {
+                for (int e = downOffsets[to]; e < downOffsets[to + 1]; e++) {
+                    if (downSources[e] == from && downWeights[e] < bestWeight) {
+                        bestWeight = downWeights[e];
+                        middle = downMiddles[e];
+                    }
+                }
+            }
+            return middle;
+        }
+        
+        /**
+         * Gets the number of shortcuts added during preprocessing.
+         * 
+         * @return The shortcut count
+         */
+        public int getShortcutCount() {
+            return shortcutCount;
+        }
+        
+        /**
+         * Gets the number of edges kept for upward searches, shortcuts included.
+         * 
+         * @return The upward edge count
+         */
+        public int getUpwardEdgeCount() {
+            return upTargets.length + downSources.length;
+        }
+        
+        /**
+         * Gets the time taken to build the hierarchy.
+         * 
+         * @return The preprocessing time in nanoseconds
+         */
+        public long getPreprocessingNanos() {
+            return preprocessingNanos;
+        }
+        
+        /**
+         * Gets the contraction rank of each vertex.
+         * 
+         * @return The ranks, where higher means contracted later
+         */
+        public int[] getRanks() {
+            return rank;
+        }
+    }
+    
+    /**
+     * Working state for contracting a graph.
+     * Each vertex keeps growable lists of its outgoing and incoming edges to uncontracted
+     * vertices, with parallel edges merged to the lightest one.
+     */
+    private static class HierarchyBuilder {
+        // Witness searches give up after settling this many vertices and keep the shortcut;
+        // priority estimates use a smaller budget, since they run for every neighbor update
+        private static final int WITNESS_SETTLE_LIMIT = 64;
+        private static final int SIMULATION_SETTLE_LIMIT = 12;
+        
+        private final int vertices;
+        private final int[][] outTargets;
+        private final int[][] outWeights;
+        private final int[][] outMiddles;
+        private final int[] outCounts;
+        private final int[][] inSources;
+        private final int[][] inWeights;
+        private final int[][] inMiddles;
+        private final int[] inCounts;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] depths;
+        private final int[] rank;
+        private int shortcutCount;
+        
+        // Upward edges recorded for each vertex when it is contracted
+        private final int[][] upTargets;
+        private final int[][] upWeights;
+        private final int[][] upMiddles;
+        private final int[][] downSources;
+        private final int[][] downWeights;
+        private final int[][] downMiddles;
+        
+        // Witness search state, reset by stamping
+        private final int[] witnessDistances;
+        private final int[] witnessStamps;
+        private final int[] targetStamps;
+        private int witnessEpoch;
+        private long[] heap = new long[64];
+        private int heapSize;
+        
+        // Contraction order queue of encoded (priority, vertex) entries
+        private long[] order = new long[64];
+        private int orderSize;
+        
+        /**
+         * Copies a graph into the working lists.
+         * 
+         * @param graph The graph to contract
+         */
+        HierarchyBuilder(Graph graph) {
+            vertices = graph.getVertices();
+            outTargets = new int[vertices][];
+            outWeights = new int[vertices][];
+            outMiddles = new int[vertices][];
+            outCounts = new int[vertices];
+            inSources = new int[vertices][];
+            inWeights = new int[vertices][];
+            inMiddles = new int[vertices][];
+            inCounts = new int[vertices];
+            for (int v = 0; v < vertices; v++) {
+                outTargets[v] = new int[4];
+                outWeights[v] = new int[4];
+                outMiddles[v] = new int[4];
+                inSources[v] = new int[4];
+                inWeights[v] = new int[4];
+                inMiddles[v] = new int[4];
+            }
+            
+            for (List<Graph.Edge> edges : graph.getAdjacencyList()) {
+                for (Graph.Edge edge : edges) {
+                    if (edge.getWeight() < 0) {
+                        throw new IllegalArgumentException("Edge weights must be non-negative");
+                    }
+                    if (edge.getSource() != edge.getDestination()) {
+                        addEdge(edge.getSource(), edge.getDestination(), edge.getWeight(), -1);
+                    }
+                }
+            }
+            
+            contracted = new boolean[vertices];
+            contractedNeighbors = new int[vertices];
+            depths = new int[vertices];
+            rank = new int[vertices];
+            upTargets = new int[vertices][];
+            upWeights = new int[vertices][];
+            upMiddles = new int[vertices][];
+            downSources = new int[vertices][];
+            downWeights = new int[vertices][];
+            downMiddles = new int[vertices][];
+            witnessDistances = new int[vertices];
+            witnessStamps = new int[vertices];
+            targetStamps = new int[vertices];
+        }
+        
+        /**
+         * Contracts every vertex, always choosing the one with the lowest priority next.
+         * Contracting a vertex changes the priorities of its neighbors, so they are recomputed
+         * and queued again; queue entries that no longer match a vertex's priority are skipped.
+         */
+        void contractAll() {
+            int[] priorities = new int[vertices];
+            int[] updateStamps = new int[vertices];
+            for (int v = 0; v < vertices; v++) {
+                priorities[v] = priority(v);
+                pushOrder(priorities[v], v);
+            }
+            
+            int nextRank = 0;
+            while (orderSize > 0) {
+                long entry = order[0];
+                orderSize = popEntry(order, orderSize);
+                int v = (int) entry;
+                if (contracted[v] || entry != encode(priorities[v], v)) {
+                    continue;
+                }
+                
+                // The edges to uncontracted neighbors are exactly v's upward edges
+                upTargets[v] = Arrays.copyOf(outTargets[v], outCounts[v]);
+                upWeights[v] = Arrays.copyOf(outWeights[v], outCounts[v]);
+                upMiddles[v] = Arrays.copyOf(outMiddles[v], outCounts[v]);
+                downSources[v] = Arrays.copyOf(inSources[v], inCounts[v]);
+                downWeights[v] = Arrays.copyOf(inWeights[v], inCounts[v]);
+                downMiddles[v] = Arrays.copyOf(inMiddles[v], inCounts[v]);
+                
+                shortcutCount += contract(v, false);
+                contracted[v] = true;
+                rank[v] = nextRank++;
+                
+                for (int i = 0; i < outCounts[v]; i++) {
+                    int w = outTargets[v][i];
+                    removeIncoming(w, v);
+                    contractedNeighbors[w]++;
+                    depths[w] = Math.max(depths[w], depths[v] + 1);
+                }
+                for (int i = 0; i < inCounts[v]; i++) {
+                    int u = inSources[v][i];
+                    removeOutgoing(u, v);
+                    contractedNeighbors[u]++;
+                    depths[u] = Math.max(depths[u], depths[v] + 1);
+                }
+                
+                // Re-evaluate each neighbor once, however many edges link it to v
+                for (int i = 0; i < outCounts[v] + inCounts[v]; i++) {
+                    int neighbor = i < outCounts[v] ? outTargets[v][i] : inSources[v][i - outCounts[v]];
+                    if (updateStamps[neighbor] != nextRank) {
+                        updateStamps[neighbor] = nextRank;
+                        priorities[neighbor] = priority(neighbor);
+                        pushOrder(priorities[neighbor], neighbor);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Queues a vertex with a priority, growing the queue as needed.
+         * 
+         * @param priority The priority
+         * @param vertex The vertex
+         */
+        private void pushOrder(int priority, int vertex) {
+            if (orderSize == order.length) {
+                order = Arrays.copyOf(order, orderSize * 2);
+            }
+            pushHeap(order, orderSize++, encode(priority, vertex));
+        }
+        
+        /**
+         * Computes the contraction priority of a vertex by simulating its contraction.
+         * 
+         * @param vertex The vertex
+         * @return Twice the edge difference plus the contracted neighbors and depth
+         */
+        private int priority(int vertex) {
+            int shortcuts = contract(vertex, true);
+            return 2 * (shortcuts - outCounts[vertex] - inCounts[vertex]) + contractedNeighbors[vertex] + depths[vertex];
+        }
+        
+        /**
+         * Contracts a vertex, adding a shortcut for every neighbor pair without a witness path.
+         * 
+         * @param vertex The vertex to contract
+         * @param simulate true to only count the shortcuts
+         * @return The number of shortcuts needed
+         */
+        private int contract(int vertex, boolean simulate) {
+            int shortcuts = 0;
+            for (int i = 0; i < inCounts[vertex]; i++) {
+                int u = inSources[vertex][i];
+                long toVertex = inWeights[vertex][i];
+                
+                // The search can stop once it passes the longest path through the vertex
+                // or has settled every target
+                startWitnessSearch();
+                long limit = -1;
+                int targets = 0;
+                for (int j = 0; j < outCounts[vertex]; j++) {
+                    int w = outTargets[vertex][j];
+                    if (w != u && targetStamps[w] != witnessEpoch) {
+                        targetStamps[w] = witnessEpoch;
+                        targets++;
+                        limit = Math.max(limit, toVertex + outWeights[vertex][j]);
+                    }
+                }
+                if (targets == 0) {
+                    continue;
+                }
+                
+                witnessSearch(u, vertex, limit, targets, simulate ? SIMULATION_SETTLE_LIMIT : WITNESS_SETTLE_LIMIT);
+                for (int j = 0; j < outCounts[vertex]; j++) {
+                    int w = outTargets[vertex][j];
+                    long viaVertex = toVertex + outWeights[vertex][j];
+                    if (w == u || viaVertex >= Integer.MAX_VALUE || witnessDistance(w) <= viaVertex) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (!simulate) {
+                        addEdge(u, w, (int) viaVertex, vertex);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+        
+        /**
+         * Starts a new witness search epoch, invalidating all earlier distances and targets.
+         */
+        private void startWitnessSearch() {
+            if (++witnessEpoch == Integer.MAX_VALUE) {
+                Arrays.fill(witnessStamps, 0);
+                Arrays.fill(targetStamps, 0);
+                witnessEpoch = 1;
+            }
+        }
+        
+        /**
+         * Runs a bounded Dijkstra search from a vertex that avoids the vertex being contracted.
+         * 
+         * @param source The start vertex
+         * @param excluded The vertex being contracted
+         * @param limit The largest distance of interest
+         * @param targets The number of vertices stamped as targets for this epoch
+         * @param settleLimit The number of vertices to settle before giving up
+         */
+        private void witnessSearch(int source, int excluded, long limit, int targets, int settleLimit) {
+            witnessStamps[source] = witnessEpoch;
+            witnessDistances[source] = 0;
+            heapSize = 0;
+            pushHeap(heap, heapSize++, source);
+            
+            int settled = 0;
+            while (heapSize > 0 && settled < settleLimit) {
+                long top = heap[0];
+                heapSize = popEntry(heap, heapSize);
+                int u = (int) top;
+                long distance = top >>> 32;
+                if (distance > witnessDistances[u]) {
+                    continue;
+                }
+                if (distance > limit) {
+                    break;
+                }
+                settled++;
+                if (targetStamps[u] == witnessEpoch && --targets == 0) {
+                    break;
+                }
+                
+                for (int e = 0; e < outCounts[u]; e++) {
+                    int v = outTargets[u][e];
+                    if (v == excluded) {
+                        continue;
+                    }
+                    long candidate = distance + outWeights[u][e];
+                    if (candidate <= limit && candidate < witnessDistance(v)) {
+                        witnessStamps[v] = witnessEpoch;
+                        witnessDistances[v] = (int) candidate;
+                        if (heapSize == heap.length) {
+                            heap = Arrays.copyOf(heap, heapSize * 2);
+                        }
+                        pushHeap(heap, heapSize++, (candidate << 32) | v);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Gets a distance found by the latest witness search.
+         * 
+         * @param vertex The vertex
+         * @return The distance, or Long.MAX_VALUE if the vertex was not reached
+         */
+        private long witnessDistance(int vertex) {
+            return witnessStamps[vertex] == witnessEpoch ? witnessDistances[vertex] : Long.MAX_VALUE;
+        }
+        
+        /**
+         * Adds an edge, or lowers the weight of an existing edge between the same vertices.
+         * 
+         * @param source The source vertex
+         * @param target The target vertex
+         * @param weight The weight
+         * @param middle The contracted vertex the edge bypasses, or -1 for an original edge
+         */
+        private void addEdge(int source, int target, int weight, int middle) {
+            for (int i = 0; i < outCounts[source]; i++) {
+                if (outTargets[source][i] == target) {
+                    if (weight < outWeights[source][i]) {
+                        outWeights[source][i] = weight;
+                        outMiddles[source][i] = middle;
+                        for (int j = 0; j < inCounts[target]; j++) {
+                            if (inSources[target][j] == source) {
+                                inWeights[target][j] = weight;
+                                inMiddles[target][j] = middle;
+                            }
+                        }
+                    }
+                    return;
+                }
+            }
+            
+            if (outCounts[source] == outTargets[source].length) {
+                int capacity = outCounts[source] * 2;
+                outTargets[source] = Arrays.copyOf(outTargets[source], capacity);
+                outWeights[source] = Arrays.copyOf(outWeights[source], capacity);
+                outMiddles[source] = Arrays.copyOf(outMiddles[source], capacity);
+            }
+            outTargets[source][outCounts[source]] = target;
+            outWeights[source][outCounts[source]] = weight;
+            outMiddles[source][outCounts[source]] = middle;
+            outCounts[source]++;
+            
+            if (inCounts[target] == inSources[target].length) {
+                int capacity = inCounts[target] * 2;
+                inSources[target] = Arrays.copyOf(inSources[target], capacity);
+                inWeights[target] = Arrays.copyOf(inWeights[target], capacity);
+                inMiddles[target] = Arrays.copyOf(inMiddles[target], capacity);
+            }
+            inSources[target][inCounts[target]] = source;
+            inWeights[target][inCounts[target]] = weight;
+            inMiddles[target][inCounts[target]] = middle;
+            inCounts[target]++;
+        }
+        
+        /**
+         * Removes the edge to a contracted vertex from another vertex's outgoing list.
+         * 
+         * @param vertex The vertex whose list is updated
+         * @param removed The contracted vertex
+         */
+        private void removeOutgoing(int vertex, int removed) {
+            for (int i = 0; i < outCounts[vertex]; i++) {
+                if (outTargets[vertex][i] == removed) {
+                    int last = --outCounts[vertex];
+                    outTargets[vertex][i] = outTargets[vertex][last];
+                    outWeights[vertex][i] = outWeights[vertex][last];
+                    outMiddles[vertex][i] = outMiddles[vertex][last];
+                    return;
+                }
+            }
+        }
+        
+        /**
+         * Removes the edge from a contracted vertex from another vertex's incoming list.
+         * 
+         * @param vertex The vertex whose list is updated
+         * @param removed The contracted vertex
+         */
+        private void removeIncoming(int vertex, int removed) {
+            for (int i = 0; i < inCounts[vertex]; i++) {
+                if (inSources[vertex][i] == removed) {
+                    int last = --inCounts[vertex];
+                    inSources[vertex][i] = inSources[vertex][last];
+                    inWeights[vertex][i] = inWeights[vertex][last];
+                    inMiddles[vertex][i] = inMiddles[vertex][last];
+                    return;
+                }
+            }
+        }
+        
+        /**
+         * Packs a priority and a vertex into one heap entry that orders by priority first.
+         * 
+         * @param priority The priority, which may be negative
+         * @param vertex The vertex
+         * @return The heap entry
+         */
+        private static long encode(int priority, int vertex) {
+            // Offset into [0, 2^31) so the entry stays non-negative and orders like the priority
+            long clamped = Math.max(-(1 << 30), Math.min((1 << 30) - 1, priority));
+            return (clamped + (1 << 30)) << 32 | vertex;
+        }
+        
+        /**
+         * Places an entry at the end of a heap and sifts it up.
+         * 
+         * @param heap The heap array, with room for the entry
+         * @param index The index of the new entry
+         * @param entry The entry
+         */
+        private static void pushHeap(long[] heap, int index, long entry) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= entry) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = entry;
+        }
+        
+        /**
+         * Removes the smallest entry of a heap.
+         * 
+         * @param heap The heap array
+         * @param size The number of entries
+         * @return The new number of entries
+         */
+        private static int popEntry(long[] heap, int size) {
+            long entry = heap[--size];
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (entry <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = entry;
+            return size;
+        }
+    }
+    
+    /**
+     * Contraction Hierarchies implementation.
+     * Spends preprocessing time once on a graph that rarely changes so that each later
+     * shortest path query settles only a few hundred vertices.
+     */
+    public static class ContractionHierarchySearch implements Algorithm {
+        
+        /**
+         * Builds a contraction hierarchy for a graph.
+         * 
+         * @param graph The graph to preprocess
+         * @return The hierarchy
+         */
+        public ContractionHierarchy build(Graph graph) {
+            return new ContractionHierarchy(graph);
+        }
+        
+        /**
+         * Finds a shortest path using the hierarchy.
+         * 
+         * @param hierarchy The contraction hierarchy
+         * @param sourceVertex The source vertex
+         * @param targetVertex The target vertex
+         * @return The path, its distance, and the number of settled vertices
+         */
+        public PathResult findPath(ContractionHierarchy hierarchy, int sourceVertex, int targetVertex) {
+            return hierarchy.query(sourceVertex, targetVertex);
+        }
+        
+        @Override
+        public String getName() {
+            return "Contraction Hierarchies";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Preprocesses the graph by contracting vertices in order of importance and adding shortcuts, then answers queries with a bidirectional search that only moves up the hierarchy.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "Preprocessing depends on the graph; queries settle a small, near-constant part of road-like graphs";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E + S) where S is the number of shortcuts";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Search arrays reused across queries.
+     * A vertex's distance and parent are valid only when its stamp equals the current epoch, so
+     * starting a new query is O(1) instead of refilling arrays the size of the graph. The queue
+     * is a binary heap of (key, vertex) pairs with lazy deletion.
+     */
+    private static class SearchState {
+        private int[] distances = new int[0];
+        private int[] parents = new int[0];
+        private int[] stamps = new int[0];
+        private int epoch;
+        private long[] heapKeys = new long[16];
+        private int[] heapVertices = new int[16];
+        private int heapSize;
+        private int settled;
+        
+        /**
+         * Prepares the state for a new query.
+         * 
+         * @param vertices The number of vertices in the graph
+         */
+        void reset(int vertices) {
+            if (stamps.length != vertices) {
+                distances = new int[vertices];
+                parents = new int[vertices];
+                stamps = new int[vertices];
+                epoch = 0;
+            }
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                epoch = 1;
+            }
+            heapSize = 0;
+            settled = 0;
+        }
+        
+        /**
+         * Gets the tentative distance of a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The distance, or Integer.MAX_VALUE if not yet reached
+         */
+        int distance(int vertex) {
+            return stamps[vertex] == epoch ? distances[vertex] : Integer.MAX_VALUE;
+        }
+        
+        /**
+         * Lowers a vertex's distance and queues it. Any older entry for the vertex stays in the
+         * heap and is skipped when popped.
+         * 
+         * @param vertex The vertex
+         * @param distance The new distance
+         * @param parent The predecessor on the path, or -1 for the start vertex
+         * @param key The queue key, the distance plus any heuristic estimate
+         */
+        void relax(int vertex, int distance, int parent, long key) {
+            stamps[vertex] = epoch;
+            distances[vertex] = distance;
+            parents[vertex] = parent;
+            push(key, vertex);
+        }
+        
+        /**
+         * Builds the path from the start vertex to a reached vertex by following parent links.
+         * 
+         * @param vertex The reached vertex
+         * @return The vertices from the start vertex to the given vertex
+         */
+        int[] pathTo(int vertex) {
+            int length = 0;
+            for (int v = vertex; v != -1; v = parents[v]) {
+                length++;
+            }
+            int[] path = new int[length];
+            for (int v = vertex; v != -1; v = parents[v]) {
+                path[--length] = v;
+            }
+            return path;
+        }
+        
+        /**
+         * Checks whether the heap is empty.
+         * 
+         * @return true if no entries remain, false otherwise
+         */
+        boolean isEmpty() {
+            return heapSize == 0;
+        }
+        
+        /**
+         * Gets the smallest key in the heap.
+         * 
+         * @return The smallest key
+         */
+        long peekKey() {
+            return heapKeys[0];
+        }
+        
+        /**
+         * Adds an entry to the heap.
+         * 
+         * @param key The key
+         * @param vertex The vertex
+         */
+        private void push(long key, int vertex) {
+            if (heapSize == heapKeys.length) {
+                heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+                heapVertices = Arrays.copyOf(heapVertices, heapSize * 2);
+            }
+            int index = heapSize++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heapKeys[parent] <= key) {
+                    break;
+                }
+                heapKeys[index] = heapKeys[parent];
+                heapVertices[index] = heapVertices[parent];
+                index = parent;
+            }
+            heapKeys[index] = key;
+            heapVertices[index] = vertex;
+        }
+        
+        /**
+         * Removes the entry with the smallest key.
+         * 
+         * @return The vertex of the removed entry
+         */
+        int pop() {
+            int top = heapVertices[0];
+            long key = heapKeys[--heapSize];
+            int vertex = heapVertices[heapSize];
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                    child++;
+                }
+                if (key <= heapKeys[child]) {
+                    break;
+                }
+                heapKeys[index] = heapKeys[child];
+                heapVertices[index] = heapVertices[child];
+                index = child;
+            }
+            heapKeys[index] = key;
+            heapVertices[index] = vertex;
+            return top;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,336 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.ConnectivityAlgorithms.Condensation;
+import com.algorithmtracker.algorithm.ConnectivityAlgorithms.TarjanStrongComponents;
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Reachability index answering "can u reach v" queries on a directed graph.
+ * The graph is condensed into an acyclic graph of strongly connected components numbered in
+ * topological order, so vertices in the same component reach each other and a component never
+ * reaches one with a lower number. Each component then gets one interval label per randomized
+ * depth-first traversal of the condensation, in the style of GRAIL: its post-order rank and the
+ * lowest rank below it. A component can only reach another whose intervals all nest inside its
+ * own, which rejects most negative queries in constant time, and the first traversal's tree
+ * intervals confirm every tree descendant. The remaining queries fall back to a search that
+ * prunes every component whose labels rule it out.
+ * Queries reuse internal scratch space, so an index must not be queried from several threads.
+ */
+public class ReachabilityIndex implements Algorithm {
+    private static final int DEFAULT_LABELS = 2;
+    private static final long DEFAULT_SEED = 42L;
+    
+    private final Condensation condensation;
+    private final int[] componentOf;
+    private final int[] dagOffsets;
+    private final int[] dagTargets;
+    private final int labels;
+    // Interleaved (low, rank) pairs, labels of them per component
+    private final int[] intervals;
+    // Smallest rank inside each component's subtree of the first traversal
+    private final int[] subtreeStarts;
+    private final int[] visited;
+    private final int[] stack;
+    private int epoch;
+    private long queries;
+    private long fallbackSearches;
+    
+    /**
+     * Builds an index with the default number of interval labels.
+     * 
+     * @param graph The CSR graph
+     */
+    public ReachabilityIndex(CsrGraph graph) {
+        this(graph, DEFAULT_LABELS, DEFAULT_SEED);
+    }
+    
+    /**
+     * Builds an index with the specified number of interval labels. More labels reject more
+     * negative queries without a search, at 8 bytes per component per label.
+     * 
+     * @param graph The CSR graph
+     * @param labels The number of randomized traversals to label
+     * @param seed The seed for the traversal orders
+     */
+    public ReachabilityIndex(CsrGraph graph, int labels, long seed) {
+        if (labels < 1) {
+            throw new IllegalArgumentException("Label count must be at least 1");
+        }
+        this.condensation = new Condensation(graph, new TarjanStrongComponents().findStrongComponents(graph));
+        this.componentOf = condensation.getComponentOf();
+        this.dagOffsets = condensation.getDag().getOffsets();
+        this.dagTargets = condensation.getDag().getTargets();
+        this.labels = labels;
+        
+        int components = condensation.getComponentCount();
+        this.intervals = new int[2 * labels * components];
+        this.subtreeStarts = new int[components];
+        this.visited = new int[components];
+        this.stack = new int[components];
+        
+        int[] roots = findRoots(components);
+        Random random = new Random(seed);
+        for (int label = 0; label < labels; label++) {
+            // The first traversal keeps the natural order; later ones shuffle the roots
+            // and alternate the child order so their intervals disagree as much as possible
+            if (label > 0) {
+                for (int i = roots.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    int root = roots[i];
+                    roots[i] = roots[j];
+                    roots[j] = root;
+                }
+            }
+            label(label, roots, label % 2 == 1);
+        }
+    }
+    
+    /**
+     * Finds the components without incoming edges in the condensation.
+     * 
+     * @param components The number of components
+     * @return The source components in increasing order
+     */
+    private int[] findRoots(int components) {
+        boolean[] hasIncoming = new boolean[components];
+        for (int target : dagTargets) {
+            hasIncoming[target] = true;
+        }
+        int count = 0;
+        for (int c = 0; c < components; c++) {
+            if (!hasIncoming[c]) {
+                count++;
+            }
+        }
+        int[] roots = new int[count];
+        count = 0;
+        for (int c = 0; c < components; c++) {
+            if (!hasIncoming[c]) {
+                roots[count++] = c;
+            }
+        }
+        return roots;
+    }
+    
+    /**
+     * Assigns one interval label to every component with an iterative post-order traversal.
+     * A component's rank is its post-order number and its low is the smallest low among itself
+     * and all its children, visited in this traversal or not, so every component it can reach
+     * has an interval nested inside its own.
+     * 
+     * @param label The index of the label to fill
+     * @param roots The source components, in the order the traversal starts from them
+     * @param reversed Whether children are visited from the last edge to the first
+     */
+    private void label(int label, int[] roots, boolean reversed) {
+        int components = visited.length;
+        int[] cursors = new int[components];
+        boolean[] seen = new boolean[components];
+        int next = 0;
+        
+        for (int root : roots) {
+            int size = 0;
+            seen[root] = true;
+            cursors[root] = reversed ? dagOffsets[root + 1] - 1 : dagOffsets[root];
+            stack[size++] = root;
+            if (label == 0) {
+                subtreeStarts[root] = next;
+            }
+            while (size > 0) {
+                int c = stack[size - 1];
+                boolean more = reversed ? cursors[c] >= dagOffsets[c] : cursors[c] < dagOffsets[c + 1];
+                if (more) {
+                    int child = dagTargets[cursors[c]];
+                    cursors[c] += reversed ? -1 : 1;
+                    if (!seen[child]) {
+                        seen[child] = true;
+                        cursors[child] = reversed ? dagOffsets[child + 1] - 1 : dagOffsets[child];
+                        stack[size++] = child;
+                        if (label == 0) {
+                            subtreeStarts[child] = next;
+                        }
+                    }
+                    continue;
+                }
+                
+                // All children are ranked, so the low of the component is final
+                size--;
+                int rank = next++;
+                int low = rank;
+                for (int e = dagOffsets[c]; e < dagOffsets[c + 1]; e++) {
+                    low = Math.min(low, intervals[2 * (dagTargets[e] * labels + label)]);
+                }
+                intervals[2 * (c * labels + label)] = low;
+                intervals[2 * (c * labels + label) + 1] = rank;
+            }
+        }
+    }
+    
+    /**
+     * Checks whether one vertex can reach another along directed edges.
+     * 
+     * @param source The source vertex
+     * @param target The target vertex
+     * @return true if there is a path from source to target, false otherwise
+     */
+    public boolean canReach(int source, int target) {
+        if (source < 0 || source >= componentOf.length || target < 0 || target >= componentOf.length) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        queries++;
+        int from = componentOf[source];
+        int to = componentOf[target];
+        if (from == to) {
+            return true;
+        }
+        if (from > to || !contains(from, to)) {
+            return false;
+        }
+        if (isTreeDescendant(from, to)) {
+            return true;
+        }
+        fallbackSearches++;
+        return search(from, to);
+    }
+    
+    /**
+     * Checks whether every interval label of one component nests inside the other's.
+     * 
+     * @param outer The component that may reach the other
+     * @param inner The component that may be reached
+     * @return false if the labels prove inner unreachable from outer, true otherwise
+     */
+    private boolean contains(int outer, int inner) {
+        int o = 2 * outer * labels;
+        int i = 2 * inner * labels;
+        for (int label = 0; label < labels; label++, o += 2, i += 2) {
+            if (intervals[i] < intervals[o] || intervals[i + 1] > intervals[o + 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Checks whether one component lies below another in the first traversal's spanning forest,
+     * which proves it reachable.
+     * 
+     * @param ancestor The component that may be an ancestor
+     * @param descendant The component that may be a descendant
+     * @return true if descendant is in the subtree of ancestor, false otherwise
+     */
+    private boolean isTreeDescendant(int ancestor, int descendant) {
+        int rank = intervals[2 * descendant * labels + 1];
+        return subtreeStarts[ancestor] <= rank && rank <= intervals[2 * ancestor * labels + 1];
+    }
+    
+    /**
+     * Searches the condensation depth-first from one component for another, skipping every
+     * component that is numbered past the target or whose labels exclude it, and stopping at
+     * the first component whose tree interval holds the target.
+     * 
+     * @param from The start component
+     * @param to The target component
+     * @return true if the target is reachable, false otherwise
+     */
+    private boolean search(int from, int to) {
+        if (++epoch == 0) {
+            Arrays.fill(visited, 0);
+            epoch = 1;
+        }
+        int size = 0;
+        visited[from] = epoch;
+        stack[size++] = from;
+        while (size > 0) {
+            int c = stack[--size];
+            for (int e = dagOffsets[c]; e < dagOffsets[c + 1]; e++) {
+                int child = dagTargets[e];
+                if (child == to || isTreeDescendant(child, to)) {
+                    return true;
+                }
+                if (child < to && visited[child] != epoch && contains(child, to)) {
+                    visited[child] = epoch;
+                    stack[size++] = child;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Gets the condensation the index is built on.
+     * 
+     * @return The condensation
+     */
+    public Condensation getCondensation() {
+        return condensation;
+    }
+    
+    /**
+     * Gets the number of interval labels per component.
+     * 
+     * @return The label count
+     */
+    public int getLabels() {
+        return labels;
+    }
+    
+    /**
+     * Gets the number of queries answered.
+     * 
+     * @return The query count
+     */
+    public long getQueries() {
+        return queries;
+    }
+    
+    /**
+     * Gets the number of queries the labels could not decide, which needed a search.
+     * 
+     * @return The fallback search count
+     */
+    public long getFallbackSearches() {
+        return fallbackSearches;
+    }
+    
+    /**
+     * Estimates the memory held by the index, including the condensation.
+     * 
+     * @return The estimated size in bytes
+     */
+    public long estimateSizeInBytes() {
+        long components = visited.length;
+        // Vertex mapping, condensed graph with weights, component sizes, labels and scratch
+        return 4L * componentOf.length + 4L * (components + 1) + 8L * dagTargets.length
+                + 4L * components + 4L * intervals.length + 12L * components;
+    }
+    
+    @Override
+    public String getName() {
+        return "Reachability Index (SCC + Interval Labels)";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Condenses strongly connected components into a DAG and labels it with randomized " +
+               "post-order intervals that answer most reachability queries without a search.";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(k(V + E)) to build, O(k) for most queries, O(k(V + E)) worst case";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V + kC + E') for C components and E' condensed edges";
+    }
+    
+    @Override
+    public AlgorithmCategory getCategory() {
+        return AlgorithmCategory.GRAPH;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+import com.algorithmtracker.algorithm.GraphReorderingAlgorithms.Reordering;
+
+/**
+ * Interface for vertex reordering algorithms.
+ * A reordering renumbers the vertices so that vertices accessed together are stored close
+ * together, without changing the structure of the graph.
+ */
+public interface ReorderingAlgorithm extends Algorithm {
+    
+    /**
+     * Renumbers the vertices of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @return The renumbered graph with its forward and inverse permutations
+     */
+    Reordering reorder(CsrGraph graph);
+    
+    /**
+     * Renumbers the vertices of a graph.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @return The renumbered graph with its forward and inverse permutations
+     */
+    default Reordering reorder(Graph graph) {
+        return reorder(CsrGraph.fromGraph(graph));
+    }
+}
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.algorithmtracker.algorithm;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
 /**
  * Implementation of various searching algorithms.
- * Includes Linear Search and Binary Search.
+ * Includes Linear Search, Binary Search, Elias-Fano compressed search, and
+ * search over a concurrent skip list.
  */
 public class SearchingAlgorithms {
     
@@ -148,4 +155,674 @@ public class SearchingAlgorithms {
             return AlgorithmCategory.SEARCHING;
         }
     }
+    
+    /**
+     * Elias-Fano encoded sorted set of integers.
+     * Each value is split into low bits stored verbatim and high bits stored in unary,
+     * which takes roughly 2 + log2(universe / n) bits per element instead of 32.
+     */
+    public static class EliasFanoSet {
+        // One sampled position is kept for every SELECT_SAMPLE_RATE ones (or zeros) of the high bits
+        private static final int SELECT_SAMPLE_RATE = 256;
+        
+        private final int size;
+        private final int minValue;
+        private final long maxOffset;
+        private final int lowBits;
+        private final long lowMask;
+        private final long[] lowWords;
+        private final long[] highWords;
+        private final long[] selectOneSamples;
+        private final long[] selectZeroSamples;
+        
+        /**
+         * Encodes a sorted array as an Elias-Fano set.
+         * 
+         * @param sortedArr The sorted array to encode (duplicates are allowed)
+         * @throws IllegalArgumentException If the array is not sorted in non-decreasing order
+         */
+        public EliasFanoSet(int[] sortedArr) {
+            // Check the order first: the encoding is sized from the last element
+            for (int i = 1; i < sortedArr.length; i++) {
+                if (sortedArr[i] < sortedArr[i - 1]) {
+                    throw new IllegalArgumentException("Array must be sorted in non-decreasing order");
+                }
+            }
+            
+            size = sortedArr.length;
+            minValue = size > 0 ? sortedArr[0] : 0;
+            maxOffset = size > 0 ? (long) sortedArr[size - 1] - minValue : 0;
+            
+            // Choose the number of low bits as floor(log2(universe / n))
+            long universe = maxOffset + 1;
+            int bits = 0;
+            if (size > 0 && universe > size) {
+                bits = 63 - Long.numberOfLeadingZeros(universe / size);
+            }
+            lowBits = bits;
+            lowMask = (1L << lowBits) - 1;
+            
+            lowWords = new long[(int) (((long) size * lowBits + 63) >>> 6) + 1];
+            long highLength = size + (maxOffset >>> lowBits) + 1;
+            highWords = new long[(int) ((highLength + 63) >>> 6)];
+            
+            for (int i = 0; i < size; i++) {
+                long offset = (long) sortedArr[i] - minValue;
+                
+                // Store the low bits verbatim
+                if (lowBits > 0) {
+                    long bitPos = (long) i * lowBits;
+                    int word = (int) (bitPos >>> 6);
+                    int shift = (int) (bitPos & 63);
+                    long low = offset & lowMask;
+                    lowWords[word] |= low << shift;
+                    if (shift + lowBits > 64) {
+                        lowWords[word + 1] |= low >>> (64 - shift);
+                    }
+                }
+                
+                // Store the high bits in unary: bucket (offset >> lowBits) gets a one at position bucket + i
+                long highPos = (offset >>> lowBits) + i;
+                highWords[(int) (highPos >>> 6)] |= 1L << (highPos & 63);
+            }
+            
+            selectOneSamples = sampleSelect(highWords, highLength, true);
+            selectZeroSamples = sampleSelect(highWords, highLength, false);
+        }
+        
+        /**
+         * Records the position of every SELECT_SAMPLE_RATE-th one (or zero) in a bit vector.
+         * 
+         * @param words The bit vector
+         * @param length The number of valid bits
+         * @param ones true to sample ones, false to sample zeros
+         * @return The sampled positions
+         */
+        private static long[] sampleSelect(long[] words, long length, boolean ones) {
+            long count = 0;
+            for (int w = 0; w < words.length; w++) {
+                count += Long.bitCount(ones ? words[w] : ~words[w]);
+            }
+            if (!ones) {
+                // Bits beyond the valid length of the last word are not real zeros
+                count -= ((long) words.length << 6) - length;
+            }
+            
+            long[] samples = new long[(int) ((count + SELECT_SAMPLE_RATE - 1) / SELECT_SAMPLE_RATE)];
+            long seen = 0;
+            int next = 0;
+            for (int w = 0; w < words.length && next < samples.length; w++) {
+                long word = ones ? words[w] : ~words[w];
+                int bits = Long.bitCount(word);
+                
+                // Record every sample that falls inside this word
+                while (next < samples.length && (long) next * SELECT_SAMPLE_RATE < seen + bits) {
+                    int rank = (int) ((long) next * SELECT_SAMPLE_RATE - seen);
+                    samples[next++] = ((long) w << 6) + selectInWord(word, rank);
+                }
+                seen += bits;
+            }
+            return samples;
+        }
+        
+        /**
+         * Finds the position of the k-th set bit (0-based) within a word.
+         * 
+         * @param word The word
+         * @param k The rank of the set bit
+         * @return The bit position
+         */
+        private static int selectInWord(long word, int k) {
+            for (int i = 0; i < k; i++) {
+                word &= word - 1;
+            }
+            return Long.numberOfTrailingZeros(word);
+        }
+        
+        /**
+         * Finds the position of the k-th one (0-based) in the high bits.
+         * 
+         * @param k The rank of the one
+         * @return The bit position
+         */
+        private long selectOne(long k) {
+            long start = selectOneSamples[(int) (k / SELECT_SAMPLE_RATE)];
+            long remaining = k % SELECT_SAMPLE_RATE;
+            int w = (int) (start >>> 6);
+            long word = highWords[w] & (-1L << (start & 63));
+            
+            while (true) {
+                int bits = Long.bitCount(word);
+                if (remaining < bits) {
+                    return ((long) w << 6) + selectInWord(word, (int) remaining);
+                }
+                remaining -= bits;
+                word = highWords[++w];
+            }
+        }
+        
+        /**
+         * Finds the position of the k-th zero (0-based) in the high bits.
+         * 
+         * @param k The rank of the zero
+         * @return The bit position
+         */
+        private long selectZero(long k) {
+            long start = selectZeroSamples[(int) (k / SELECT_SAMPLE_RATE)];
+            long remaining = k % SELECT_SAMPLE_RATE;
+            int w = (int) (start >>> 6);
+            long word = ~highWords[w] & (-1L << (start & 63));
+            
+            while (true) {
+                int bits = Long.bitCount(word);
+                if (remaining < bits) {
+                    return ((long) w << 6) + selectInWord(word, (int) remaining);
+                }
+                remaining -= bits;
+                word = ~highWords[++w];
+            }
+        }
+        
+        /**
+         * Reads the low bits of the element at the specified index.
+         * 
+         * @param index The element index
+         * @return The low bits
+         */
+        private long lowBitsAt(int index) {
+            if (lowBits == 0) {
+                return 0;
+            }
+            long bitPos = (long) index * lowBits;
+            int word = (int) (bitPos >>> 6);
+            int shift = (int) (bitPos & 63);
+            long value = lowWords[word] >>> shift;
+            if (shift + lowBits > 64) {
+                value |= lowWords[word + 1] << (64 - shift);
+            }
+            return value & lowMask;
+        }
+        
+        /**
+         * Gets the element at the specified index.
+         * 
+         * @param index The element index
+         * @return The element value
+         */
+        public int get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            long high = selectOne(index) - index;
+            return (int) (((high << lowBits) | lowBitsAt(index)) + minValue);
+        }
+        
+        /**
+         * Finds the index of the first element greater than or equal to the specified value.
+         * 
+         * @param value The value to look for
+         * @return The index of the successor, or -1 if every element is smaller than the value
+         */
+        public int successorIndex(int value) {
+            long offset = (long) value - minValue;
+            if (size == 0 || offset > maxOffset) {
+                return -1;
+            }
+            if (offset <= 0) {
+                return 0;
+            }
+            
+            // Jump to the start of the bucket holding the value's high bits
+            long bucket = offset >>> lowBits;
+            long pos = bucket == 0 ? 0 : selectZero(bucket - 1) + 1;
+            int index = (int) (pos - bucket);
+            
+            // Scan the bucket; the first element of any later bucket is already larger
+            while (index < size && (highWords[(int) (pos >>> 6)] & (1L << (pos & 63))) != 0) {
+                if (((bucket << lowBits) | lowBitsAt(index)) >= offset) {
+                    return index;
+                }
+                index++;
+                pos++;
+            }
+            return index < size ? index : -1;
+        }
+        
+        /**
+         * Gets the smallest element greater than or equal to the specified value.
+         * 
+         * @param value The value to look for
+         * @return The successor
+         * @throws NoSuchElementException If every element is smaller than the value
+         */
+        public int successor(int value) {
+            int index = successorIndex(value);
+            if (index == -1) {
+                throw new NoSuchElementException("No element greater than or equal to " + value);
+            }
+            return get(index);
+        }
+        
+        /**
+         * Checks whether the set contains the specified value.
+         * 
+         * @param value The value to look for
+         * @return true if the value is present, false otherwise
+         */
+        public boolean contains(int value) {
+            int index = successorIndex(value);
+            return index != -1 && get(index) == value;
+        }
+        
+        /**
+         * Gets the number of encoded elements.
+         * 
+         * @return The number of elements
+         */
+        public int size() {
+            return size;
+        }
+        
+        /**
+         * Gets the number of bytes used by the encoded representation.
+         * 
+         * @return The size in bytes
+         */
+        public long getSizeInBytes() {
+            return 8L * (lowWords.length + highWords.length + selectOneSamples.length + selectZeroSamples.length);
+        }
+        
+        /**
+         * Gets the number of bits used per encoded element.
+         * 
+         * @return The bits per element
+         */
+        public double getBitsPerElement() {
+            return size == 0 ? 0 : getSizeInBytes() * 8.0 / size;
+        }
+    }
+    
+    /**
+     * Elias-Fano compressed search implementation.
+     * Searches a sorted set directly in its compressed form.
+     */
+    public static class EliasFanoSearch implements Algorithm {
+        
+        /**
+         * Compresses a sorted array into an Elias-Fano set.
+         * 
+         * @param arr The sorted array to compress
+         * @return The compressed set
+         */
+        public EliasFanoSet encode(int[] arr) {
+            return new EliasFanoSet(arr);
+        }
+        
+        /**
+         * Searches for a target value in an Elias-Fano set.
+         * 
+         * @param set The compressed set to search in
+         * @param target The value to search for
+         * @return The index of the first occurrence of the target if found, -1 otherwise
+         */
+        public int search(EliasFanoSet set, int target) {
+            int index = set.successorIndex(target);
+            
+            if (index != -1 && set.get(index) == target) {
+                return index;
+            }
+            
+            // Target not found
+            return -1;
+        }
+        
+        @Override
+        public String getName() {
+            return "Elias-Fano Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Searches a sorted set stored in Elias-Fano compressed form, using select on the unary-coded high bits to jump to the target's bucket.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(1 + log(u / n)) per query after O(n) encoding";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "n(2 + log(u / n)) bits";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Lock-free ordered set of integers based on a skip list.
+     * Supports concurrent insert, delete, and search from multiple threads; nodes are
+     * logically deleted by marking their next references before being physically unlinked.
+     */
+    public static class ConcurrentIntSkipList {
+        private static final int MAX_LEVEL = 32;
+        
+        private final Node head;
+        private final Node tail;
+        private final AtomicInteger size = new AtomicInteger();
+        
+        /**
+         * Constructs an empty skip list.
+         */
+        public ConcurrentIntSkipList() {
+            // Sentinel keys lie outside the int range so every int value can be stored
+            head = new Node(Long.MIN_VALUE, MAX_LEVEL - 1);
+            tail = new Node(Long.MAX_VALUE, MAX_LEVEL - 1);
+            for (int level = 0; level < MAX_LEVEL; level++) {
+                head.next[level] = new AtomicMarkableReference<>(tail, false);
+            }
+        }
+        
+        /**
+         * Constructs a skip list containing the values of an array.
+         * 
+         * @param arr The values to insert
+         */
+        public ConcurrentIntSkipList(int[] arr) {
+            this();
+            for (int value : arr) {
+                add(value);
+            }
+        }
+        
+        /**
+         * Picks a random level with a geometric distribution (p = 1/2).
+         * 
+         * @return The level
+         */
+        private static int randomLevel() {
+            int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+            return Integer.numberOfTrailingZeros(bits);
+        }
+        
+        /**
+         * Locates the predecessors and successors of a key on every level,
+         * unlinking marked nodes along the way.
+         * 
+         * @param key The key to look for
+         * @param preds Array to fill with the predecessor on each level
+         * @param succs Array to fill with the successor on each level
+         * @return true if an unmarked node with the key was found, false otherwise
+         */
+        private boolean find(long key, Node[] preds, Node[] succs) {
+            boolean[] marked = {false};
+            
+            retry:
+            while (true) {
+                Node pred = head;
+                for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                    Node curr = pred.next[level].getReference();
+                    while (true) {
+                        Node succ = curr.next[level].get(marked);
+                        
+                        // Physically remove logically deleted nodes
+                        while (marked[0]) {
+                            if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+                                continue retry;
+                            }
+                            curr = pred.next[level].getReference();
+                            succ = curr.next[level].get(marked);
+                        }
+                        
+                        if (curr.key < key) {
+                            pred = curr;
+                            curr = succ;
+                        } else {
+                            break;
+                        }
+                    }
+                    preds[level] = pred;
+                    succs[level] = curr;
+                }
+                return succs[0].key == key;
+            }
+        }
+        
+        /**
+         * Inserts a value into the set.
+         * 
+         * @param value The value to insert
+         * @return true if the value was inserted, false if it was already present
+         */
+        public boolean add(int value) {
+            int topLevel = randomLevel();
+            Node[] preds = new Node[MAX_LEVEL];
+            Node[] succs = new Node[MAX_LEVEL];
+            
+            while (true) {
+                if (find(value, preds, succs)) {
+                    return false;
+                }
+                
+                Node node = new Node(value, topLevel);
+                for (int level = 0; level <= topLevel; level++) {
+                    node.next[level] = new AtomicMarkableReference<>(succs[level], false);
+                }
+                
+                // The node becomes part of the set once it is linked on the bottom level
+                if (!preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+                    continue;
+                }
+                size.incrementAndGet();
+                
+                // Link the upper levels, refreshing predecessors when a CAS fails. The node's own
+                // forward pointer is refreshed too, or nodes inserted in between would be skipped
+                for (int level = 1; level <= topLevel; level++) {
+                    while (true) {
+                        if (preds[level].next[level].compareAndSet(succs[level], node, false, false)) {
+                            break;
+                        }
+                        // Stop linking once the node has been removed by another thread
+                        if (!find(value, preds, succs) || succs[0] != node) {
+                            return true;
+                        }
+                        Node stale = node.next[level].getReference();
+                        if (!node.next[level].compareAndSet(stale, succs[level], false, false)) {
+                            return true;
+                        }
+                    }
+                }
+                return true;
+            }
+        }
+        
+        /**
+         * Removes a value from the set.
+         * 
+         * @param value The value to remove
+         * @return true if the value was removed, false if it was not present
+         */
+        public boolean remove(int value) {
+            Node[] preds = new Node[MAX_LEVEL];
+            Node[] succs = new Node[MAX_LEVEL];
+            boolean[] marked = {false};
+            
+            if (!find(value, preds, succs)) {
+                return false;
+            }
+            Node victim = succs[0];
+            
+            // Mark the upper levels first so no new node is linked after the victim there
+            for (int level = victim.topLevel; level >= 1; level--) {
+                Node succ = victim.next[level].get(marked);
+                while (!marked[0]) {
+                    victim.next[level].compareAndSet(succ, succ, false, true);
+                    succ = victim.next[level].get(marked);
+                }
+            }
+            
+            // Whoever marks the bottom level owns the removal
+            Node succ = victim.next[0].get(marked);
+            while (true) {
+                boolean iMarkedIt = victim.next[0].compareAndSet(succ, succ, false, true);
+                succ = succs[0].next[0].get(marked);
+                if (iMarkedIt) {
+                    size.decrementAndGet();
+                    find(value, preds, succs);
+                    return true;
+                } else if (marked[0]) {
+                    return false;
+                }
+            }
+        }
+        
+        /**
+         * Checks whether the set contains a value. This operation never modifies the list.
+         * 
+         * @param value The value to look for
+         * @return true if the value is present, false otherwise
+         */
+        public boolean contains(int value) {
+            boolean[] marked = {false};
+            Node pred = head;
+            Node curr = null;
+            
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = pred.next[level].getReference();
+                while (true) {
+                    Node succ = curr.next[level].get(marked);
+                    
+                    // Skip over logically deleted nodes
+                    while (marked[0]) {
+                        curr = succ;
+                        succ = curr.next[level].get(marked);
+                    }
+                    
+                    if (curr.key < value) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+            }
+            return curr.key == value;
+        }
+        
+        /**
+         * Gets the number of values in the set.
+         * 
+         * @return The number of values
+         */
+        public int size() {
+            return size.get();
+        }
+        
+        /**
+         * Copies the values currently in the set into a sorted array.
+         * The snapshot is only exact when no other thread modifies the set.
+         * 
+         * @return The sorted values
+         */
+        public int[] toSortedArray() {
+            int[] values = new int[size()];
+            int count = 0;
+            boolean[] marked = {false};
+            Node curr = head.next[0].getReference();
+            
+            while (curr != tail) {
+                Node succ = curr.next[0].get(marked);
+                if (!marked[0]) {
+                    if (count == values.length) {
+                        values = Arrays.copyOf(values, count * 2 + 1);
+                    }
+                    values[count++] = (int) curr.key;
+                }
+                curr = succ;
+            }
+            return Arrays.copyOf(values, count);
+        }
+        
+        /**
+         * Represents a skip list node holding one value.
+         */
+        private static class Node {
+            private final long key;
+            private final int topLevel;
+            private final AtomicMarkableReference<Node>[] next;
+            
+            /**
+             * Constructs a node with the specified key and height.
+             * 
+             * @param key The key
+             * @param topLevel The highest level the node is linked on
+             */
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Node(long key, int topLevel) {
+                this.key = key;
+                this.topLevel = topLevel;
+                this.next = (AtomicMarkableReference<Node>[]) new AtomicMarkableReference[topLevel + 1];
+                for (int level = 0; level <= topLevel; level++) {
+                    next[level] = new AtomicMarkableReference<>(null, false);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Concurrent skip list search implementation.
+     * Unlike Binary Search, the underlying set stays sorted while values are inserted and
+     * deleted concurrently, so no rebuild or re-sort is needed.
+     */
+    public static class SkipListSearch implements Algorithm {
+        
+        /**
+         * Builds a concurrent skip list from an array.
+         * 
+         * @param arr The values to insert (need not be sorted)
+         * @return The skip list
+         */
+        public ConcurrentIntSkipList build(int[] arr) {
+            return new ConcurrentIntSkipList(arr);
+        }
+        
+        /**
+         * Searches for a target value in a concurrent skip list.
+         * 
+         * @param list The skip list to search in
+         * @param target The value to search for
+         * @return true if the target is present, false otherwise
+         */
+        public boolean search(ConcurrentIntSkipList list, int target) {
+            return list.contains(target);
+        }
+        
+        @Override
+        public String getName() {
+            return "Concurrent Skip List Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Searches a lock-free skip list that supports concurrent inserts and deletes, descending through sparser express lanes towards the target.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(log n) expected for search, insert, and delete";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n) expected";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+/**
+ * Interface for single-source shortest path algorithms.
+ * Lets interchangeable implementations be selected and compared on the same graph.
+ */
+public interface ShortestPathAlgorithm extends Algorithm {
+    
+    /**
+     * Finds the shortest paths from the source vertex to all other vertices of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @param sourceVertex The source vertex
+     * @return An array of shortest distances, with Integer.MAX_VALUE for unreachable vertices
+     */
+    int[] findShortestPaths(CsrGraph graph, int sourceVertex);
+    
+    /**
+     * Finds the shortest paths from the source vertex to all other vertices.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @param sourceVertex The source vertex
+     * @return An array of shortest distances, with Integer.MAX_VALUE for unreachable vertices
+     */
+    default int[] findShortestPaths(Graph graph, int sourceVertex) {
+        return findShortestPaths(CsrGraph.fromGraph(graph), sourceVertex);
+    }
+}
\ No newline at end of file
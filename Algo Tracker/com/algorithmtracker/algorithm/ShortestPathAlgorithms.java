@@ -0,0 +1,1034 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.MappedCsrGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implementation of priority-queue based single-source shortest path algorithms.
+ * Includes Dijkstra's Algorithm over a lazy-deletion binary heap, an indexed d-ary heap,
+ * Dial's bucket queue, and a radix heap, plus parallel delta-stepping. All variants work on
+ * CSR graphs with primitive arrays and expect non-negative integer edge weights.
+ */
+public class ShortestPathAlgorithms {
+    
+    /**
+     * Dijkstra's Algorithm with a binary heap and lazy deletion.
+     * Instead of decreasing keys, an improved vertex is pushed again and stale entries are
+     * skipped when popped. Entries pack (distance, vertex) into one long so the heap stays primitive.
+     */
+    public static class BinaryHeapDijkstra implements ShortestPathAlgorithm {
+        
+        @Override
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            long[] heap = new long[Math.max(16, graph.getVertices())];
+            int size = 0;
+            heap[size++] = sourceVertex;
+            
+            while (size > 0) {
+                // Pop the minimum entry and restore the heap order
+                long top = heap[0];
+                heap[0] = heap[--size];
+                siftDown(heap, size, 0);
+                
+                int u = (int) top;
+                int distance = (int) (top >>> 32);
+                
+                // Skip entries made stale by a later improvement
+                if (distance > distances[u]) {
+                    continue;
+                }
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = (long) distance + weights[e];
+                    if (candidate < distances[v]) {
+                        distances[v] = (int) candidate;
+                        if (size == heap.length) {
+                            heap = Arrays.copyOf(heap, size * 2);
+                        }
+                        heap[size] = (candidate << 32) | v;
+                        siftUp(heap, size++);
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Finds the shortest paths from the source vertex of a buffer-backed CSR graph,
+         * reading edges in place.
+         * 
+         * @param graph The mapped CSR graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances, with Integer.MAX_VALUE for unreachable vertices
+         */
+        public int[] findShortestPaths(MappedCsrGraph graph, int sourceVertex) {
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            long[] heap = new long[Math.max(16, graph.getVertices())];
+            int size = 0;
+            heap[size++] = sourceVertex;
+            
+            while (size > 0) {
+                long top = heap[0];
+                heap[0] = heap[--size];
+                siftDown(heap, size, 0);
+                
+                int u = (int) top;
+                int distance = (int) (top >>> 32);
+                if (distance > distances[u]) {
+                    continue;
+                }
+                
+                int end = graph.getOffset(u + 1);
+                for (int e = graph.getOffset(u); e < end; e++) {
+                    int v = graph.getTarget(e);
+                    long candidate = (long) distance + graph.getWeight(e);
+                    if (candidate < distances[v]) {
+                        distances[v] = (int) candidate;
+                        if (size == heap.length) {
+                            heap = Arrays.copyOf(heap, size * 2);
+                        }
+                        heap[size] = (candidate << 32) | v;
+                        siftUp(heap, size++);
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Moves an entry up until its parent is not larger.
+         * 
+         * @param heap The heap array
+         * @param index The index of the entry
+         */
+        private void siftUp(long[] heap, int index) {
+            long entry = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= entry) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = entry;
+        }
+        
+        /**
+         * Moves an entry down until neither child is smaller.
+         * 
+         * @param heap The heap array
+         * @param size The number of entries in the heap
+         * @param index The index of the entry
+         */
+        private void siftDown(long[] heap, int size, int index) {
+            long entry = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (entry <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = entry;
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (Binary Heap)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's Algorithm with a binary min-heap; improved vertices are pushed again and outdated heap entries are skipped when popped.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O((V + E) log E)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm with an indexed d-ary heap supporting decrease-key.
+     * Each vertex is in the heap at most once; a position array lets its key be decreased in place.
+     */
+    public static class DaryHeapDijkstra implements ShortestPathAlgorithm {
+        private final int arity;
+        
+        /**
+         * Constructs the algorithm with a 4-ary heap.
+         */
+        public DaryHeapDijkstra() {
+            this(4);
+        }
+        
+        /**
+         * Constructs the algorithm with a heap of the specified arity.
+         * 
+         * @param arity The number of children per heap node (at least 2)
+         */
+        public DaryHeapDijkstra(int arity) {
+            if (arity < 2) {
+                throw new IllegalArgumentException("Heap arity must be at least 2");
+            }
+            this.arity = arity;
+        }
+        
+        @Override
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[vertices];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            // heap holds vertices ordered by distance; position[v] is v's slot, or -1 if not in the heap
+            int[] heap = new int[vertices];
+            int[] position = new int[vertices];
+            Arrays.fill(position, -1);
+            int size = 0;
+            
+            heap[0] = sourceVertex;
+            position[sourceVertex] = 0;
+            size++;
+            
+            while (size > 0) {
+                int u = heap[0];
+                position[u] = -1;
+                size--;
+                if (size > 0) {
+                    heap[0] = heap[size];
+                    position[heap[0]] = 0;
+                    siftDown(heap, position, distances, size, 0);
+                }
+                
+                int distance = distances[u];
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = (long) distance + weights[e];
+                    if (candidate < distances[v]) {
+                        distances[v] = (int) candidate;
+                        if (position[v] == -1) {
+                            heap[size] = v;
+                            position[v] = size;
+                            size++;
+                        }
+                        // Decrease-key: the vertex can only move towards the root
+                        siftUp(heap, position, distances, position[v]);
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Moves a vertex up until its parent's distance is not larger.
+         * 
+         * @param heap The heap array
+         * @param position The heap slot of each vertex
+         * @param distances The vertex keys
+         * @param index The slot of the vertex
+         */
+        private void siftUp(int[] heap, int[] position, int[] distances, int index) {
+            int vertex = heap[index];
+            int key = distances[vertex];
+            while (index > 0) {
+                int parent = (index - 1) / arity;
+                if (distances[heap[parent]] <= key) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                position[heap[index]] = index;
+                index = parent;
+            }
+            heap[index] = vertex;
+            position[vertex] = index;
+        }
+        
+        /**
+         * Moves a vertex down until none of its children has a smaller distance.
+         * 
+         * @param heap The heap array
+         * @param position The heap slot of each vertex
+         * @param distances The vertex keys
+         * @param size The number of vertices in the heap
+         * @param index The slot of the vertex
+         */
+        private void siftDown(int[] heap, int[] position, int[] distances, int size, int index) {
+            int vertex = heap[index];
+            int key = distances[vertex];
+            while (true) {
+                int first = index * arity + 1;
+                if (first >= size) {
+                    break;
+                }
+                
+                // Find the smallest of up to d children
+                int best = first;
+                int last = Math.min(first + arity, size);
+                for (int child = first + 1; child < last; child++) {
+                    if (distances[heap[child]] < distances[heap[best]]) {
+                        best = child;
+                    }
+                }
+                if (key <= distances[heap[best]]) {
+                    break;
+                }
+                heap[index] = heap[best];
+                position[heap[index]] = index;
+                index = best;
+            }
+            heap[index] = vertex;
+            position[vertex] = index;
+        }
+        
+        /**
+         * Gets the heap arity.
+         * 
+         * @return The number of children per heap node
+         */
+        public int getArity() {
+            return arity;
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (" + arity + "-ary Heap)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's Algorithm with an indexed d-ary min-heap over primitive arrays; shorter paths decrease the vertex's key in place.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V d log_d V + E log_d V)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm with Dial's bucket queue.
+     * Tentative distances are kept in maxWeight + 1 circular buckets: every vertex in the queue has
+     * a distance in [current, current + maxWeight], so bucket (distance mod (maxWeight + 1)) is unique.
+     * Buckets are intrusive doubly linked lists over per-vertex arrays, giving O(1) decrease-key.
+     * Weights above MAX_BUCKETS - 1 would need an impractically large bucket array, so such graphs
+     * are rejected; the binary or radix heap variants handle any weight.
+     */
+    public static class DialDijkstra implements ShortestPathAlgorithm {
+        // Largest bucket array allocated, 4 MB of bucket heads
+        public static final int MAX_BUCKETS = 1 << 20;
+        
+        /**
+         * Finds the shortest paths from the source vertex with a circular bucket queue.
+         * 
+         * @param graph The CSR graph
+         * @param sourceVertex The source vertex
+         * @return An array of shortest distances from the source vertex to all other vertices
+         * @throws IllegalArgumentException If an edge weight is MAX_BUCKETS or more
+         */
+        @Override
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            long buckets = (long) maxWeight(weights) + 1;
+            if (buckets > MAX_BUCKETS) {
+                throw new IllegalArgumentException("Dial's buckets need edge weights below " + MAX_BUCKETS
+                        + ": maximum weight is " + (buckets - 1));
+            }
+            int bucketCount = (int) buckets;
+            
+            int[] distances = new int[vertices];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            // head[b] is the first vertex in bucket b; next/prev link the vertices of a bucket (-1 = none)
+            int[] head = new int[bucketCount];
+            int[] next = new int[vertices];
+            int[] prev = new int[vertices];
+            boolean[] queued = new boolean[vertices];
+            Arrays.fill(head, -1);
+            
+            link(head, next, prev, 0, sourceVertex);
+            queued[sourceVertex] = true;
+            int queuedCount = 1;
+            long current = 0;
+            
+            while (queuedCount > 0) {
+                int bucket = (int) (current % bucketCount);
+                int u = head[bucket];
+                if (u == -1) {
+                    current++;
+                    continue;
+                }
+                
+                unlink(head, next, prev, bucket, u);
+                queued[u] = false;
+                queuedCount--;
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = current + weights[e];
+                    if (candidate < distances[v]) {
+                        if (queued[v]) {
+                            unlink(head, next, prev, distances[v] % bucketCount, v);
+                        } else {
+                            queued[v] = true;
+                            queuedCount++;
+                        }
+                        distances[v] = (int) candidate;
+                        link(head, next, prev, (int) (candidate % bucketCount), v);
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Inserts a vertex at the front of a bucket.
+         * 
+         * @param head The bucket heads
+         * @param next The next links
+         * @param prev The previous links
+         * @param bucket The bucket
+         * @param vertex The vertex
+         */
+        private void link(int[] head, int[] next, int[] prev, int bucket, int vertex) {
+            next[vertex] = head[bucket];
+            prev[vertex] = -1;
+            if (head[bucket] != -1) {
+                prev[head[bucket]] = vertex;
+            }
+            head[bucket] = vertex;
+        }
+        
+        /**
+         * Removes a vertex from a bucket.
+         * 
+         * @param head The bucket heads
+         * @param next The next links
+         * @param prev The previous links
+         * @param bucket The bucket
+         * @param vertex The vertex
+         */
+        private void unlink(int[] head, int[] next, int[] prev, int bucket, int vertex) {
+            if (prev[vertex] == -1) {
+                head[bucket] = next[vertex];
+            } else {
+                next[prev[vertex]] = next[vertex];
+            }
+            if (next[vertex] != -1) {
+                prev[next[vertex]] = prev[vertex];
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (Dial's Buckets)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's Algorithm with a circular array of C + 1 buckets indexed by distance, for integer edge weights bounded by C.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(E + V * C) where C is the maximum edge weight";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + C)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Dijkstra's Algorithm with a radix heap.
+     * Exploits that extracted keys never decrease: an entry lives in the bucket given by the highest
+     * bit in which its key differs from the last extracted key, so each entry moves down at most
+     * 32 times. Stale entries are skipped lazily, as in the binary heap variant.
+     */
+    public static class RadixHeapDijkstra implements ShortestPathAlgorithm {
+        private static final int BUCKETS = Integer.SIZE + 1;
+        
+        @Override
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] distances = new int[graph.getVertices()];
+            Arrays.fill(distances, Integer.MAX_VALUE);
+            distances[sourceVertex] = 0;
+            
+            // Each bucket holds parallel growable arrays of keys and vertices
+            int[][] keys = new int[BUCKETS][16];
+            int[][] items = new int[BUCKETS][16];
+            int[] sizes = new int[BUCKETS];
+            int last = 0;
+            int size = 0;
+            
+            keys[0][0] = 0;
+            items[0][0] = sourceVertex;
+            sizes[0] = 1;
+            size++;
+            
+            while (size > 0) {
+                if (sizes[0] == 0) {
+                    // Find the first non-empty bucket and make its minimum the new reference key
+                    int b = 1;
+                    while (sizes[b] == 0) {
+                        b++;
+                    }
+                    int min = Integer.MAX_VALUE;
+                    for (int i = 0; i < sizes[b]; i++) {
+                        min = Math.min(min, keys[b][i]);
+                    }
+                    last = min;
+                    
+                    // Redistribute; every entry lands in a strictly lower bucket
+                    int count = sizes[b];
+                    sizes[b] = 0;
+                    for (int i = 0; i < count; i++) {
+                        int key = keys[b][i];
+                        int target = bucketOf(key, last);
+                        push(keys, items, sizes, target, key, items[b][i]);
+                    }
+                }
+                
+                int u = items[0][--sizes[0]];
+                size--;
+                
+                // Skip entries made stale by a later improvement
+                if (last > distances[u]) {
+                    continue;
+                }
+                
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long candidate = (long) last + weights[e];
+                    if (candidate < distances[v]) {
+                        distances[v] = (int) candidate;
+                        push(keys, items, sizes, bucketOf((int) candidate, last), (int) candidate, v);
+                        size++;
+                    }
+                }
+            }
+            
+            return distances;
+        }
+        
+        /**
+         * Gets the bucket of a key relative to the last extracted key.
+         * 
+         * @param key The key
+         * @param last The last extracted key
+         * @return The bucket index
+         */
+        private int bucketOf(int key, int last) {
+            return key == last ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(key ^ last);
+        }
+        
+        /**
+         * Appends an entry to a bucket, growing the bucket's arrays if needed.
+         * 
+         * @param keys The bucket keys
+         * @param items The bucket vertices
+         * @param sizes The bucket sizes
+         * @param bucket The bucket
+         * @param key The key
+         * @param vertex The vertex
+         */
+        private void push(int[][] keys, int[][] items, int[] sizes, int bucket, int key, int vertex) {
+            int size = sizes[bucket];
+            if (size == keys[bucket].length) {
+                keys[bucket] = Arrays.copyOf(keys[bucket], size * 2);
+                items[bucket] = Arrays.copyOf(items[bucket], size * 2);
+            }
+            keys[bucket][size] = key;
+            items[bucket][size] = vertex;
+            sizes[bucket] = size + 1;
+        }
+        
+        @Override
+        public String getName() {
+            return "Dijkstra (Radix Heap)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Dijkstra's Algorithm with a monotone radix heap whose buckets are keyed by the highest bit differing from the last extracted distance.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(E + V log C) where C is the maximum edge weight";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Parallel delta-stepping (Meyer and Sanders).
+     * Vertices are grouped into buckets of distance width delta and the lowest non-empty bucket
+     * is settled at a time. Edges of weight at most delta are light and may refill the current
+     * bucket, so they are relaxed in parallel rounds until it stays empty; heavy edges can only
+     * reach later buckets and are relaxed once per settled vertex afterwards. Relaxations run on
+     * a ForkJoinPool and lower distances with an atomic compare-and-set minimum.
+     * A small delta approaches Dijkstra's Algorithm; a large one approaches Bellman-Ford.
+     * Buckets live in a circular array of at most MAX_BUCKETS slots, so a delta that is tiny
+     * compared with the weights is widened to fit, and an occupancy bitmap lets the search jump
+     * straight to the next non-empty bucket.
+     */
+    public static class DeltaSteppingShortestPaths implements ShortestPathAlgorithm {
+        // Largest circular bucket array; deltas below maxWeight / (MAX_BUCKETS - 1) are widened
+        public static final int MAX_BUCKETS = 1 << 16;
+        // Frontier vertices per parallel chunk
+        private static final int VERTEX_GRAIN = 256;
+        
+        private final int delta;
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs the algorithm with an automatically chosen delta and one thread per
+         * available processor.
+         */
+        public DeltaSteppingShortestPaths() {
+            this(0);
+        }
+        
+        /**
+         * Constructs the algorithm with the specified delta and one thread per available processor.
+         * 
+         * @param delta The bucket width, or 0 to choose it from the graph
+         */
+        public DeltaSteppingShortestPaths(int delta) {
+            this(delta, Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs the algorithm with the specified delta and number of threads.
+         * 
+         * @param delta The bucket width, or 0 to choose it from the graph
+         * @param threads The number of worker threads
+         */
+        public DeltaSteppingShortestPaths(int delta, int threads) {
+            if (delta < 0) {
+                throw new IllegalArgumentException("Delta must be non-negative");
+            }
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.delta = delta;
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the configured bucket width.
+         * 
+         * @return The delta, or 0 if it is chosen from the graph
+         */
+        public int getDelta() {
+            return delta;
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        /**
+         * Gets the bucket width used for a graph.
+         * When no delta was configured, uses the maximum weight divided by the average degree,
+         * which keeps the expected number of light-edge rounds per bucket small. Either way the
+         * width is raised if needed so the weights span at most MAX_BUCKETS buckets.
+         * 
+         * @param graph The CSR graph
+         * @return The bucket width
+         */
+        public int getDelta(CsrGraph graph) {
+            return resolveDelta(graph, maxWeight(graph.getWeights()));
+        }
+        
+        @Override
+        public int[] findShortestPaths(CsrGraph graph, int sourceVertex) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int maxWeight = maxWeight(weights);
+            int width = resolveDelta(graph, maxWeight);
+            
+            // Live tentative distances span at most maxWeight / width + 2 consecutive buckets,
+            // which resolveDelta keeps within MAX_BUCKETS
+            int bucketCount = (int) ((long) maxWeight / width + 2);
+            VertexBag[] buckets = new VertexBag[bucketCount];
+            long[] occupied = new long[(bucketCount + 63) >>> 6];
+            
+            AtomicIntegerArray distances = new AtomicIntegerArray(vertices);
+            for (int v = 0; v < vertices; v++) {
+                distances.set(v, Integer.MAX_VALUE);
+            }
+            distances.set(sourceVertex, 0);
+            buckets[0] = new VertexBag();
+            buckets[0].add(sourceVertex);
+            occupied[0] = 1L;
+            int occupiedSlots = 1;
+            
+            // Stamps that keep a vertex from being expanded twice in one round or settled twice in one bucket
+            int[] roundStamp = new int[vertices];
+            int[] settledStamp = new int[vertices];
+            int round = 0;
+            VertexBag settled = new VertexBag();
+            RelaxationBuffer updates = new RelaxationBuffer();
+            
+            int current = 0;
+            while (occupiedSlots > 0) {
+                int slot = current % bucketCount;
+                VertexBag bucket = buckets[slot];
+                settled.size = 0;
+                
+                // Light edges can refill the current bucket, so relax them until it stays empty
+                while (bucket.size > 0) {
+                    round++;
+                    int[] frontier = new int[bucket.size];
+                    int frontierSize = 0;
+                    for (int i = 0; i < bucket.size; i++) {
+                        int v = bucket.items[i];
+                        // Skip entries for vertices that have since moved to an earlier bucket
+                        if (distances.get(v) / width != current || roundStamp[v] == round) {
+                            continue;
+                        }
+                        roundStamp[v] = round;
+                        frontier[frontierSize++] = v;
+                        if (settledStamp[v] != current + 1) {
+                            settledStamp[v] = current + 1;
+                            settled.add(v);
+                        }
+                    }
+                    bucket.size = 0;
+                    
+                    relax(frontier, frontierSize, offsets, targets, weights, distances, width, true, updates);
+                    occupiedSlots += distribute(updates, distances, buckets, occupied, width);
+                }
+                
+                // Heavy edges only reach later buckets, so each settled vertex relaxes them once
+                relax(settled.items, settled.size, offsets, targets, weights, distances, width, false, updates);
+                occupiedSlots += distribute(updates, distances, buckets, occupied, width);
+                
+                // The current bucket stays empty from here, so jump to the next occupied one
+                occupied[slot >>> 6] &= ~(1L << slot);
+                occupiedSlots--;
+                if (occupiedSlots > 0) {
+                    int nextSlot = nextOccupied(occupied, slot + 1 == bucketCount ? 0 : slot + 1);
+                    current += nextSlot > slot ? nextSlot - slot : nextSlot + bucketCount - slot;
+                }
+            }
+            
+            int[] result = new int[vertices];
+            for (int v = 0; v < vertices; v++) {
+                result[v] = distances.get(v);
+            }
+            return result;
+        }
+        
+        /**
+         * Relaxes the light or heavy edges of the frontier vertices in parallel.
+         * Every successful distance update is recorded in the buffer.
+         * 
+         * @param frontier The vertices whose edges are relaxed
+         * @param size The number of frontier vertices
+         * @param offsets The CSR offsets
+         * @param targets The CSR targets
+         * @param weights The CSR weights
+         * @param distances The tentative distances
+         * @param width The bucket width
+         * @param light true to relax edges of weight at most width, false for the heavier ones
+         * @param updates The buffer receiving (vertex, distance) updates
+         */
+        private void relax(int[] frontier, int size, int[] offsets, int[] targets, int[] weights,
+                AtomicIntegerArray distances, int width, boolean light, RelaxationBuffer updates) {
+            updates.size = 0;
+            ParallelLoop.forRange(pool, 0, size, VERTEX_GRAIN, (start, end) -> {
+                RelaxationBuffer local = new RelaxationBuffer();
+                for (int i = start; i < end; i++) {
+                    int u = frontier[i];
+                    long distance = distances.get(u);
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        if ((weights[e] <= width) != light) {
+                            continue;
+                        }
+                        int v = targets[e];
+                        long candidate = distance + weights[e];
+                        if (candidate < Integer.MAX_VALUE && lowerTo(distances, v, (int) candidate)) {
+                            local.add(v, (int) candidate);
+                        }
+                    }
+                }
+                updates.addAll(local);
+            });
+        }
+        
+        /**
+         * Places updated vertices into the buckets of their new distances.
+         * Only a vertex's latest update is still current, so older ones are dropped here.
+         * 
+         * @param updates The (vertex, distance) updates
+         * @param distances The tentative distances
+         * @param buckets The circular bucket array
+         * @param occupied The bitmap of bucket slots holding entries
+         * @param width The bucket width
+         * @return The number of slots that became occupied
+         */
+        private int distribute(RelaxationBuffer updates, AtomicIntegerArray distances, VertexBag[] buckets,
+                long[] occupied, int width) {
+            int newlyOccupied = 0;
+            for (int i = 0; i < updates.size; i++) {
+                int v = updates.vertices[i];
+                int distance = updates.distances[i];
+                if (distances.get(v) != distance) {
+                    continue;
+                }
+                int slot = (distance / width) % buckets.length;
+                if (buckets[slot] == null) {
+                    buckets[slot] = new VertexBag();
+                }
+                buckets[slot].add(v);
+                if ((occupied[slot >>> 6] & (1L << slot)) == 0) {
+                    occupied[slot >>> 6] |= 1L << slot;
+                    newlyOccupied++;
+                }
+            }
+            return newlyOccupied;
+        }
+        
+        /**
+         * Finds the first occupied slot at or after a slot, wrapping around the circular array.
+         * 
+         * @param occupied The bitmap of bucket slots holding entries
+         * @param from The slot to start from
+         * @return The occupied slot, or -1 if there is none
+         */
+        private static int nextOccupied(long[] occupied, int from) {
+            int word = from >>> 6;
+            long bits = occupied[word] & (-1L << from);
+            // One extra word revisits the start word, whose low bits come last in circular order
+            for (int i = 0; i <= occupied.length; i++) {
+                if (bits != 0) {
+                    return (word << 6) + Long.numberOfTrailingZeros(bits);
+                }
+                word = word + 1 == occupied.length ? 0 : word + 1;
+                bits = occupied[word];
+            }
+            return -1;
+        }
+        
+        /**
+         * Atomically lowers a distance if the candidate is smaller.
+         * 
+         * @param distances The tentative distances
+         * @param vertex The vertex
+         * @param candidate The candidate distance
+         * @return true if this call lowered the distance, false otherwise
+         */
+        private static boolean lowerTo(AtomicIntegerArray distances, int vertex, int candidate) {
+            int old = distances.get(vertex);
+            while (candidate < old) {
+                if (distances.compareAndSet(vertex, old, candidate)) {
+                    return true;
+                }
+                old = distances.get(vertex);
+            }
+            return false;
+        }
+        
+        /**
+         * Resolves the bucket width for a graph.
+         * 
+         * @param graph The CSR graph
+         * @param maxWeight The largest edge weight
+         * @return The configured or derived delta, widened so the weights span at most MAX_BUCKETS buckets
+         */
+        private int resolveDelta(CsrGraph graph, int maxWeight) {
+            int width = delta;
+            if (width == 0) {
+                long averageDegree = graph.getVertices() == 0 ? 1 : Math.max(1, (long) graph.getEdgeCount() / graph.getVertices());
+                width = (int) Math.max(1, maxWeight / averageDegree);
+            }
+            // Smallest width for which maxWeight / width + 2 buckets fit in MAX_BUCKETS
+            return Math.max(width, maxWeight / (MAX_BUCKETS - 1) + 1);
+        }
+        
+        @Override
+        public String getName() {
+            return delta > 0 ? "Delta-Stepping (delta = " + delta + ")" : "Delta-Stepping (Parallel)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Parallel single-source shortest paths that settles distance buckets of width delta, relaxing light and heavy edges in parallel with atomic minimum updates.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(V + E + L / delta) expected work for random weights, where L is the largest distance";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E + C / delta) where C is the maximum edge weight";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+        
+        /**
+         * A growable array of vertices forming one bucket.
+         */
+        private static class VertexBag {
+            private int[] items = new int[16];
+            private int size;
+            
+            /**
+             * Appends a vertex.
+             * 
+             * @param vertex The vertex
+             */
+            void add(int vertex) {
+                if (size == items.length) {
+                    items = Arrays.copyOf(items, size * 2);
+                }
+                items[size++] = vertex;
+            }
+        }
+        
+        /**
+         * A growable list of (vertex, distance) updates.
+         * Parallel chunks fill private buffers and merge them once, under the shared buffer's lock.
+         */
+        private static class RelaxationBuffer {
+            private int[] vertices = new int[16];
+            private int[] distances = new int[16];
+            private int size;
+            
+            /**
+             * Appends an update.
+             * 
+             * @param vertex The vertex
+             * @param distance Its new distance
+             */
+            void add(int vertex, int distance) {
+                if (size == vertices.length) {
+                    vertices = Arrays.copyOf(vertices, size * 2);
+                    distances = Arrays.copyOf(distances, size * 2);
+                }
+                vertices[size] = vertex;
+                distances[size] = distance;
+                size++;
+            }
+            
+            /**
+             * Appends all updates of another buffer.
+             * 
+             * @param other The buffer to copy from
+             */
+            synchronized void addAll(RelaxationBuffer other) {
+                if (size + other.size > vertices.length) {
+                    int capacity = Math.max(size + other.size, vertices.length * 2);
+                    vertices = Arrays.copyOf(vertices, capacity);
+                    distances = Arrays.copyOf(distances, capacity);
+                }
+                System.arraycopy(other.vertices, 0, vertices, size, other.size);
+                System.arraycopy(other.distances, 0, distances, size, other.size);
+                size += other.size;
+            }
+        }
+    }
+    
+    /**
+     * Finds the largest edge weight, rejecting negative weights.
+     * 
+     * @param weights The edge weights
+     * @return The maximum weight (0 for a graph without edges)
+     */
+    private static int maxWeight(int[] weights) {
+        int max = 0;
+        for (int weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Edge weights must be non-negative");
+            }
+            max = Math.max(max, weight);
+        }
+        return max;
+    }
+}
\ No newline at end of file
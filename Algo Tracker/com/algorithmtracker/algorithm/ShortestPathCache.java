@@ -0,0 +1,420 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+import com.algorithmtracker.algorithm.ShortestPathAlgorithms.BinaryHeapDijkstra;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memory-bounded cache of single-source shortest path trees for one graph.
+ * Entries are keyed by graph version and source vertex and evicted in least-recently-used
+ * order once their distance and predecessor arrays exceed the byte budget. Graph.addEdge
+ * and Graph.decreaseEdgeWeight advance the graph version, and the next query drops every
+ * entry computed at an older version, so a mutated graph is never answered from stale results.
+ * Queries may come from several threads; misses for different sources are computed
+ * concurrently, outside the cache lock. The graph must not be mutated while a query runs.
+ */
+public class ShortestPathCache {
+    
+    /**
+     * Estimated bytes per entry beyond its two arrays: the key, the map node, the tree
+     * object, and the two array headers.
+     */
+    private static final long ENTRY_OVERHEAD = 24 + 40 + 24 + 2 * 16;
+    
+    private final Graph graph;
+    private final ShortestPathAlgorithm algorithm;
+    private final long maxBytes;
+    private final LinkedHashMap<Key, ShortestPathTree> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long version;
+    private CsrGraph csrGraph;
+    private long sizeInBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    
+    /**
+     * Constructs a cache that computes misses with a binary heap Dijkstra.
+     * 
+     * @param graph The graph to answer queries on
+     * @param maxBytes The memory budget for cached entries, in bytes
+     */
+    public ShortestPathCache(Graph graph, long maxBytes) {
+        this(graph, new BinaryHeapDijkstra(), maxBytes);
+    }
+    
+    /**
+     * Constructs a cache that computes misses with the given algorithm.
+     * 
+     * @param graph The graph to answer queries on
+     * @param algorithm The algorithm used to compute distances on a miss
+     * @param maxBytes The memory budget for cached entries, in bytes
+     */
+    public ShortestPathCache(Graph graph, ShortestPathAlgorithm algorithm, long maxBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1 byte");
+        }
+        this.graph = graph;
+        this.algorithm = algorithm;
+        this.maxBytes = maxBytes;
+        this.version = graph.getVersion();
+    }
+    
+    /**
+     * Gets the shortest path tree from a source vertex, computing and caching it on a miss.
+     * A tree larger than the whole budget is returned without being cached.
+     * 
+     * @param sourceVertex The source vertex
+     * @return The distances and predecessors from the source vertex
+     */
+    public ShortestPathTree getShortestPaths(int sourceVertex) {
+        if (sourceVertex < 0 || sourceVertex >= graph.getVertices()) {
+            throw new IllegalArgumentException("Source vertex out of range: " + sourceVertex);
+        }
+        Key key;
+        CsrGraph csr;
+        synchronized (this) {
+            validate();
+            key = new Key(version, sourceVertex);
+            ShortestPathTree cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            if (csrGraph == null) {
+                csrGraph = CsrGraph.fromGraph(graph);
+            }
+            csr = csrGraph;
+        }
+        
+        int[] distances = algorithm.findShortestPaths(csr, sourceVertex);
+        ShortestPathTree tree = new ShortestPathTree(sourceVertex, distances,
+                buildPredecessors(csr, sourceVertex, distances));
+        
+        synchronized (this) {
+            // Another thread may have filled the entry, or the graph may have moved on
+            if (key.version == version && !entries.containsKey(key)) {
+                long size = entrySize(tree);
+                if (size <= maxBytes) {
+                    entries.put(key, tree);
+                    sizeInBytes += size;
+                    evict();
+                }
+            }
+        }
+        return tree;
+    }
+    
+    /**
+     * Gets the shortest distance between two vertices.
+     * 
+     * @param sourceVertex The source vertex
+     * @param targetVertex The target vertex
+     * @return The distance, or Integer.MAX_VALUE if the target is unreachable
+     */
+    public int getDistance(int sourceVertex, int targetVertex) {
+        return getShortestPaths(sourceVertex).getDistance(targetVertex);
+    }
+    
+    /**
+     * Checks whether the tree from a source vertex is cached for the current graph version,
+     * without counting a hit or miss or changing the eviction order.
+     * 
+     * @param sourceVertex The source vertex
+     * @return true if a query from the source would be a hit, false otherwise
+     */
+    public synchronized boolean contains(int sourceVertex) {
+        return version == graph.getVersion() && entries.containsKey(new Key(version, sourceVertex));
+    }
+    
+    /**
+     * Removes every entry. The hit and miss counters are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        sizeInBytes = 0;
+        csrGraph = null;
+    }
+    
+    /**
+     * Drops all entries if the graph has been mutated since they were computed.
+     */
+    private void validate() {
+        long current = graph.getVersion();
+        if (current != version) {
+            if (!entries.isEmpty()) {
+                invalidations++;
+            }
+            entries.clear();
+            sizeInBytes = 0;
+            csrGraph = null;
+            version = current;
+        }
+    }
+    
+    /**
+     * Evicts least recently used entries until the cache fits its budget.
+     */
+    private void evict() {
+        Iterator<Map.Entry<Key, ShortestPathTree>> iterator = entries.entrySet().iterator();
+        while (sizeInBytes > maxBytes && iterator.hasNext()) {
+            sizeInBytes -= entrySize(iterator.next().getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+    
+    /**
+     * Estimates the memory held by a cache entry.
+     * 
+     * @param tree The shortest path tree
+     * @return The estimated size in bytes
+     */
+    private static long entrySize(ShortestPathTree tree) {
+        return ENTRY_OVERHEAD + 8L * tree.distances.length;
+    }
+    
+    /**
+     * Recovers a predecessor for every reached vertex from the distances alone, so any
+     * ShortestPathAlgorithm can back the cache. A breadth-first walk over the tight edges,
+     * those with distance[u] + weight == distance[v], yields a tree even when zero-weight
+     * cycles make several tight edges point at each other.
+     * 
+     * @param graph The CSR graph
+     * @param sourceVertex The source vertex
+     * @param distances The shortest distances from the source vertex
+     * @return The predecessor of each vertex, or -1 for the source and unreachable vertices
+     */
+    private static int[] buildPredecessors(CsrGraph graph, int sourceVertex, int[] distances) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] predecessors = new int[graph.getVertices()];
+        Arrays.fill(predecessors, -1);
+        
+        // The queue doubles as the visited set: a vertex is queued once its predecessor is known
+        int[] queue = new int[graph.getVertices()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = sourceVertex;
+        predecessors[sourceVertex] = sourceVertex;
+        while (head < tail) {
+            int u = queue[head++];
+            long distance = distances[u];
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if (predecessors[v] == -1 && distance + weights[e] == distances[v]) {
+                    predecessors[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        predecessors[sourceVertex] = -1;
+        return predecessors;
+    }
+    
+    /**
+     * Gets the number of queries answered from the cache.
+     * 
+     * @return The hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+    
+    /**
+     * Gets the number of queries that had to be computed.
+     * 
+     * @return The miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+    
+    /**
+     * Gets the fraction of queries answered from the cache.
+     * 
+     * @return The hit rate between 0 and 1, or 0 before the first query
+     */
+    public synchronized double getHitRate() {
+        long queries = hits + misses;
+        return queries == 0 ? 0 : (double) hits / queries;
+    }
+    
+    /**
+     * Gets the number of entries evicted to stay within the memory budget.
+     * 
+     * @return The eviction count
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+    
+    /**
+     * Gets the number of times the cache was emptied because the graph changed.
+     * 
+     * @return The invalidation count
+     */
+    public synchronized long getInvalidations() {
+        return invalidations;
+    }
+    
+    /**
+     * Gets the number of cached entries.
+     * 
+     * @return The entry count
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+    
+    /**
+     * Gets the estimated memory held by the cached entries.
+     * 
+     * @return The size in bytes
+     */
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+    
+    /**
+     * Gets the memory budget for cached entries.
+     * 
+     * @return The budget in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+    
+    /**
+     * Cache key of a graph version and a source vertex.
+     */
+    private static final class Key {
+        private final long version;
+        private final int source;
+        
+        /**
+         * Constructs a key.
+         * 
+         * @param version The graph version
+         * @param source The source vertex
+         */
+        Key(long version, int source) {
+            this.version = version;
+            this.source = source;
+        }
+        
+        /**
+         * Checks whether another object is a key for the same version and source.
+         * 
+         * @param other The object to compare with
+         * @return true if the keys are equal, false otherwise
+         */
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return version == key.version && source == key.source;
+        }
+        
+        /**
+         * Computes the hash code of the key.
+         * 
+         * @return The hash code
+         */
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(version) + source;
+        }
+    }
+    
+    /**
+     * Shortest path tree from one source vertex.
+     * The arrays are shared by every query that hits the cache and must not be modified.
+     */
+    public static class ShortestPathTree {
+        private final int source;
+        private final int[] distances;
+        private final int[] predecessors;
+        
+        /**
+         * Constructs a shortest path tree.
+         * 
+         * @param source The source vertex
+         * @param distances The shortest distance to each vertex
+         * @param predecessors The predecessor of each vertex, or -1 for the source and
+         *                     unreachable vertices
+         */
+        public ShortestPathTree(int source, int[] distances, int[] predecessors) {
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+        
+        /**
+         * Gets the source vertex.
+         * 
+         * @return The source vertex
+         */
+        public int getSource() {
+            return source;
+        }
+        
+        /**
+         * Gets the shortest distances from the source vertex.
+         * 
+         * @return The distances, with Integer.MAX_VALUE for unreachable vertices
+         */
+        public int[] getDistances() {
+            return distances;
+        }
+        
+        /**
+         * Gets the predecessor of each vertex on its shortest path.
+         * 
+         * @return The predecessors, with -1 for the source and unreachable vertices
+         */
+        public int[] getPredecessors() {
+            return predecessors;
+        }
+        
+        /**
+         * Gets the shortest distance to a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The distance, or Integer.MAX_VALUE if the vertex is unreachable
+         */
+        public int getDistance(int vertex) {
+            return distances[vertex];
+        }
+        
+        /**
+         * Builds the shortest path to a vertex by following predecessor links.
+         * 
+         * @param vertex The target vertex
+         * @return The vertices from source to target, empty if the target is unreachable
+         */
+        public int[] getPath(int vertex) {
+            if (distances[vertex] == Integer.MAX_VALUE) {
+                return new int[0];
+            }
+            int length = 0;
+            for (int v = vertex; v != -1; v = predecessors[v]) {
+                length++;
+            }
+            int[] path = new int[length];
+            for (int v = vertex; v != -1; v = predecessors[v]) {
+                path[--length] = v;
+            }
+            return path;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+import com.algorithmtracker.algorithm.SpanningTreeAlgorithms.SpanningForest;
+
+/**
+ * Interface for minimum spanning tree algorithms.
+ * Edges are treated as undirected, and a disconnected graph yields a minimum spanning forest
+ * with one tree per component. Ties between equal weights are broken by CSR edge index, which
+ * makes the minimum forest unique, so every implementation selects exactly the same edges.
+ */
+public interface SpanningTreeAlgorithm extends Algorithm {
+    
+    /**
+     * Finds the minimum spanning forest of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @return The forest edges, identified by their CSR edge index
+     */
+    SpanningForest findSpanningForest(CsrGraph graph);
+    
+    /**
+     * Finds the minimum spanning forest of a graph.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @return The forest edges, identified by their CSR edge index
+     */
+    default SpanningForest findSpanningForest(Graph graph) {
+        return findSpanningForest(CsrGraph.fromGraph(graph));
+    }
+}
\ No newline at end of file
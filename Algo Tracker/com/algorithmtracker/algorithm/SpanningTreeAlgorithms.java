@@ -0,0 +1,665 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.ConnectivityAlgorithms.UnionFind;
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Implementation of minimum spanning tree algorithms.
+ * Includes Kruskal's algorithm over radix-sorted edges and a union-find forest, Prim's algorithm
+ * over an indexed binary heap, and a parallel Borůvka that contracts components in rounds.
+ * All of them order edges by (weight, edge index), so they return identical forests.
+ */
+public class SpanningTreeAlgorithms {
+    
+    /**
+     * Minimum spanning forest of a graph, as a set of CSR edges in increasing index order.
+     */
+    public static class SpanningForest {
+        private final int vertices;
+        private final int[] edgeIds;
+        private final int[] sources;
+        private final int[] targets;
+        private final int[] weights;
+        private final long totalWeight;
+        
+        /**
+         * Constructs a spanning forest from the indices of its edges.
+         * 
+         * @param graph The CSR graph
+         * @param edgeSources The source vertex of every CSR edge
+         * @param edgeIds The indices of the forest edges, which are sorted in place
+         * @param count The number of forest edges at the start of edgeIds
+         */
+        SpanningForest(CsrGraph graph, int[] edgeSources, int[] edgeIds, int count) {
+            Arrays.sort(edgeIds, 0, count);
+            this.vertices = graph.getVertices();
+            this.edgeIds = Arrays.copyOf(edgeIds, count);
+            this.sources = new int[count];
+            this.targets = new int[count];
+            this.weights = new int[count];
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                int e = this.edgeIds[i];
+                sources[i] = edgeSources[e];
+                targets[i] = graph.getTargets()[e];
+                weights[i] = graph.getWeights()[e];
+                total += weights[i];
+            }
+            this.totalWeight = total;
+        }
+        
+        /**
+         * Gets the CSR indices of the forest edges.
+         * 
+         * @return The edge indices in increasing order
+         */
+        public int[] getEdgeIds() {
+            return edgeIds;
+        }
+        
+        /**
+         * Gets the source vertex of each forest edge.
+         * 
+         * @return The sources, parallel to getEdgeIds
+         */
+        public int[] getSources() {
+            return sources;
+        }
+        
+        /**
+         * Gets the target vertex of each forest edge.
+         * 
+         * @return The targets, parallel to getEdgeIds
+         */
+        public int[] getTargets() {
+            return targets;
+        }
+        
+        /**
+         * Gets the weight of each forest edge.
+         * 
+         * @return The weights, parallel to getEdgeIds
+         */
+        public int[] getWeights() {
+            return weights;
+        }
+        
+        /**
+         * Gets the number of edges in the forest.
+         * 
+         * @return The edge count
+         */
+        public int getEdgeCount() {
+            return edgeIds.length;
+        }
+        
+        /**
+         * Gets the number of trees in the forest, one per connected component of the graph.
+         * 
+         * @return The tree count
+         */
+        public int getTreeCount() {
+            return vertices - edgeIds.length;
+        }
+        
+        /**
+         * Gets the sum of the forest edge weights.
+         * 
+         * @return The total weight
+         */
+        public long getTotalWeight() {
+            return totalWeight;
+        }
+    }
+    
+    /**
+     * Finds the source vertex of every CSR edge.
+     * 
+     * @param graph The CSR graph
+     * @return The source of each edge, indexed like the targets array
+     */
+    private static int[] edgeSources(CsrGraph graph) {
+        int[] offsets = graph.getOffsets();
+        int[] sources = new int[graph.getTargets().length];
+        for (int vertex = 0; vertex < graph.getVertices(); vertex++) {
+            Arrays.fill(sources, offsets[vertex], offsets[vertex + 1], vertex);
+        }
+        return sources;
+    }
+    
+    /**
+     * Packs an edge's weight and index into one long that orders edges by weight first and
+     * index second, the total order every implementation uses to break ties.
+     * 
+     * @param weight The edge weight
+     * @param edge The edge index
+     * @return The packed key
+     */
+    private static long edgeKey(int weight, int edge) {
+        return ((long) weight << 32) | edge;
+    }
+    
+    /**
+     * Kruskal's algorithm.
+     * Edges are sorted by weight with a least-significant-digit radix sort, which is stable
+     * and therefore keeps equal weights in index order, then scanned in that order, keeping
+     * every edge that joins two different trees of a union-find forest.
+     */
+    public static class KruskalMst implements SpanningTreeAlgorithm {
+        
+        @Override
+        public SpanningForest findSpanningForest(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] targets = graph.getTargets();
+            int[] sources = edgeSources(graph);
+            int[] order = sortByWeight(graph.getWeights());
+            
+            UnionFind forest = new UnionFind(vertices);
+            int[] chosen = new int[Math.max(0, vertices - 1)];
+            int count = 0;
+            for (int i = 0; i < order.length && count < chosen.length; i++) {
+                int e = order[i];
+                if (forest.union(sources[e], targets[e])) {
+                    chosen[count++] = e;
+                }
+            }
+            return new SpanningForest(graph, sources, chosen, count);
+        }
+        
+        /**
+         * Sorts edge indices by weight with 8-bit digits. Weights are offset by the minimum,
+         * so only as many passes run as the weight range needs; weights below 256 above the
+         * minimum take a single counting pass.
+         * 
+         * @param weights The edge weights
+         * @return The edge indices in increasing weight order, ties in index order
+         */
+        private static int[] sortByWeight(int[] weights) {
+            int edges = weights.length;
+            int[] order = new int[edges];
+            int[] buffer = new int[edges];
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int e = 0; e < edges; e++) {
+                order[e] = e;
+                min = Math.min(min, weights[e]);
+                max = Math.max(max, weights[e]);
+            }
+            long range = edges == 0 ? 0 : (long) max - min;
+            
+            for (int shift = 0; shift < 32 && (range >>> shift) > 0; shift += 8) {
+                int[] counts = new int[257];
+                for (int e : order) {
+                    counts[(((weights[e] - min) >>> shift) & 0xFF) + 1]++;
+                }
+                for (int digit = 0; digit < 256; digit++) {
+                    counts[digit + 1] += counts[digit];
+                }
+                for (int e : order) {
+                    buffer[counts[((weights[e] - min) >>> shift) & 0xFF]++] = e;
+                }
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+            return order;
+        }
+        
+        @Override
+        public String getName() {
+            return "Kruskal (Radix Sort, Union-Find)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Radix sorts the edges by weight and keeps each edge whose endpoints are still in different union-find sets.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(E α(V)) with a fixed number of radix passes";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Prim's algorithm over an indexed binary heap.
+     * The heap holds each vertex at most once, keyed by the cheapest edge connecting it to the
+     * tree grown so far, and a position index lets that key be decreased in place instead of
+     * pushing duplicates. A new tree is started from every vertex left unreached.
+     */
+    public static class PrimMst implements SpanningTreeAlgorithm {
+        
+        @Override
+        public SpanningForest findSpanningForest(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int[] sources = edgeSources(graph);
+            
+            // Undirected incidence lists: every edge is listed under both of its endpoints
+            int[] incidenceOffsets = new int[vertices + 1];
+            for (int e = 0; e < targets.length; e++) {
+                if (sources[e] != targets[e]) {
+                    incidenceOffsets[sources[e] + 1]++;
+                    incidenceOffsets[targets[e] + 1]++;
+                }
+            }
+            for (int v = 0; v < vertices; v++) {
+                incidenceOffsets[v + 1] += incidenceOffsets[v];
+            }
+            int[] incidentEdges = new int[incidenceOffsets[vertices]];
+            int[] cursor = Arrays.copyOf(incidenceOffsets, vertices);
+            for (int e = 0; e < targets.length; e++) {
+                if (sources[e] != targets[e]) {
+                    incidentEdges[cursor[sources[e]]++] = e;
+                    incidentEdges[cursor[targets[e]]++] = e;
+                }
+            }
+            
+            long[] keys = new long[vertices];
+            int[] parentEdges = new int[vertices];
+            int[] heap = new int[vertices];
+            int[] positions = new int[vertices];
+            boolean[] inTree = new boolean[vertices];
+            Arrays.fill(keys, Long.MAX_VALUE);
+            Arrays.fill(parentEdges, -1);
+            Arrays.fill(positions, -1);
+            
+            int[] chosen = new int[Math.max(0, vertices - 1)];
+            int count = 0;
+            for (int root = 0; root < vertices; root++) {
+                if (inTree[root]) {
+                    continue;
+                }
+                int size = 0;
+                keys[root] = Long.MIN_VALUE;
+                heap[0] = root;
+                positions[root] = 0;
+                size++;
+                
+                while (size > 0) {
+                    int u = heap[0];
+                    positions[u] = -1;
+                    if (--size > 0) {
+                        heap[0] = heap[size];
+                        positions[heap[0]] = 0;
+                        siftDown(heap, positions, keys, size, 0);
+                    }
+                    inTree[u] = true;
+                    if (parentEdges[u] >= 0) {
+                        chosen[count++] = parentEdges[u];
+                    }
+                    
+                    for (int i = incidenceOffsets[u]; i < incidenceOffsets[u + 1]; i++) {
+                        int e = incidentEdges[i];
+                        int v = sources[e] == u ? targets[e] : sources[e];
+                        if (inTree[v]) {
+                            continue;
+                        }
+                        long key = edgeKey(weights[e], e);
+                        if (key < keys[v]) {
+                            keys[v] = key;
+                            parentEdges[v] = e;
+                            if (positions[v] < 0) {
+                                heap[size] = v;
+                                positions[v] = size;
+                                size++;
+                            }
+                            siftUp(heap, positions, keys, positions[v]);
+                        }
+                    }
+                }
+            }
+            return new SpanningForest(graph, sources, chosen, count);
+        }
+        
+        /**
+         * Moves a vertex up until its parent's key is not larger, updating positions.
+         * 
+         * @param heap The heap of vertices
+         * @param positions The heap index of each vertex, or -1 if it is not in the heap
+         * @param keys The key of each vertex
+         * @param index The heap index of the vertex to move
+         */
+        private static void siftUp(int[] heap, int[] positions, long[] keys, int index) {
+            int vertex = heap[index];
+            long key = keys[vertex];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[heap[parent]] <= key) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                positions[heap[index]] = index;
+                index = parent;
+            }
+            heap[index] = vertex;
+            positions[vertex] = index;
+        }
+        
+        /**
+         * Moves a vertex down until neither child has a smaller key, updating positions.
+         * 
+         * @param heap The heap of vertices
+         * @param positions The heap index of each vertex, or -1 if it is not in the heap
+         * @param keys The key of each vertex
+         * @param size The number of vertices in the heap
+         * @param index The heap index of the vertex to move
+         */
+        private static void siftDown(int[] heap, int[] positions, long[] keys, int size, int index) {
+            int vertex = heap[index];
+            long key = keys[vertex];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                    child++;
+                }
+                if (key <= keys[heap[child]]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                positions[heap[index]] = index;
+                index = child;
+            }
+            heap[index] = vertex;
+            positions[vertex] = index;
+        }
+        
+        @Override
+        public String getName() {
+            return "Prim (Indexed Heap)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Grows each tree from a root, always adding the cheapest edge leaving it, with an indexed binary heap supporting decrease-key.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(E log V)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+    
+    /**
+     * Parallel Borůvka's algorithm.
+     * Each round, every component finds its cheapest incident edge with an atomic minimum over
+     * all live edges in parallel. Each component then hooks itself to the component across that
+     * edge; because all components use the same (weight, index) order, the hooks form trees
+     * except for pairs that chose the same edge, where the smaller component stays the root.
+     * Pointer jumping flattens the trees into new component labels, edges inside a component
+     * are filtered out, and at least half the components disappear per round, so there are at
+     * most log V rounds.
+     */
+    public static class ParallelBoruvkaMst implements SpanningTreeAlgorithm {
+        // Vertices per parallel chunk
+        private static final int VERTEX_GRAIN = 4096;
+        
+        // Edges per parallel chunk
+        private static final int EDGE_GRAIN = 16384;
+        
+        private final ForkJoinPool pool;
+        
+        /**
+         * Constructs the algorithm with one thread per available processor.
+         */
+        public ParallelBoruvkaMst() {
+            this(Runtime.getRuntime().availableProcessors());
+        }
+        
+        /**
+         * Constructs the algorithm with the specified number of threads.
+         * 
+         * @param threads The number of worker threads
+         */
+        public ParallelBoruvkaMst(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Thread count must be at least 1");
+            }
+            this.pool = WorkerPools.forThreads(threads);
+        }
+        
+        /**
+         * Gets the number of worker threads.
+         * 
+         * @return The number of threads
+         */
+        public int getThreads() {
+            return pool.getParallelism();
+        }
+        
+        @Override
+        public SpanningForest findSpanningForest(CsrGraph graph) {
+            int vertices = graph.getVertices();
+            int[] offsets = graph.getOffsets();
+            int[] targets = graph.getTargets();
+            int[] weights = graph.getWeights();
+            int edges = targets.length;
+            
+            int[] sources = new int[edges];
+            int[] component = new int[vertices];
+            int[] hook = new int[vertices];
+            int[] bestEdge = new int[vertices];
+            AtomicLongArray best = new AtomicLongArray(vertices);
+            ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                for (int vertex = start; vertex < end; vertex++) {
+                    Arrays.fill(sources, offsets[vertex], offsets[vertex + 1], vertex);
+                    component[vertex] = vertex;
+                    best.set(vertex, Long.MAX_VALUE);
+                }
+            });
+            
+            // Self-loops never join two components, so they are dropped before the first round
+            boolean[] inForest = new boolean[edges];
+            int[] allEdges = new int[edges];
+            ParallelLoop.forRange(pool, 0, edges, EDGE_GRAIN, (start, end) -> {
+                for (int e = start; e < end; e++) {
+                    allEdges[e] = e;
+                }
+            });
+            int[] live = new int[edges];
+            int[] nextLive = allEdges;
+            int liveCount = filterInternalEdges(allEdges, edges, live, sources, targets, component);
+            
+            while (liveCount > 0) {
+                int[] current = live;
+                int count = liveCount;
+                
+                // Every component finds its cheapest live edge
+                ParallelLoop.forRange(pool, 0, count, EDGE_GRAIN, (start, end) -> {
+                    for (int i = start; i < end; i++) {
+                        int e = current[i];
+                        long key = edgeKey(weights[e], e);
+                        atomicMin(best, component[sources[e]], key);
+                        atomicMin(best, component[targets[e]], key);
+                    }
+                });
+                
+                // Each component hooks to the component across its cheapest edge
+                ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                    for (int c = start; c < end; c++) {
+                        if (component[c] != c) {
+                            continue;
+                        }
+                        long key = best.get(c);
+                        if (key == Long.MAX_VALUE) {
+                            hook[c] = c;
+                            continue;
+                        }
+                        best.set(c, Long.MAX_VALUE);
+                        int e = (int) key;
+                        bestEdge[c] = e;
+                        int source = component[sources[e]];
+                        hook[c] = source == c ? component[targets[e]] : source;
+                    }
+                });
+                
+                // Two components that chose the same edge point at each other; the smaller becomes
+                // the root and the larger records the edge
+                ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                    for (int c = start; c < end; c++) {
+                        if (component[c] != c || hook[c] == c) {
+                            continue;
+                        }
+                        int other = hook[c];
+                        if (hook[other] == c && c < other) {
+                            continue;
+                        }
+                        inForest[bestEdge[c]] = true;
+                    }
+                });
+                ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                    for (int c = start; c < end; c++) {
+                        if (component[c] == c && hook[c] != c && hook[hook[c]] == c && c < hook[c]) {
+                            hook[c] = c;
+                        }
+                    }
+                });
+                
+                // Pointer jumping: every old component points straight at its new root
+                ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                    for (int c = start; c < end; c++) {
+                        if (component[c] != c) {
+                            continue;
+                        }
+                        int root = hook[c];
+                        while (hook[root] != root) {
+                            root = hook[root];
+                        }
+                        hook[c] = root;
+                    }
+                });
+                ParallelLoop.forRange(pool, 0, vertices, VERTEX_GRAIN, (start, end) -> {
+                    for (int vertex = start; vertex < end; vertex++) {
+                        component[vertex] = hook[component[vertex]];
+                    }
+                });
+                
+                liveCount = filterInternalEdges(current, count, nextLive, sources, targets, component);
+                live = nextLive;
+                nextLive = current;
+            }
+            
+            int[] chosen = new int[Math.max(0, vertices - 1)];
+            int chosenCount = 0;
+            for (int e = 0; e < edges; e++) {
+                if (inForest[e]) {
+                    chosen[chosenCount++] = e;
+                }
+            }
+            return new SpanningForest(graph, sources, chosen, chosenCount);
+        }
+        
+        /**
+         * Copies the edges whose endpoints lie in different components, keeping their order.
+         * Chunks count their survivors first, then write them at offsets from a prefix sum.
+         * 
+         * @param edges The live edges
+         * @param count The number of live edges
+         * @param output The array receiving the surviving edges
+         * @param sources The source of every edge
+         * @param targets The target of every edge
+         * @param component The component of every vertex
+         * @return The number of surviving edges
+         */
+        private int filterInternalEdges(int[] edges, int count, int[] output, int[] sources, int[] targets,
+                int[] component) {
+            int chunks = (count + EDGE_GRAIN - 1) / EDGE_GRAIN;
+            int[] chunkOffsets = new int[chunks + 1];
+            ParallelLoop.forRange(pool, 0, chunks, 1, (start, end) -> {
+                for (int chunk = start; chunk < end; chunk++) {
+                    int survivors = 0;
+                    for (int i = chunk * EDGE_GRAIN; i < Math.min(count, (chunk + 1) * EDGE_GRAIN); i++) {
+                        int e = edges[i];
+                        if (component[sources[e]] != component[targets[e]]) {
+                            survivors++;
+                        }
+                    }
+                    chunkOffsets[chunk + 1] = survivors;
+                }
+            });
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                chunkOffsets[chunk + 1] += chunkOffsets[chunk];
+            }
+            ParallelLoop.forRange(pool, 0, chunks, 1, (start, end) -> {
+                for (int chunk = start; chunk < end; chunk++) {
+                    int position = chunkOffsets[chunk];
+                    for (int i = chunk * EDGE_GRAIN; i < Math.min(count, (chunk + 1) * EDGE_GRAIN); i++) {
+                        int e = edges[i];
+                        if (component[sources[e]] != component[targets[e]]) {
+                            output[position++] = e;
+                        }
+                    }
+                }
+            });
+            return chunkOffsets[chunks];
+        }
+        
+        /**
+         * Lowers an array element to a key if the key is smaller, retrying on contention.
+         * 
+         * @param array The array
+         * @param index The element index
+         * @param key The candidate key
+         */
+        private static void atomicMin(AtomicLongArray array, int index, long key) {
+            long current = array.get(index);
+            while (key < current && !array.compareAndSet(index, current, key)) {
+                current = array.get(index);
+            }
+        }
+        
+        @Override
+        public String getName() {
+            return "Borůvka (Parallel)";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Finds every component's cheapest edge in parallel with atomic minimums, contracts along those edges by pointer jumping, and repeats.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(E log V) work, O(log V) rounds";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(V + E)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.GRAPH;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,1101 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Implementation of various substring searching algorithms.
+ * Includes Naive Search, Knuth-Morris-Pratt, Boyer-Moore-Horspool, First-Character Scan,
+ * multi-pattern Aho-Corasick search, and suffix array indexing.
+ */
+public class StringSearchAlgorithms {
+    
+    /**
+     * Naive String Search implementation.
+     */
+    public static class NaiveStringSearch implements Algorithm {
+        
+        /**
+         * Finds the first occurrence of a pattern in a text by trying every alignment.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The index of the first occurrence if found, -1 otherwise
+         */
+        public int search(String text, String pattern) {
+            return searchFrom(text, pattern, 0);
+        }
+        
+        /**
+         * Counts all (possibly overlapping) occurrences of a pattern in a text.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The number of occurrences
+         */
+        public int countOccurrences(String text, String pattern) {
+            int count = 0;
+            int index = searchFrom(text, pattern, 0);
+            while (index != -1) {
+                count++;
+                index = searchFrom(text, pattern, index + 1);
+            }
+            return count;
+        }
+        
+        /**
+         * Finds the first occurrence of a pattern starting at or after the specified index.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @param fromIndex The index to start searching from
+         * @return The index of the occurrence if found, -1 otherwise
+         */
+        private int searchFrom(String text, String pattern, int fromIndex) {
+            int n = text.length();
+            int m = pattern.length();
+            
+            for (int i = fromIndex; i <= n - m; i++) {
+                int j = 0;
+                while (j < m && text.charAt(i + j) == pattern.charAt(j)) {
+                    j++;
+                }
+                if (j == m) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        
+        @Override
+        public String getName() {
+            return "Naive String Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Compares the pattern against the text at every possible alignment, character by character.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n * m) worst case where n is the text length and m is the pattern length";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Knuth-Morris-Pratt implementation.
+     */
+    public static class KnuthMorrisPrattSearch implements Algorithm {
+        
+        /**
+         * Finds the first occurrence of a pattern in a text using the KMP failure function.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The index of the first occurrence if found, -1 otherwise
+         */
+        public int search(String text, String pattern) {
+            int m = pattern.length();
+            if (m == 0) {
+                return 0;
+            }
+            
+            int[] failure = buildFailureTable(pattern);
+            int j = 0;
+            
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                
+                // Fall back along the failure links until the next character can extend the match
+                while (j > 0 && c != pattern.charAt(j)) {
+                    j = failure[j - 1];
+                }
+                if (c == pattern.charAt(j)) {
+                    j++;
+                }
+                if (j == m) {
+                    return i - m + 1;
+                }
+            }
+            return -1;
+        }
+        
+        /**
+         * Counts all (possibly overlapping) occurrences of a pattern in a text.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The number of occurrences
+         */
+        public int countOccurrences(String text, String pattern) {
+            int m = pattern.length();
+            if (m == 0) {
+                return text.length() + 1;
+            }
+            
+            int[] failure = buildFailureTable(pattern);
+            int count = 0;
+            int j = 0;
+            
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (j > 0 && c != pattern.charAt(j)) {
+                    j = failure[j - 1];
+                }
+                if (c == pattern.charAt(j)) {
+                    j++;
+                }
+                if (j == m) {
+                    count++;
+                    // Continue from the longest proper border so overlapping matches are found
+                    j = failure[j - 1];
+                }
+            }
+            return count;
+        }
+        
+        /**
+         * Builds the failure table: for each prefix, the length of its longest proper border.
+         * 
+         * @param pattern The pattern
+         * @return The failure table
+         */
+        private int[] buildFailureTable(String pattern) {
+            int[] failure = new int[pattern.length()];
+            int k = 0;
+            
+            for (int i = 1; i < pattern.length(); i++) {
+                while (k > 0 && pattern.charAt(i) != pattern.charAt(k)) {
+                    k = failure[k - 1];
+                }
+                if (pattern.charAt(i) == pattern.charAt(k)) {
+                    k++;
+                }
+                failure[i] = k;
+            }
+            return failure;
+        }
+        
+        @Override
+        public String getName() {
+            return "Knuth-Morris-Pratt";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Uses a precomputed failure function so the text is scanned once and never backtracks after a mismatch.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n + m)";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(m)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Boyer-Moore-Horspool implementation.
+     */
+    public static class BoyerMooreHorspoolSearch implements Algorithm {
+        // Characters are bucketed by their low byte; colliding characters share the smaller, still safe, shift
+        private static final int SHIFT_TABLE_SIZE = 256;
+        
+        /**
+         * Finds the first occurrence of a pattern in a text using the bad-character shift.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The index of the first occurrence if found, -1 otherwise
+         */
+        public int search(String text, String pattern) {
+            if (pattern.isEmpty()) {
+                return 0;
+            }
+            return searchFrom(text, pattern, buildShiftTable(pattern), 0);
+        }
+        
+        /**
+         * Counts all (possibly overlapping) occurrences of a pattern in a text.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The number of occurrences
+         */
+        public int countOccurrences(String text, String pattern) {
+            if (pattern.isEmpty()) {
+                return text.length() + 1;
+            }
+            
+            int[] shift = buildShiftTable(pattern);
+            int count = 0;
+            int index = searchFrom(text, pattern, shift, 0);
+            while (index != -1) {
+                count++;
+                index = searchFrom(text, pattern, shift, index + 1);
+            }
+            return count;
+        }
+        
+        /**
+         * Builds the bad-character shift table for a pattern.
+         * 
+         * @param pattern The pattern
+         * @return The shift table
+         */
+        private int[] buildShiftTable(String pattern) {
+            int m = pattern.length();
+            int[] shift = new int[SHIFT_TABLE_SIZE];
+            Arrays.fill(shift, m);
+            
+            for (int i = 0; i < m - 1; i++) {
+                shift[pattern.charAt(i) & (SHIFT_TABLE_SIZE - 1)] = m - 1 - i;
+            }
+            return shift;
+        }
+        
+        /**
+         * Finds the first occurrence of a pattern starting at or after the specified index.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @param shift The bad-character shift table
+         * @param fromIndex The index to start searching from
+         * @return The index of the occurrence if found, -1 otherwise
+         */
+        private int searchFrom(String text, String pattern, int[] shift, int fromIndex) {
+            int n = text.length();
+            int m = pattern.length();
+            char last = pattern.charAt(m - 1);
+            int i = fromIndex;
+            
+            while (i <= n - m) {
+                char c = text.charAt(i + m - 1);
+                
+                // Compare right to left, starting with the character under the pattern's end
+                if (c == last) {
+                    int j = m - 2;
+                    while (j >= 0 && text.charAt(i + j) == pattern.charAt(j)) {
+                        j--;
+                    }
+                    if (j < 0) {
+                        return i;
+                    }
+                }
+                i += shift[c & (SHIFT_TABLE_SIZE - 1)];
+            }
+            return -1;
+        }
+        
+        @Override
+        public String getName() {
+            return "Boyer-Moore-Horspool";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Compares the pattern right to left and skips ahead using the text character aligned with the pattern's last position.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n / m) best case, O(n * m) worst case";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(alphabet size)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * First-Character Scan implementation.
+     * Locates candidates with String.indexOf(char), which the JVM compiles to a vectorized
+     * scan, and verifies each candidate in place.
+     */
+    public static class FirstCharacterScanSearch implements Algorithm {
+        
+        /**
+         * Finds the first occurrence of a pattern in a text.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The index of the first occurrence if found, -1 otherwise
+         */
+        public int search(String text, String pattern) {
+            if (pattern.isEmpty()) {
+                return 0;
+            }
+            return searchFrom(text, pattern, 0);
+        }
+        
+        /**
+         * Counts all (possibly overlapping) occurrences of a pattern in a text.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @return The number of occurrences
+         */
+        public int countOccurrences(String text, String pattern) {
+            if (pattern.isEmpty()) {
+                return text.length() + 1;
+            }
+            
+            int count = 0;
+            int index = searchFrom(text, pattern, 0);
+            while (index != -1) {
+                count++;
+                index = searchFrom(text, pattern, index + 1);
+            }
+            return count;
+        }
+        
+        /**
+         * Finds the first occurrence of a pattern starting at or after the specified index.
+         * 
+         * @param text The text to search in
+         * @param pattern The pattern to search for
+         * @param fromIndex The index to start searching from
+         * @return The index of the occurrence if found, -1 otherwise
+         */
+        private int searchFrom(String text, String pattern, int fromIndex) {
+            int m = pattern.length();
+            int limit = text.length() - m;
+            char first = pattern.charAt(0);
+            int i = text.indexOf(first, fromIndex);
+            
+            while (i != -1 && i <= limit) {
+                // Verify the rest of the pattern at the candidate position
+                if (text.regionMatches(i + 1, pattern, 1, m - 1)) {
+                    return i;
+                }
+                i = text.indexOf(first, i + 1);
+            }
+            return -1;
+        }
+        
+        @Override
+        public String getName() {
+            return "First-Character Scan";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Scans for the pattern's first character with a vectorized intrinsic and verifies the remaining characters at each candidate.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n * m) worst case, close to O(n) when the first character is rare";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(1)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Aho-Corasick automaton for matching many patterns in one pass over a text.
+     * Characters are mapped to dense classes and the goto and failure functions are folded into
+     * a single flat transition table, so each ASCII text character costs two array reads.
+     * ASCII characters are classed through a 128-entry table and the rest by binary search over
+     * the sorted non-ASCII characters of the patterns, so the mapping stays as small as the
+     * patterns' alphabet.
+     */
+    public static class AhoCorasickAutomaton {
+        private static final int ASCII_SIZE = 128;
+        
+        private final char[] asciiClass;
+        private final char[] otherChars;
+        private final int firstOtherClass;
+        private final int alphabetSize;
+        private final int stateCount;
+        private final int[] transitions;
+        private final int[] failure;
+        private final int[] bfsOrder;
+        private final int[] patternStates;
+        
+        /**
+         * Builds the automaton for a set of patterns.
+         * 
+         * @param patterns The patterns to match (must be non-empty strings)
+         */
+        public AhoCorasickAutomaton(String[] patterns) {
+            // Class 0 is shared by every character that does not occur in any pattern
+            asciiClass = new char[ASCII_SIZE];
+            int classes = 1;
+            int maxStates = 1;
+            char[] others = new char[16];
+            int otherCount = 0;
+            for (String pattern : patterns) {
+                if (pattern.isEmpty()) {
+                    throw new IllegalArgumentException("Patterns must not be empty");
+                }
+                maxStates += pattern.length();
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = pattern.charAt(i);
+                    if (c < ASCII_SIZE) {
+                        if (asciiClass[c] == 0) {
+                            asciiClass[c] = (char) classes++;
+                        }
+                    } else {
+                        if (otherCount == others.length) {
+                            others = Arrays.copyOf(others, otherCount * 2);
+                        }
+                        others[otherCount++] = c;
+                    }
+                }
+            }
+            
+            // Non-ASCII characters take the classes after the ASCII ones, in sorted order
+            Arrays.sort(others, 0, otherCount);
+            int distinct = 0;
+            for (int i = 0; i < otherCount; i++) {
+                if (distinct == 0 || others[i] != others[distinct - 1]) {
+                    others[distinct++] = others[i];
+                }
+            }
+            otherChars = Arrays.copyOf(others, distinct);
+            firstOtherClass = classes;
+            alphabetSize = classes + distinct;
+            
+            // Build the trie; 0 means "no child" because the root is never a child
+            int[] table = new int[maxStates * alphabetSize];
+            patternStates = new int[patterns.length];
+            int states = 1;
+            for (int p = 0; p < patterns.length; p++) {
+                int state = 0;
+                for (int i = 0; i < patterns[p].length(); i++) {
+                    int slot = state * alphabetSize + classOf(patterns[p].charAt(i));
+                    if (table[slot] == 0) {
+                        table[slot] = states++;
+                    }
+                    state = table[slot];
+                }
+                patternStates[p] = state;
+            }
+            stateCount = states;
+            transitions = Arrays.copyOf(table, stateCount * alphabetSize);
+            
+            // Breadth-first pass: set failure links and fill missing transitions from the failure state
+            failure = new int[stateCount];
+            bfsOrder = new int[stateCount];
+            int head = 0;
+            int tail = 0;
+            bfsOrder[tail++] = 0;
+            
+            while (head < tail) {
+                int state = bfsOrder[head++];
+                int row = state * alphabetSize;
+                int failRow = failure[state] * alphabetSize;
+                
+                for (int c = 0; c < alphabetSize; c++) {
+                    int child = transitions[row + c];
+                    if (child != 0) {
+                        failure[child] = state == 0 ? 0 : transitions[failRow + c];
+                        bfsOrder[tail++] = child;
+                    } else if (state != 0) {
+                        transitions[row + c] = transitions[failRow + c];
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Maps a character to its class in the transition table.
+         * 
+         * @param c The character
+         * @return The class, or 0 if the character does not occur in any pattern
+         */
+        private int classOf(char c) {
+            if (c < ASCII_SIZE) {
+                return asciiClass[c];
+            }
+            int index = Arrays.binarySearch(otherChars, c);
+            return index < 0 ? 0 : firstOtherClass + index;
+        }
+        
+        /**
+         * Scans a text and counts the visits to each state.
+         * 
+         * @param text The text to scan
+         * @return The number of times each state was entered
+         */
+        private int[] scan(String text) {
+            int[] hits = new int[stateCount];
+            int state = 0;
+            
+            for (int i = 0; i < text.length(); i++) {
+                state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+                hits[state]++;
+            }
+            
+            // A visit to a state is also a visit to every state on its failure chain
+            for (int i = stateCount - 1; i > 0; i--) {
+                int child = bfsOrder[i];
+                hits[failure[child]] += hits[child];
+            }
+            return hits;
+        }
+        
+        /**
+         * Counts the occurrences of each pattern in a text.
+         * 
+         * @param text The text to scan
+         * @return The number of occurrences of each pattern, in pattern order
+         */
+        public int[] countOccurrencesPerPattern(String text) {
+            int[] hits = scan(text);
+            int[] counts = new int[patternStates.length];
+            for (int p = 0; p < patternStates.length; p++) {
+                counts[p] = hits[patternStates[p]];
+            }
+            return counts;
+        }
+        
+        /**
+         * Counts the total number of pattern occurrences in a text.
+         * 
+         * @param text The text to scan
+         * @return The total number of occurrences over all patterns
+         */
+        public long countOccurrences(String text) {
+            long total = 0;
+            for (int count : countOccurrencesPerPattern(text)) {
+                total += count;
+            }
+            return total;
+        }
+        
+        /**
+         * Gets the number of states in the automaton.
+         * 
+         * @return The number of states
+         */
+        public int getStateCount() {
+            return stateCount;
+        }
+        
+        /**
+         * Gets the number of character classes used by the transition table.
+         * 
+         * @return The alphabet size
+         */
+        public int getAlphabetSize() {
+            return alphabetSize;
+        }
+        
+        /**
+         * Gets the number of bytes used by the automaton's tables.
+         * 
+         * @return The size in bytes
+         */
+        public long getSizeInBytes() {
+            return 2L * (asciiClass.length + otherChars.length)
+                    + 4L * ((long) transitions.length + failure.length + bfsOrder.length + patternStates.length);
+        }
+    }
+    
+    /**
+     * Aho-Corasick multi-pattern search implementation.
+     */
+    public static class AhoCorasickSearch implements Algorithm {
+        
+        /**
+         * Builds an Aho-Corasick automaton for a set of patterns.
+         * 
+         * @param patterns The patterns to match
+         * @return The automaton
+         */
+        public AhoCorasickAutomaton build(String[] patterns) {
+            return new AhoCorasickAutomaton(patterns);
+        }
+        
+        /**
+         * Counts the occurrences of each pattern in a text with a single scan.
+         * 
+         * @param automaton The automaton built for the patterns
+         * @param text The text to search in
+         * @return The number of occurrences of each pattern, in pattern order
+         */
+        public int[] search(AhoCorasickAutomaton automaton, String text) {
+            return automaton.countOccurrencesPerPattern(text);
+        }
+        
+        @Override
+        public String getName() {
+            return "Aho-Corasick";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Matches many patterns at once by running the text through a trie of the patterns whose failure links are compiled into a flat transition table.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n + s) scan after O(s * alphabet) construction, where s is the number of trie states";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(s * alphabet)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+    
+    /**
+     * Suffix array with LCP array over a fixed text.
+     * The suffix array is built in linear time with SA-IS (induced sorting) and the LCP array
+     * with Kasai's algorithm; pattern queries binary search the sorted suffixes.
+     */
+    public static class SuffixArrayIndex {
+        private static final int ASCII_SIZE = 128;
+        
+        private final String text;
+        private final int[] suffixArray;
+        private final int[] lcp;
+        
+        /**
+         * Builds the index for a text.
+         * 
+         * @param text The text to index
+         */
+        public SuffixArrayIndex(String text) {
+            this.text = text;
+            
+            // Map characters to dense ranks in character order so the bucket arrays stay small.
+            // ASCII characters rank first through a 128-entry table; the others follow in the
+            // order of the sorted distinct non-ASCII characters, found by binary search
+            int[] asciiRanks = new int[ASCII_SIZE];
+            int otherCount = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < ASCII_SIZE) {
+                    asciiRanks[c] = 1;
+                } else {
+                    otherCount++;
+                }
+            }
+            int upper = -1;
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                if (asciiRanks[c] != 0) {
+                    asciiRanks[c] = ++upper;
+                }
+            }
+            
+            char[] others = new char[otherCount];
+            otherCount = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= ASCII_SIZE) {
+                    others[otherCount++] = c;
+                }
+            }
+            Arrays.sort(others);
+            int distinct = 0;
+            for (int i = 0; i < others.length; i++) {
+                if (distinct == 0 || others[i] != others[distinct - 1]) {
+                    others[distinct++] = others[i];
+                }
+            }
+            int firstOtherRank = upper + 1;
+            upper += distinct;
+            
+            int[] s = new int[text.length()];
+            for (int i = 0; i < s.length; i++) {
+                char c = text.charAt(i);
+                s[i] = c < ASCII_SIZE ? asciiRanks[c] : firstOtherRank + Arrays.binarySearch(others, 0, distinct, c);
+            }
+            
+            suffixArray = buildSuffixArray(s, Math.max(upper, 0));
+            lcp = buildLcpArray(s, suffixArray);
+        }
+        
+        /**
+         * Builds a suffix array with the SA-IS algorithm.
+         * 
+         * @param s The string as ranks in [0, upper]
+         * @param upper The largest rank
+         * @return The suffix array
+         */
+        private static int[] buildSuffixArray(int[] s, int upper) {
+            int n = s.length;
+            if (n == 0) {
+                return new int[0];
+            }
+            if (n == 1) {
+                return new int[] { 0 };
+            }
+            if (n == 2) {
+                return s[0] < s[1] ? new int[] { 0, 1 } : new int[] { 1, 0 };
+            }
+            
+            // Classify suffixes as S-type (smaller than the next suffix) or L-type
+            boolean[] sType = new boolean[n];
+            for (int i = n - 2; i >= 0; i--) {
+                sType[i] = s[i] == s[i + 1] ? sType[i + 1] : s[i] < s[i + 1];
+            }
+            
+            // Bucket boundaries: sumL[c] is the start of bucket c, sumS[c] the start of its S-type part
+            int[] sumL = new int[upper + 2];
+            int[] sumS = new int[upper + 2];
+            for (int i = 0; i < n; i++) {
+                if (!sType[i]) {
+                    sumS[s[i]]++;
+                } else {
+                    sumL[s[i] + 1]++;
+                }
+            }
+            for (int c = 0; c <= upper; c++) {
+                sumS[c] += sumL[c];
+                sumL[c + 1] += sumS[c];
+            }
+            
+            // Leftmost S-type positions (LMS) split the string into substrings to sort recursively
+            int[] lmsMap = new int[n + 1];
+            Arrays.fill(lmsMap, -1);
+            int m = 0;
+            for (int i = 1; i < n; i++) {
+                if (!sType[i - 1] && sType[i]) {
+                    lmsMap[i] = m++;
+                }
+            }
+            int[] lms = new int[m];
+            for (int i = 1, j = 0; i < n; i++) {
+                if (!sType[i - 1] && sType[i]) {
+                    lms[j++] = i;
+                }
+            }
+            
+            int[] sa = new int[n];
+            induceSort(s, sa, sType, lms, sumL, sumS);
+            
+            if (m > 0) {
+                // Name the LMS substrings in sorted order; equal substrings share a name
+                int[] sortedLms = new int[m];
+                for (int i = 0, j = 0; i < n; i++) {
+                    if (lmsMap[sa[i]] != -1) {
+                        sortedLms[j++] = sa[i];
+                    }
+                }
+                
+                int[] reduced = new int[m];
+                int reducedUpper = 0;
+                reduced[lmsMap[sortedLms[0]]] = 0;
+                for (int i = 1; i < m; i++) {
+                    int l = sortedLms[i - 1];
+                    int r = sortedLms[i];
+                    int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+                    int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+                    boolean same = true;
+                    
+                    if (endL - l != endR - r) {
+                        same = false;
+                    } else {
+                        while (l < endL && s[l] == s[r]) {
+                            l++;
+                            r++;
+                        }
+                        if (l == n || s[l] != s[r]) {
+                            same = false;
+                        }
+                    }
+                    if (!same) {
+                        reducedUpper++;
+                    }
+                    reduced[lmsMap[sortedLms[i]]] = reducedUpper;
+                }
+                
+                // Sort the LMS suffixes through the reduced string, then induce the full order
+                int[] reducedSa = buildSuffixArray(reduced, reducedUpper);
+                for (int i = 0; i < m; i++) {
+                    sortedLms[i] = lms[reducedSa[i]];
+                }
+                induceSort(s, sa, sType, sortedLms, sumL, sumS);
+            }
+            return sa;
+        }
+        
+        /**
+         * Places the LMS suffixes into their buckets and induces the order of the L-type
+         * and then the S-type suffixes from them.
+         * 
+         * @param s The string as ranks
+         * @param sa The suffix array to fill
+         * @param sType The suffix types
+         * @param lms The LMS positions, in the order they should be placed
+         * @param sumL The bucket starts
+         * @param sumS The starts of the S-type part of each bucket
+         */
+        private static void induceSort(int[] s, int[] sa, boolean[] sType, int[] lms, int[] sumL, int[] sumS) {
+            int n = s.length;
+            Arrays.fill(sa, -1);
+            
+            int[] buf = Arrays.copyOf(sumS, sumS.length);
+            for (int d : lms) {
+                if (d != n) {
+                    sa[buf[s[d]]++] = d;
+                }
+            }
+            
+            // Left-to-right pass places L-type suffixes at the front of their buckets
+            buf = Arrays.copyOf(sumL, sumL.length);
+            sa[buf[s[n - 1]]++] = n - 1;
+            for (int i = 0; i < n; i++) {
+                int v = sa[i];
+                if (v >= 1 && !sType[v - 1]) {
+                    sa[buf[s[v - 1]]++] = v - 1;
+                }
+            }
+            
+            // Right-to-left pass places S-type suffixes at the back of their buckets
+            buf = Arrays.copyOf(sumL, sumL.length);
+            for (int i = n - 1; i >= 0; i--) {
+                int v = sa[i];
+                if (v >= 1 && sType[v - 1]) {
+                    sa[--buf[s[v - 1] + 1]] = v - 1;
+                }
+            }
+        }
+        
+        /**
+         * Builds the LCP array with Kasai's algorithm.
+         * 
+         * @param s The string as ranks
+         * @param sa The suffix array
+         * @return lcp[i] = length of the longest common prefix of suffixes sa[i - 1] and sa[i] (lcp[0] = 0)
+         */
+        private static int[] buildLcpArray(int[] s, int[] sa) {
+            int n = s.length;
+            int[] rank = new int[n];
+            for (int i = 0; i < n; i++) {
+                rank[sa[i]] = i;
+            }
+            
+            int[] lcp = new int[n];
+            int h = 0;
+            for (int i = 0; i < n; i++) {
+                if (h > 0) {
+                    h--;
+                }
+                if (rank[i] == 0) {
+                    continue;
+                }
+                int j = sa[rank[i] - 1];
+                while (i + h < n && j + h < n && s[i + h] == s[j + h]) {
+                    h++;
+                }
+                lcp[rank[i]] = h;
+            }
+            return lcp;
+        }
+        
+        /**
+         * Compares a pattern with the prefix of a suffix of the same length.
+         * 
+         * @param suffix The start of the suffix
+         * @param pattern The pattern
+         * @return A negative number, zero, or a positive number as the suffix prefix is less than,
+         *         equal to, or greater than the pattern
+         */
+        private int comparePrefix(int suffix, String pattern) {
+            int length = Math.min(pattern.length(), text.length() - suffix);
+            for (int i = 0; i < length; i++) {
+                int diff = text.charAt(suffix + i) - pattern.charAt(i);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            // A suffix shorter than the pattern sorts before it
+            return length < pattern.length() ? -1 : 0;
+        }
+        
+        /**
+         * Finds the first suffix array slot whose suffix is not less than the pattern
+         * (or, if strict, whose prefix is greater than the pattern).
+         * 
+         * @param pattern The pattern
+         * @param strict false for the lower bound, true for the upper bound
+         * @return The slot
+         */
+        private int bound(String pattern, boolean strict) {
+            int left = 0;
+            int right = suffixArray.length;
+            
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                int cmp = comparePrefix(suffixArray[mid], pattern);
+                if (cmp < 0 || (strict && cmp == 0)) {
+                    left = mid + 1;
+                } else {
+                    right = mid;
+                }
+            }
+            return left;
+        }
+        
+        /**
+         * Counts the occurrences of a pattern in the indexed text.
+         * 
+         * @param pattern The pattern
+         * @return The number of occurrences
+         */
+        public int count(String pattern) {
+            return bound(pattern, true) - bound(pattern, false);
+        }
+        
+        /**
+         * Finds every position at which a pattern occurs in the indexed text.
+         * 
+         * @param pattern The pattern
+         * @return The occurrence positions in increasing order
+         */
+        public int[] locate(String pattern) {
+            int from = bound(pattern, false);
+            int to = bound(pattern, true);
+            int[] positions = Arrays.copyOfRange(suffixArray, from, to);
+            Arrays.sort(positions);
+            return positions;
+        }
+        
+        /**
+         * Finds the longest substring that occurs at least twice, using the LCP array.
+         * 
+         * @return The longest repeated substring, or an empty string if there is none
+         */
+        public String longestRepeatedSubstring() {
+            int best = 0;
+            for (int i = 1; i < lcp.length; i++) {
+                if (lcp[i] > lcp[best]) {
+                    best = i;
+                }
+            }
+            return lcp.length == 0 ? "" : text.substring(suffixArray[best], suffixArray[best] + lcp[best]);
+        }
+        
+        /**
+         * Gets the suffix array.
+         * 
+         * @return The starting positions of the suffixes in sorted order
+         */
+        public int[] getSuffixArray() {
+            return suffixArray;
+        }
+        
+        /**
+         * Gets the LCP array.
+         * 
+         * @return The LCP array
+         */
+        public int[] getLcpArray() {
+            return lcp;
+        }
+        
+        /**
+         * Gets the number of bytes used by the index, excluding the text itself.
+         * 
+         * @return The size in bytes
+         */
+        public long getSizeInBytes() {
+            return 4L * ((long) suffixArray.length + lcp.length);
+        }
+    }
+    
+    /**
+     * Suffix array search implementation.
+     * Indexes a fixed text once so repeated pattern queries avoid rescanning it.
+     */
+    public static class SuffixArraySearch implements Algorithm {
+        
+        /**
+         * Builds a suffix array index for a text.
+         * 
+         * @param text The text to index
+         * @return The index
+         */
+        public SuffixArrayIndex build(String text) {
+            return new SuffixArrayIndex(text);
+        }
+        
+        /**
+         * Counts the occurrences of a pattern using the index.
+         * 
+         * @param index The suffix array index
+         * @param pattern The pattern to search for
+         * @return The number of occurrences
+         */
+        public int countOccurrences(SuffixArrayIndex index, String pattern) {
+            return index.count(pattern);
+        }
+        
+        /**
+         * Finds every occurrence of a pattern using the index.
+         * 
+         * @param index The suffix array index
+         * @param pattern The pattern to search for
+         * @return The occurrence positions in increasing order
+         */
+        public int[] locate(SuffixArrayIndex index, String pattern) {
+            return index.locate(pattern);
+        }
+        
+        @Override
+        public String getName() {
+            return "Suffix Array Search";
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Builds a suffix array with SA-IS plus an LCP array once, then answers substring queries by binary searching the sorted suffixes.";
+        }
+        
+        @Override
+        public String getTimeComplexity() {
+            return "O(n) construction, O(m log n) per query";
+        }
+        
+        @Override
+        public String getSpaceComplexity() {
+            return "O(n)";
+        }
+        
+        @Override
+        public AlgorithmCategory getCategory() {
+            return AlgorithmCategory.SEARCHING;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.algorithmtracker.algorithm;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
+
+/**
+ * Interface for strongly connected component algorithms.
+ * Unlike ComponentAlgorithm, edge directions are respected: two vertices share a component only
+ * if each can reach the other. Every implementation labels a vertex with the smallest vertex id
+ * in its component, which makes the outputs of different implementations directly comparable.
+ */
+public interface StrongComponentAlgorithm extends Algorithm {
+    
+    /**
+     * Finds the strongly connected components of a CSR graph.
+     * 
+     * @param graph The CSR graph
+     * @return The component id of each vertex, the smallest vertex id in its component
+     */
+    int[] findStrongComponents(CsrGraph graph);
+    
+    /**
+     * Finds the strongly connected components of a graph.
+     * By default the graph is converted to CSR form first.
+     * 
+     * @param graph The graph
+     * @return The component id of each vertex, the smallest vertex id in its component
+     */
+    default int[] findStrongComponents(Graph graph) {
+        return findStrongComponents(CsrGraph.fromGraph(graph));
+    }
+}
\ No newline at end of file
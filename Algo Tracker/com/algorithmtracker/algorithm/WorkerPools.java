@@ -0,0 +1,34 @@
+package com.algorithmtracker.algorithm;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Shared ForkJoinPools for the parallel algorithms, generators and importers.
+ * Every class that takes a thread count gets its pool from here instead of creating its own,
+ * so instances can be created per call without leaking worker threads. Thread counts are clamped
+ * to the available processors, so there is at most one pool per processor count for the life of
+ * the program however many distinct counts are requested. Idle workers are retired by the pool
+ * after its keep-alive time and are daemon threads, so the pools never need shutting down.
+ */
+public final class WorkerPools {
+    private static final ConcurrentHashMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+    
+    private WorkerPools() {
+    }
+    
+    /**
+     * Gets the shared pool with the specified parallelism, creating it on first use.
+     * Requests for more threads than available processors get the pool with one per processor.
+     * 
+     * @param threads The number of worker threads
+     * @return The shared pool
+     */
+    public static ForkJoinPool forThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        int parallelism = Math.min(threads, Runtime.getRuntime().availableProcessors());
+        return POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.algorithmtracker.data;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.GraphAlgorithms.MappedCsrGraph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes graphs in a compact binary CSR format.
+ * A file holds a 24-byte header followed by the offsets, targets, and weights arrays, all
+ * little-endian:
+ * <pre>
+ *   int  magic     0x41544752 ("ATGR")
+ *   int  version   1
+ *   int  vertices  V
+ *   int  reserved  0
+ *   long edges     E
+ *   int[V + 1] offsets, int[E] targets, int[E] weights
+ * </pre>
+ * Opening a file maps each array with FileChannel.map, so no edge is parsed or copied. The offsets
+ * and targets are validated with one sequential read at open, which also brings their pages in;
+ * the weights are not read until used. Each array must fit in a single 2 GB mapping.
+ */
+public final class BinaryGraphFile {
+    private static final int MAGIC = 0x41544752;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    
+    // Largest number of ints a single mapping can hold
+    private static final long MAX_SECTION_INTS = Integer.MAX_VALUE / 4;
+    
+    private BinaryGraphFile() {
+    }
+    
+    /**
+     * Writes a CSR graph to a file, replacing any existing contents.
+     * 
+     * @param graph The CSR graph
+     * @param path The file to write
+     * @throws IOException If an I/O error occurs
+     */
+    public static void write(CsrGraph graph, Path path) throws IOException {
+        if (graph.getEdgeCount() > MAX_SECTION_INTS || graph.getVertices() >= MAX_SECTION_INTS) {
+            throw new IllegalArgumentException("Graph is too large for the binary format");
+        }
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(graph.getVertices()).putInt(0).putLong(graph.getEdgeCount());
+            writeInts(channel, buffer, graph.getOffsets());
+            writeInts(channel, buffer, graph.getTargets());
+            writeInts(channel, buffer, graph.getWeights());
+            flush(channel, buffer);
+        }
+    }
+    
+    /**
+     * Opens a graph file by memory-mapping its arrays.
+     * The mappings stay valid after this method returns and are released when the graph is
+     * garbage collected.
+     * 
+     * @param path The file to open
+     * @return The graph, reading its edges directly from the mapped file
+     * @throws IOException If an I/O error occurs or the file is not a valid graph file
+     */
+    public static MappedCsrGraph open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("File is too short to be a graph file: " + path);
+                }
+            }
+            header.flip();
+            
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported graph file version: " + version);
+            }
+            int vertices = header.getInt();
+            header.getInt();
+            long edges = header.getLong();
+            
+            if (vertices < 0 || vertices >= MAX_SECTION_INTS || edges < 0 || edges > MAX_SECTION_INTS) {
+                throw new IOException("Invalid graph size in header: " + path);
+            }
+            long expectedSize = HEADER_BYTES + 4L * (vertices + 1) + 8L * edges;
+            if (channel.size() != expectedSize) {
+                throw new IOException("Graph file is " + channel.size() + " bytes, expected " + expectedSize);
+            }
+            
+            long position = HEADER_BYTES;
+            IntBuffer offsets = map(channel, position, vertices + 1);
+            position += 4L * (vertices + 1);
+            IntBuffer targets = map(channel, position, edges);
+            position += 4L * edges;
+            IntBuffer weights = map(channel, position, edges);
+            
+            try {
+                return new MappedCsrGraph(offsets, targets, weights);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt graph file: " + path, e);
+            }
+        }
+    }
+    
+    /**
+     * Maps a section of the file as little-endian ints.
+     * 
+     * @param channel The file channel
+     * @param position The byte position of the section
+     * @param count The number of ints in the section
+     * @return A read-only int view of the section
+     * @throws IOException If an I/O error occurs
+     */
+    private static IntBuffer map(FileChannel channel, long position, long count) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, 4 * count)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asIntBuffer();
+    }
+    
+    /**
+     * Appends an int array to the output, flushing the buffer whenever it fills.
+     * 
+     * @param channel The file channel
+     * @param buffer The output buffer
+     * @param values The values to write
+     * @throws IOException If an I/O error occurs
+     */
+    private static void writeInts(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        int index = 0;
+        while (index < values.length) {
+            if (buffer.remaining() < 4) {
+                flush(channel, buffer);
+            }
+            int count = Math.min(values.length - index, buffer.remaining() / 4);
+            buffer.asIntBuffer().put(values, index, count);
+            buffer.position(buffer.position() + 4 * count);
+            index += count;
+        }
+    }
+    
+    /**
+     * Writes out and clears the buffered bytes.
+     * 
+     * @param channel The file channel
+     * @param buffer The output buffer
+     * @throws IOException If an I/O error occurs
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
\ No newline at end of file
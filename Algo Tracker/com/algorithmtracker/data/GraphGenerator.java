@@ -0,0 +1,553 @@
+package com.algorithmtracker.data;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.WorkerPools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Generates large synthetic graphs in parallel, directly in CSR form.
+ * Includes R-MAT (Kronecker) graphs with skewed degrees like social and web graphs,
+ * Barabási-Albert preferential attachment graphs, road-like 2D grids, and random geometric graphs.
+ * Every random choice is a hash of the seed and the index of the edge or vertex it belongs to,
+ * so a seed always produces the same graph regardless of the number of threads. Each generator
+ * is run twice: the first pass counts out-degrees and the second writes edges into their CSR
+ * slots, so no intermediate edge list is stored and a graph costs 8 bytes per edge. Adjacency
+ * lists are finally sorted by target, which makes the output independent of thread scheduling.
+ */
+public class GraphGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    
+    // Largest edge count addressable by the int-indexed CSR arrays
+    private static final long MAX_EDGES = Integer.MAX_VALUE - 8;
+    
+    // Edges or vertices per unit of parallel work
+    private static final int BLOCK_SIZE = 1 << 14;
+    
+    // Geometric edge weights are distances in millionths of the unit square's side
+    private static final double WEIGHT_SCALE = 1_000_000;
+    
+    // Preferential attachment draws that land on the new vertex itself are retried this often
+    private static final int MAX_ATTEMPTS = 16;
+    
+    private final long seed;
+    private final ForkJoinPool pool;
+    
+    /**
+     * Constructs a generator with the specified seed and one thread per available processor.
+     * 
+     * @param seed The seed that determines every generated graph
+     */
+    public GraphGenerator(long seed) {
+        this(seed, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Constructs a generator with the specified seed and number of threads.
+     * 
+     * @param seed The seed that determines every generated graph
+     * @param threads The number of worker threads
+     */
+    public GraphGenerator(long seed, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.seed = seed;
+        this.pool = WorkerPools.forThreads(threads);
+    }
+    
+    /**
+     * Gets the seed.
+     * 
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+    
+    /**
+     * Gets the number of worker threads.
+     * 
+     * @return The number of threads
+     */
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+    
+    /**
+     * Generates an R-MAT graph with the Graph500 parameters a = 0.57, b = 0.19, c = 0.19.
+     * 
+     * @param scale The base-2 logarithm of the number of vertices
+     * @param edgeFactor The number of edges per vertex
+     * @param maxWeight The maximum weight of an edge
+     * @return The generated graph
+     */
+    public CsrGraph generateRmatGraph(int scale, int edgeFactor, int maxWeight) {
+        return generateRmatGraph(scale, edgeFactor, 0.57, 0.19, 0.19, maxWeight);
+    }
+    
+    /**
+     * Generates a directed R-MAT graph.
+     * Each edge picks one quadrant of the adjacency matrix per bit of the vertex ids, with
+     * probabilities a, b, c, and 1 - a - b - c, which concentrates edges on a few vertices.
+     * Vertex ids are then scrambled by a fixed permutation so that high-degree vertices are not
+     * all numbered near zero. Self-loops and duplicate edges are kept, as in Graph500.
+     * 
+     * @param scale The base-2 logarithm of the number of vertices
+     * @param edgeFactor The number of edges per vertex
+     * @param a The probability of the top-left quadrant
+     * @param b The probability of the top-right quadrant
+     * @param c The probability of the bottom-left quadrant
+     * @param maxWeight The maximum weight of an edge
+     * @return The generated graph
+     */
+    public CsrGraph generateRmatGraph(int scale, int edgeFactor, double a, double b, double c, int maxWeight) {
+        if (scale < 1 || scale > 30 || edgeFactor < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("Scale must be 1 to 30; edge factor and weight must be positive");
+        }
+        if (a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Quadrant probabilities must be non-negative and sum to at most 1");
+        }
+        int vertices = 1 << scale;
+        long edges = (long) edgeFactor * vertices;
+        checkEdgeCount(edges);
+        
+        // Quadrants are chosen with 16-bit draws, four per 64-bit random value
+        int thresholdA = (int) Math.round(a * 65536);
+        int thresholdAB = (int) Math.round((a + b) * 65536);
+        int thresholdABC = (int) Math.round((a + b + c) * 65536);
+        int blocks = blockCount(edges);
+        
+        return build(vertices, blocks, (block, sink) -> {
+            long end = Math.min(edges, (long) (block + 1) * BLOCK_SIZE);
+            for (long edge = (long) block * BLOCK_SIZE; edge < end; edge++) {
+                long state = hash(edge, 0);
+                long bits = 0;
+                int source = 0;
+                int target = 0;
+                for (int bit = 0; bit < scale; bit++) {
+                    if ((bit & 3) == 0) {
+                        state += GOLDEN_GAMMA;
+                        bits = mix(state);
+                    }
+                    int u = (int) (bits & 0xFFFF);
+                    bits >>>= 16;
+                    
+                    // Branch-free quadrant choice: (t - 1 - u) >>> 31 is 1 exactly when u >= t
+                    int lower = (thresholdAB - 1 - u) >>> 31;
+                    int right = ((thresholdA - 1 - u) >>> 31) ^ lower ^ ((thresholdABC - 1 - u) >>> 31);
+                    source = (source << 1) | lower;
+                    target = (target << 1) | right;
+                }
+                sink.accept(scramble(source, scale), scramble(target, scale), weight(hash(edge, 1), maxWeight));
+            }
+        });
+    }
+    
+    /**
+     * Generates an undirected Barabási-Albert graph, stored with both directions of every edge.
+     * The first edgesPerVertex vertices form the seed; every later vertex attaches edgesPerVertex
+     * edges to existing vertices with probability proportional to their degree. Attachment is
+     * computed as in Sanders and Schulz: the edge list is viewed as a sequence of endpoints, and an
+     * edge's target copies the endpoint at a random earlier position. Because that position is a
+     * hash of the edge index, any edge can be resolved independently, which lets all edges be
+     * generated in parallel. Duplicate edges are kept.
+     * 
+     * @param vertices The number of vertices
+     * @param edgesPerVertex The number of edges each new vertex attaches
+     * @param maxWeight The maximum weight of an edge
+     * @return The generated graph
+     */
+    public CsrGraph generateBarabasiAlbertGraph(int vertices, int edgesPerVertex, int maxWeight) {
+        if (edgesPerVertex < 1 || vertices <= edgesPerVertex || maxWeight < 1) {
+            throw new IllegalArgumentException("Need more vertices than edges per vertex, and a positive weight");
+        }
+        long edges = (long) (vertices - edgesPerVertex) * edgesPerVertex;
+        checkEdgeCount(2 * edges);
+        
+        int blocks = blockCount(edges);
+        return build(vertices, blocks, (block, sink) -> {
+            long end = Math.min(edges, (long) (block + 1) * BLOCK_SIZE);
+            for (long edge = (long) block * BLOCK_SIZE; edge < end; edge++) {
+                int source = (int) (edgesPerVertex + edge / edgesPerVertex);
+                int target = attachmentTarget(edge, edgesPerVertex);
+                int weight = weight(hash(edge, 1), maxWeight);
+                sink.accept(source, target, weight);
+                sink.accept(target, source, weight);
+            }
+        });
+    }
+    
+    /**
+     * Finds the target of a preferential attachment edge.
+     * Endpoint position 2k holds the source of edge k and 2k + 1 its target. The first vertex
+     * after the seed connects to every seed vertex; later edges copy a random earlier endpoint,
+     * retrying draws that would create a self-loop.
+     * 
+     * @param edge The edge index
+     * @param edgesPerVertex The number of edges per new vertex
+     * @return The target vertex
+     */
+    private int attachmentTarget(long edge, int edgesPerVertex) {
+        if (edge < edgesPerVertex) {
+            return (int) edge;
+        }
+        long source = edgesPerVertex + edge / edgesPerVertex;
+        int candidate = -1;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            long position = below(hash(edge, 2 + attempt), 2 * edge);
+            if ((position & 1) == 0) {
+                candidate = (int) (edgesPerVertex + (position >>> 1) / edgesPerVertex);
+            } else {
+                candidate = attachmentTarget(position >>> 1, edgesPerVertex);
+            }
+            if (candidate != source) {
+                break;
+            }
+        }
+        return candidate;
+    }
+    
+    /**
+     * Generates a road-like grid graph.
+     * Vertex (row, column) has id row * columns + column and is linked in both directions to its
+     * horizontal and vertical neighbors. Each link is removed with the given probability, which
+     * breaks the regular structure the way missing streets do, and weighs between 1 and maxWeight.
+     * 
+     * @param rows The number of rows
+     * @param columns The number of columns
+     * @param removalRate The probability that a link is removed, from 0 to 1
+     * @param maxWeight The maximum weight of an edge
+     * @return The generated graph
+     */
+    public CsrGraph generateGridGraph(int rows, int columns, double removalRate, int maxWeight) {
+        if (rows < 1 || columns < 1 || maxWeight < 1 || removalRate < 0 || removalRate > 1) {
+            throw new IllegalArgumentException("Invalid grid dimensions, removal rate, or weight");
+        }
+        long vertexCount = (long) rows * columns;
+        if (vertexCount > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Too many vertices: " + vertexCount);
+        }
+        int vertices = (int) vertexCount;
+        checkEdgeCount(4L * vertices);
+        
+        int blocks = blockCount(vertices);
+        return build(vertices, blocks, (block, sink) -> {
+            int end = (int) Math.min(vertices, (long) (block + 1) * BLOCK_SIZE);
+            for (int v = block * BLOCK_SIZE; v < end; v++) {
+                int row = v / columns;
+                int column = v % columns;
+                
+                // Link 2v joins v to its right neighbor and link 2v + 1 to the one below
+                if (column > 0) {
+                    gridLink(sink, v, v - 1, 2L * (v - 1), removalRate, maxWeight);
+                }
+                if (column < columns - 1) {
+                    gridLink(sink, v, v + 1, 2L * v, removalRate, maxWeight);
+                }
+                if (row > 0) {
+                    gridLink(sink, v, v - columns, 2L * (v - columns) + 1, removalRate, maxWeight);
+                }
+                if (row < rows - 1) {
+                    gridLink(sink, v, v + columns, 2L * v + 1, removalRate, maxWeight);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Emits one direction of a grid link unless the link was removed.
+     * Both directions hash the same link index, so they are kept or removed together.
+     * 
+     * @param sink The edge sink
+     * @param from The source vertex
+     * @param to The target vertex
+     * @param link The index of the undirected link
+     * @param removalRate The probability that a link is removed
+     * @param maxWeight The maximum weight of an edge
+     */
+    private void gridLink(EdgeSink sink, int from, int to, long link, double removalRate, int maxWeight) {
+        if ((hash(link, 0) >>> 11) * 0x1.0p-53 >= removalRate) {
+            sink.accept(from, to, weight(hash(link, 1), maxWeight));
+        }
+    }
+    
+    /**
+     * Generates a random geometric graph.
+     * Vertices are placed uniformly in the unit square and every pair closer than a radius is
+     * linked in both directions, with the radius chosen to give the requested average degree.
+     * Edges weigh their length in millionths of the square's side, rounded up. Neighbors are
+     * found through a grid of cells no smaller than the radius, so only adjacent cells are searched.
+     * 
+     * @param vertices The number of vertices
+     * @param averageDegree The expected number of neighbors per vertex
+     * @return The generated graph
+     */
+    public CsrGraph generateGeometricGraph(int vertices, double averageDegree) {
+        if (vertices < 1 || averageDegree <= 0) {
+            throw new IllegalArgumentException("Vertices and average degree must be positive");
+        }
+        checkEdgeCount((long) Math.ceil(vertices * averageDegree));
+        
+        double radius = Math.min(1, Math.sqrt(averageDegree / (Math.PI * vertices)));
+        double radiusSquared = radius * radius;
+        int side = (int) Math.max(1, Math.min(Math.floor(1 / radius), Math.sqrt(vertices) + 1));
+        
+        double[] x = new double[vertices];
+        double[] y = new double[vertices];
+        forEachBlock(blockCount(vertices), block -> {
+            int end = (int) Math.min(vertices, (long) (block + 1) * BLOCK_SIZE);
+            for (int v = block * BLOCK_SIZE; v < end; v++) {
+                x[v] = (hash(v, 0) >>> 11) * 0x1.0p-53;
+                y[v] = (hash(v, 1) >>> 11) * 0x1.0p-53;
+            }
+        });
+        
+        // Bucket the vertices by cell with a counting sort
+        int[] cellStart = new int[side * side + 1];
+        int[] cellOf = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            int cell = cellIndex(x[v], side) * side + cellIndex(y[v], side);
+            cellOf[v] = cell;
+            cellStart[cell + 1]++;
+        }
+        for (int cell = 0; cell < side * side; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        int[] cellMembers = new int[vertices];
+        int[] fill = Arrays.copyOf(cellStart, side * side);
+        for (int v = 0; v < vertices; v++) {
+            cellMembers[fill[cellOf[v]]++] = v;
+        }
+        
+        return build(vertices, blockCount(vertices), (block, sink) -> {
+            int end = (int) Math.min(vertices, (long) (block + 1) * BLOCK_SIZE);
+            for (int v = block * BLOCK_SIZE; v < end; v++) {
+                int cellX = cellOf[v] / side;
+                int cellY = cellOf[v] % side;
+                for (int i = Math.max(0, cellX - 1); i <= Math.min(side - 1, cellX + 1); i++) {
+                    for (int j = Math.max(0, cellY - 1); j <= Math.min(side - 1, cellY + 1); j++) {
+                        int cell = i * side + j;
+                        for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                            int u = cellMembers[k];
+                            double dx = x[u] - x[v];
+                            double dy = y[u] - y[v];
+                            double distanceSquared = dx * dx + dy * dy;
+                            if (u != v && distanceSquared <= radiusSquared) {
+                                sink.accept(v, u, (int) Math.max(1, Math.ceil(Math.sqrt(distanceSquared) * WEIGHT_SCALE)));
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+    
+    /**
+     * Gets the grid cell of a coordinate.
+     * 
+     * @param coordinate The coordinate, from 0 to 1
+     * @param side The number of cells per side
+     * @return The cell index along that axis
+     */
+    private static int cellIndex(double coordinate, int side) {
+        return Math.min(side - 1, (int) (coordinate * side));
+    }
+    
+    /**
+     * Receives the edges produced by a generator.
+     */
+    @FunctionalInterface
+    private interface EdgeSink {
+        void accept(int source, int target, int weight);
+    }
+    
+    /**
+     * Produces the edges of one block. Must emit the same edges every time it is called.
+     */
+    @FunctionalInterface
+    private interface BlockGenerator {
+        void generate(int block, EdgeSink sink);
+    }
+    
+    /**
+     * Builds a CSR graph from a deterministic block generator in three parallel passes:
+     * count out-degrees, write each edge into the next free slot of its source, and sort
+     * every adjacency list so the result does not depend on which thread wrote first.
+     * 
+     * @param vertices The number of vertices
+     * @param blocks The number of blocks
+     * @param generator The edge generator
+     * @return The CSR graph
+     */
+    private CsrGraph build(int vertices, int blocks, BlockGenerator generator) {
+        AtomicIntegerArray slots = new AtomicIntegerArray(vertices);
+        forEachBlock(blocks, block -> generator.generate(block, (source, target, weight) -> slots.incrementAndGet(source)));
+        
+        int[] offsets = new int[vertices + 1];
+        for (int v = 0; v < vertices; v++) {
+            long next = (long) offsets[v] + slots.get(v);
+            if (next > MAX_EDGES) {
+                throw new IllegalArgumentException("Too many edges for a CSR graph");
+            }
+            offsets[v + 1] = (int) next;
+            slots.set(v, offsets[v]);
+        }
+        
+        int[] targets = new int[offsets[vertices]];
+        int[] weights = new int[offsets[vertices]];
+        forEachBlock(blocks, block -> generator.generate(block, (source, target, weight) -> {
+            int slot = slots.getAndIncrement(source);
+            targets[slot] = target;
+            weights[slot] = weight;
+        }));
+        
+        forEachBlock(blockCount(vertices), block -> {
+            int end = (int) Math.min(vertices, (long) (block + 1) * BLOCK_SIZE);
+            long[] row = new long[16];
+            for (int v = block * BLOCK_SIZE; v < end; v++) {
+                int degree = offsets[v + 1] - offsets[v];
+                if (degree > row.length) {
+                    row = new long[Math.max(degree, row.length * 2)];
+                }
+                for (int i = 0; i < degree; i++) {
+                    row[i] = ((long) targets[offsets[v] + i] << 32) | (weights[offsets[v] + i] & 0xFFFFFFFFL);
+                }
+                Arrays.sort(row, 0, degree);
+                for (int i = 0; i < degree; i++) {
+                    targets[offsets[v] + i] = (int) (row[i] >>> 32);
+                    weights[offsets[v] + i] = (int) row[i];
+                }
+            }
+        });
+        
+        return new CsrGraph(offsets, targets, weights);
+    }
+    
+    /**
+     * Runs a body once per block on the pool, handing out blocks dynamically so skewed blocks
+     * do not leave threads idle, and waits for all of them.
+     * 
+     * @param blocks The number of blocks
+     * @param body The body, called with each block index
+     */
+    private void forEachBlock(int blocks, IntConsumer body) {
+        AtomicInteger next = new AtomicInteger();
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < Math.min(blocks, getThreads()); i++) {
+            workers.add(() -> {
+                for (int block = next.getAndIncrement(); block < blocks; block = next.getAndIncrement()) {
+                    body.accept(block);
+                }
+                return null;
+            });
+        }
+        
+        try {
+            for (Future<Void> future : pool.invokeAll(workers)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Graph generation interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Graph generation failed", e.getCause());
+        }
+    }
+    
+    /**
+     * Gets the number of blocks needed to cover a count.
+     * 
+     * @param count The number of edges or vertices
+     * @return The number of blocks
+     */
+    private static int blockCount(long count) {
+        return (int) ((count + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+    
+    /**
+     * Checks that an edge count fits in the int-indexed CSR arrays.
+     * 
+     * @param edges The number of directed edges
+     */
+    private static void checkEdgeCount(long edges) {
+        if (edges > MAX_EDGES) {
+            throw new IllegalArgumentException("Too many edges for a CSR graph: " + edges);
+        }
+    }
+    
+    /**
+     * Hashes an index and a stream number with the seed into a random 64-bit value.
+     * 
+     * @param index The edge, vertex, or link index
+     * @param stream Distinguishes independent values drawn for the same index
+     * @return The random value
+     */
+    private long hash(long index, int stream) {
+        return mix(seed + mix(index * GOLDEN_GAMMA + stream) * GOLDEN_GAMMA);
+    }
+    
+    /**
+     * The SplitMix64 finalizer, which turns consecutive inputs into well-mixed outputs.
+     * 
+     * @param z The input
+     * @return The mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Maps a random value to an edge weight.
+     * 
+     * @param random The random value
+     * @param maxWeight The maximum weight
+     * @return A weight from 1 to maxWeight
+     */
+    private static int weight(long random, int maxWeight) {
+        return 1 + (int) below(random, maxWeight);
+    }
+    
+    /**
+     * Maps a random value into a range by multiplication rather than the much slower division.
+     * 
+     * @param random The random value
+     * @param bound The exclusive upper bound, below 2^62
+     * @return A value from 0 to bound - 1
+     */
+    private static long below(long random, long bound) {
+        return Math.multiplyHigh(random >>> 1, bound << 1);
+    }
+    
+    /**
+     * Permutes the ids of an R-MAT graph with an invertible mix of odd multiplications and
+     * xor-shifts modulo 2^scale.
+     * 
+     * @param vertex The vertex id
+     * @param scale The number of id bits
+     * @return The scrambled id
+     */
+    private int scramble(int vertex, int scale) {
+        long mask = (1L << scale) - 1;
+        long z = (vertex + seed) & mask;
+        z = (z * 0x9E3779B97F4A7C15L) & mask;
+        z ^= z >>> ((scale + 1) / 2);
+        z = (z * 0xBF58476D1CE4E5B9L) & mask;
+        z ^= z >>> ((scale + 1) / 2);
+        return (int) z;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,804 @@
+package com.algorithmtracker.data;
+
+import com.algorithmtracker.algorithm.GraphAlgorithms.CsrGraph;
+import com.algorithmtracker.algorithm.WorkerPools;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Imports edge lists from local files into CSR graphs.
+ * Supports SNAP edge lists, DIMACS shortest path (.gr) files, and Matrix Market coordinate files.
+ * The file is split into one contiguous part per thread at line boundaries, and each part is
+ * parsed directly from memory-mapped windows of at most 16 MB without creating a String per
+ * line. Two passes are made: the first counts each vertex's out-degree into one shared set of
+ * atomic counters, and the second claims each edge's CSR slot with an atomic cursor per vertex,
+ * so memory beyond the CSR arrays is O(V) whatever the number of threads. Parts fill a shared
+ * adjacency list in no particular order, so each list is finally sorted by target and weight,
+ * which makes the graph independent of the thread count.
+ */
+public class GraphImporter {
+    // Bytes mapped at a time; a single line may not be longer than this
+    private static final int WINDOW_BYTES = 16 << 20;
+    
+    // Bytes read while looking for the header or a line boundary
+    private static final int PROBE_BYTES = 1 << 16;
+    
+    /**
+     * Supported edge list formats.
+     */
+    public enum Format {
+        /** One "source target" pair per line, 0-based, with '#' comments and an optional weight column. */
+        SNAP,
+        /** DIMACS shortest path format: "p sp n m" header, "a u v w" arcs, 1-based, 'c' comments. */
+        DIMACS,
+        /**
+         * Matrix Market coordinate format, 1-based, with '%' comments; symmetric matrices add both
+         * directions. Skew-symmetric, Hermitian and complex matrices are not supported.
+         */
+        MATRIX_MARKET;
+        
+        /**
+         * Chooses a format from a file's extension: .gr for DIMACS, .mtx for Matrix Market,
+         * and SNAP otherwise.
+         * 
+         * @param path The file
+         * @return The detected format
+         */
+        public static Format detect(Path path) {
+            String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+            if (name.endsWith(".gr")) {
+                return DIMACS;
+            }
+            if (name.endsWith(".mtx")) {
+                return MATRIX_MARKET;
+            }
+            return SNAP;
+        }
+    }
+    
+    private final ForkJoinPool pool;
+    
+    /**
+     * Constructs an importer with one thread per available processor.
+     */
+    public GraphImporter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Constructs an importer with the specified number of threads.
+     * 
+     * @param threads The number of worker threads
+     */
+    public GraphImporter(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1");
+        }
+        this.pool = WorkerPools.forThreads(threads);
+    }
+    
+    /**
+     * Gets the number of worker threads.
+     * 
+     * @return The number of threads
+     */
+    public int getThreads() {
+        return pool.getParallelism();
+    }
+    
+    /**
+     * Imports a graph, choosing the format from the file extension.
+     * 
+     * @param path The file to import
+     * @return The graph and import statistics
+     * @throws IOException If an I/O error occurs or the file is malformed
+     */
+    public ImportResult importGraph(Path path) throws IOException {
+        return importGraph(path, Format.detect(path));
+    }
+    
+    /**
+     * Imports a graph in the specified format.
+     * 
+     * @param path The file to import
+     * @param format The format of the file
+     * @return The graph and import statistics
+     * @throws IOException If an I/O error occurs or the file is malformed
+     */
+    public ImportResult importGraph(Path path, Format format) throws IOException {
+        long startTime = System.nanoTime();
+        
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Header header = readHeader(channel, format);
+            
+            // Split the data into contiguous parts that start at line boundaries
+            int partCount = (int) Math.max(1, Math.min(getThreads(), (size - header.dataStart) / PROBE_BYTES));
+            List<Part> parts = new ArrayList<>(partCount);
+            long start = header.dataStart;
+            for (int i = 1; i <= partCount; i++) {
+                long end = i == partCount ? size
+                        : nextLineStart(channel, header.dataStart + (size - header.dataStart) * i / partCount);
+                end = Math.max(start, end);
+                parts.add(new Part(start, end));
+                start = end;
+            }
+            
+            // First pass: count out-degrees
+            DegreeCounter degrees = new DegreeCounter();
+            runParts(parts, part -> part.scan(channel, header, degrees, null, null, null));
+            
+            int vertices = header.declaredVertices;
+            long edges = 0;
+            for (Part part : parts) {
+                vertices = Math.max(vertices, part.maxVertex + 1);
+                edges += part.edges;
+            }
+            if (edges > Integer.MAX_VALUE - 8) {
+                throw new IOException("Too many edges for a CSR graph: " + edges);
+            }
+            
+            // Prefix sums of the degrees give each vertex's first slot
+            int[] offsets = new int[vertices + 1];
+            for (int v = 0; v < vertices; v++) {
+                offsets[v + 1] = offsets[v] + degrees.get(v);
+            }
+            
+            // Second pass: claim a slot for each edge from its source's cursor
+            AtomicIntegerArray cursors = new AtomicIntegerArray(offsets);
+            int[] targets = new int[(int) edges];
+            int[] weights = new int[(int) edges];
+            runParts(parts, part -> part.scan(channel, header, null, cursors, targets, weights));
+            sortAdjacencyLists(offsets, targets, weights);
+            
+            CsrGraph graph = new CsrGraph(offsets, targets, weights);
+            return new ImportResult(graph, format, size, System.nanoTime() - startTime);
+        }
+    }
+    
+    /**
+     * Runs a pass over every part on the pool and waits for all of them.
+     * 
+     * @param parts The parts
+     * @param pass The pass to run on each part
+     * @throws IOException If any part fails
+     */
+    private void runParts(List<Part> parts, PartPass pass) throws IOException {
+        List<Callable<Void>> tasks = new ArrayList<>(parts.size());
+        for (Part part : parts) {
+            tasks.add(() -> {
+                pass.run(part);
+                return null;
+            });
+        }
+        
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            // The pool wraps checked exceptions, so look for the original one
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw new IOException(cause.getMessage(), cause);
+                }
+            }
+            throw new IOException("Import failed", e.getCause());
+        }
+    }
+    
+    /**
+     * Sorts every adjacency list by target, then weight, in parallel over vertex ranges.
+     * 
+     * @param offsets The CSR offsets
+     * @param targets The CSR targets
+     * @param weights The CSR weights, parallel to targets
+     * @throws IOException If the sort is interrupted
+     */
+    private void sortAdjacencyLists(int[] offsets, int[] targets, int[] weights) throws IOException {
+        int vertices = offsets.length - 1;
+        int chunks = Math.max(1, Math.min(getThreads() * 4, vertices / 1024));
+        List<Callable<Void>> tasks = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            int first = (int) ((long) vertices * i / chunks);
+            int last = (int) ((long) vertices * (i + 1) / chunks);
+            tasks.add(() -> {
+                long[] keys = new long[16];
+                for (int v = first; v < last; v++) {
+                    int start = offsets[v];
+                    int degree = offsets[v + 1] - start;
+                    if (degree < 2) {
+                        continue;
+                    }
+                    if (degree > keys.length) {
+                        keys = new long[Math.max(degree, keys.length * 2)];
+                    }
+                    // Targets are non-negative; flipping the weight's sign bit orders it as signed
+                    for (int j = 0; j < degree; j++) {
+                        keys[j] = ((long) targets[start + j] << 32) | ((weights[start + j] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+                    }
+                    Arrays.sort(keys, 0, degree);
+                    for (int j = 0; j < degree; j++) {
+                        targets[start + j] = (int) (keys[j] >>> 32);
+                        weights[start + j] = (int) keys[j] ^ Integer.MIN_VALUE;
+                    }
+                }
+                return null;
+            });
+        }
+        
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Import failed", e.getCause());
+        }
+    }
+    
+    /**
+     * A pass over one part of the file.
+     */
+    @FunctionalInterface
+    private interface PartPass {
+        void run(Part part) throws IOException;
+    }
+    
+    /**
+     * Reads the header lines that precede the edges.
+     * Header lines are few, so unlike edge lines they are decoded as strings.
+     * 
+     * @param channel The file channel
+     * @param format The file format
+     * @return The parsed header
+     * @throws IOException If an I/O error occurs or the header is malformed
+     */
+    private static Header readHeader(FileChannel channel, Format format) throws IOException {
+        Header header = new Header(format);
+        if (format == Format.SNAP) {
+            return header;
+        }
+        
+        long position = 0;
+        while (true) {
+            String line = readLine(channel, position);
+            if (line == null) {
+                if (format == Format.MATRIX_MARKET) {
+                    throw new IOException("Missing Matrix Market size line");
+                }
+                return header;
+            }
+            long next = position + line.getBytes(StandardCharsets.ISO_8859_1).length + 1;
+            String trimmed = line.trim();
+            
+            if (format == Format.DIMACS) {
+                // Comments may precede the problem line; arcs mark the end of the header
+                if (trimmed.startsWith("p")) {
+                    String[] fields = trimmed.split("\\s+");
+                    if (fields.length < 4) {
+                        throw new IOException("Malformed DIMACS problem line: " + trimmed);
+                    }
+                    header.declaredVertices = parseHeaderInt(fields[2]);
+                    header.dataStart = next;
+                    return header;
+                }
+                if (trimmed.startsWith("a")) {
+                    return header;
+                }
+            } else if (position == 0) {
+                String[] fields = trimmed.toLowerCase(Locale.ROOT).split("\\s+");
+                if (fields.length < 5 || !fields[0].equals("%%matrixmarket") || !fields[2].equals("coordinate")) {
+                    throw new IOException("Only Matrix Market coordinate files are supported");
+                }
+                header.field = fields[3];
+                if (header.field.equals("complex")) {
+                    throw new IOException("Complex Matrix Market files are not supported");
+                }
+                if (!fields[4].equals("general") && !fields[4].equals("symmetric")) {
+                    // Skew-symmetric and Hermitian matrices negate or conjugate the mirrored entry
+                    throw new IOException("Unsupported Matrix Market symmetry: " + fields[4]);
+                }
+                header.symmetric = fields[4].equals("symmetric");
+            } else if (!trimmed.isEmpty() && !trimmed.startsWith("%")) {
+                // The size line: rows, columns, entries
+                String[] fields = trimmed.split("\\s+");
+                if (fields.length < 3) {
+                    throw new IOException("Malformed Matrix Market size line: " + trimmed);
+                }
+                header.declaredVertices = Math.max(parseHeaderInt(fields[0]), parseHeaderInt(fields[1]));
+                header.dataStart = next;
+                return header;
+            }
+            position = next;
+        }
+    }
+    
+    /**
+     * Parses a count from a header field.
+     * 
+     * @param field The field
+     * @return The count
+     * @throws IOException If the field is not a valid count
+     */
+    private static int parseHeaderInt(String field) throws IOException {
+        try {
+            int value = Integer.parseInt(field);
+            if (value < 0) {
+                throw new IOException("Negative count in header: " + field);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid count in header: " + field, e);
+        }
+    }
+    
+    /**
+     * Reads one header line starting at a position.
+     * 
+     * @param channel The file channel
+     * @param position The position of the line
+     * @return The line without its terminator, or null at the end of the file
+     * @throws IOException If an I/O error occurs or the line is too long
+     */
+    private static String readLine(FileChannel channel, long position) throws IOException {
+        if (position >= channel.size()) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(PROBE_BYTES);
+        channel.read(buffer, position);
+        buffer.flip();
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) == '\n') {
+                return new String(buffer.array(), 0, i, StandardCharsets.ISO_8859_1);
+            }
+        }
+        if (position + buffer.limit() < channel.size()) {
+            throw new IOException("Header line too long at byte " + position);
+        }
+        return new String(buffer.array(), 0, buffer.limit(), StandardCharsets.ISO_8859_1);
+    }
+    
+    /**
+     * Finds the start of the first line at or after a position.
+     * 
+     * @param channel The file channel
+     * @param position The position
+     * @return The position just after the next newline before it, or the file size
+     * @throws IOException If an I/O error occurs
+     */
+    private static long nextLineStart(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(PROBE_BYTES);
+        long scan = position - 1;
+        while (scan < channel.size()) {
+            buffer.clear();
+            int read = channel.read(buffer, scan);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return scan + i + 1;
+                }
+            }
+            scan += read;
+        }
+        return channel.size();
+    }
+    
+    /**
+     * Format details read from the header.
+     */
+    private static class Header {
+        private final Format format;
+        private long dataStart;
+        private int declaredVertices;
+        private String field = "pattern";
+        private boolean symmetric;
+        
+        Header(Format format) {
+            this.format = format;
+        }
+    }
+    
+    /**
+     * Out-degree counters shared by all parts of the first pass.
+     * The vertex count is unknown until the whole file is parsed, so counters are allocated in
+     * fixed segments as vertex ids first reach them instead of in one array.
+     */
+    private static class DegreeCounter {
+        private static final int SEGMENT_BITS = 16;
+        private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+        
+        private final AtomicReferenceArray<AtomicIntegerArray> segments =
+                new AtomicReferenceArray<>(1 << (Integer.SIZE - 1 - SEGMENT_BITS));
+        
+        /**
+         * Adds one to the degree of a vertex.
+         * 
+         * @param vertex The vertex
+         */
+        void increment(int vertex) {
+            int index = vertex >>> SEGMENT_BITS;
+            AtomicIntegerArray segment = segments.get(index);
+            if (segment == null) {
+                segments.compareAndSet(index, null, new AtomicIntegerArray(1 << SEGMENT_BITS));
+                segment = segments.get(index);
+            }
+            segment.incrementAndGet(vertex & SEGMENT_MASK);
+        }
+        
+        /**
+         * Gets the degree of a vertex.
+         * 
+         * @param vertex The vertex
+         * @return The number of counted edges leaving the vertex
+         */
+        int get(int vertex) {
+            AtomicIntegerArray segment = segments.get(vertex >>> SEGMENT_BITS);
+            return segment == null ? 0 : segment.get(vertex & SEGMENT_MASK);
+        }
+    }
+    
+    /**
+     * A contiguous range of lines parsed by one task.
+     */
+    private static class Part {
+        private final long start;
+        private final long end;
+        private long edges;
+        private int maxVertex = -1;
+        
+        Part(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+        
+        /**
+         * Parses every edge in this part, counting degrees when degrees is given and filling
+         * the CSR arrays otherwise.
+         * 
+         * @param channel The file channel
+         * @param header The file header
+         * @param degrees The shared degree counters, or null for the filling pass
+         * @param cursors The next free slot of each vertex, or null for the counting pass
+         * @param targets The CSR targets to fill, or null for the counting pass
+         * @param weights The CSR weights to fill, or null for the counting pass
+         * @throws IOException If an I/O error occurs or a line is malformed
+         */
+        void scan(FileChannel channel, Header header, DegreeCounter degrees, AtomicIntegerArray cursors,
+                int[] targets, int[] weights) throws IOException {
+            Format format = header.format;
+            int base = format == Format.SNAP ? 0 : 1;
+            boolean real = header.field.equals("real");
+            boolean pattern = header.field.equals("pattern");
+            long position = start;
+            
+            byte[] bytes = new byte[(int) Math.min(WINDOW_BYTES, end - start)];
+            
+            while (position < end) {
+                // Copy the mapped window in bulk so the tokenizer works on a plain array
+                int length = (int) Math.min(WINDOW_BYTES, end - position);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                window.get(bytes, 0, length);
+                boolean lastWindow = position + length == end;
+                
+                // Only whole lines are parsed; a line cut off by the window starts the next one
+                int limit = length;
+                if (!lastWindow) {
+                    while (limit > 0 && bytes[limit - 1] != '\n') {
+                        limit--;
+                    }
+                    if (limit == 0) {
+                        throw new IOException("Line too long at byte " + position);
+                    }
+                }
+                
+                LineReader reader = new LineReader(bytes, limit, position);
+                while (reader.nextLine()) {
+                    byte first = reader.peek();
+                    if (first == '#' || first == '%' || first == 'c' || first == 'p') {
+                        continue;
+                    }
+                    if (format == Format.DIMACS) {
+                        if (first != 'a') {
+                            throw reader.error("Expected an arc line");
+                        }
+                        reader.skip();
+                    }
+                    
+                    long source = reader.nextLong() - base;
+                    long target = reader.nextLong() - base;
+                    int weight;
+                    if (format == Format.DIMACS) {
+                        weight = (int) reader.nextLong();
+                    } else if (format == Format.MATRIX_MARKET && !pattern) {
+                        weight = real ? (int) Math.max(1, Math.round(reader.nextDouble())) : (int) reader.nextLong();
+                    } else {
+                        weight = reader.hasToken() ? (int) reader.nextLong() : 1;
+                    }
+                    if (source < 0 || target < 0 || source >= Integer.MAX_VALUE - 1 || target >= Integer.MAX_VALUE - 1) {
+                        throw reader.error("Vertex id out of range");
+                    }
+                    
+                    add((int) source, (int) target, weight, degrees, cursors, targets, weights);
+                    if (header.symmetric && source != target) {
+                        add((int) target, (int) source, weight, degrees, cursors, targets, weights);
+                    }
+                }
+                position += limit;
+            }
+        }
+        
+        /**
+         * Counts or stores one edge.
+         * 
+         * @param source The source vertex
+         * @param target The target vertex
+         * @param weight The edge weight
+         * @param degrees The shared degree counters, or null for the filling pass
+         * @param cursors The next free slot of each vertex, or null for the counting pass
+         * @param targets The CSR targets to fill, or null for the counting pass
+         * @param weights The CSR weights to fill, or null for the counting pass
+         */
+        private void add(int source, int target, int weight, DegreeCounter degrees, AtomicIntegerArray cursors,
+                int[] targets, int[] weights) {
+            if (degrees != null) {
+                degrees.increment(source);
+                maxVertex = Math.max(maxVertex, Math.max(source, target));
+                edges++;
+            } else {
+                int slot = cursors.getAndIncrement(source);
+                targets[slot] = target;
+                weights[slot] = weight;
+            }
+        }
+    }
+    
+    /**
+     * Tokenizes whitespace-separated numbers line by line from a window of the file.
+     * Each byte is examined once: tokens are parsed in place and the rest of a line is only
+     * scanned for its newline when the next line is requested.
+     */
+    private static class LineReader {
+        private final byte[] bytes;
+        private final int limit;
+        private final long offset;
+        private int position;
+        private boolean started;
+        
+        LineReader(byte[] bytes, int limit, long offset) {
+            this.bytes = bytes;
+            this.limit = limit;
+            this.offset = offset;
+        }
+        
+        /**
+         * Advances to the first token of the next line that is not blank.
+         * 
+         * @return true if a line was found, false at the end of the window
+         */
+        boolean nextLine() {
+            if (started) {
+                while (position < limit && bytes[position] != '\n') {
+                    position++;
+                }
+            }
+            started = true;
+            while (position < limit) {
+                byte b = bytes[position];
+                if (b == '\n' || isSpace(b)) {
+                    position++;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Gets the next byte of the current line without consuming it.
+         * 
+         * @return The byte
+         */
+        byte peek() {
+            return bytes[position];
+        }
+        
+        /**
+         * Skips the current token.
+         */
+        void skip() {
+            while (position < limit && bytes[position] != '\n' && !isSpace(bytes[position])) {
+                position++;
+            }
+            skipSpaces();
+        }
+        
+        /**
+         * Checks whether the current line has another token.
+         * 
+         * @return true if a token remains, false otherwise
+         */
+        boolean hasToken() {
+            return position < limit && bytes[position] != '\n';
+        }
+        
+        /**
+         * Parses the next token as an integer.
+         * 
+         * @return The value
+         * @throws IOException If the token is missing or not an integer
+         */
+        long nextLong() throws IOException {
+            boolean negative = false;
+            if (position < limit && (bytes[position] == '-' || bytes[position] == '+')) {
+                negative = bytes[position] == '-';
+                position++;
+            }
+            int digits = 0;
+            long value = 0;
+            while (position < limit) {
+                int digit = bytes[position] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+                position++;
+                if (++digits > 18) {
+                    throw error("Number too large");
+                }
+            }
+            if (digits == 0 || (position < limit && bytes[position] != '\n' && !isSpace(bytes[position]))) {
+                throw error("Expected an integer");
+            }
+            skipSpaces();
+            return negative ? -value : value;
+        }
+        
+        /**
+         * Parses the next token as a decimal number with an optional exponent.
+         * 
+         * @return The value
+         * @throws IOException If the token is missing or not a number
+         */
+        double nextDouble() throws IOException {
+            int tokenStart = position;
+            while (position < limit && bytes[position] != '\n' && !isSpace(bytes[position])) {
+                position++;
+            }
+            if (position == tokenStart) {
+                throw error("Expected a number");
+            }
+            
+            // Only real-valued Matrix Market entries take this path, and the token is short
+            String token = new String(bytes, tokenStart, position - tokenStart, StandardCharsets.ISO_8859_1);
+            skipSpaces();
+            try {
+                return Double.parseDouble(token);
+            } catch (NumberFormatException e) {
+                throw error("Expected a number");
+            }
+        }
+        
+        /**
+         * Creates an error describing the current position.
+         * 
+         * @param message The problem
+         * @return The exception to throw
+         */
+        IOException error(String message) {
+            return new IOException(message + " at byte " + (offset + position));
+        }
+        
+        /**
+         * Skips spaces within the current line.
+         */
+        private void skipSpaces() {
+            while (position < limit && isSpace(bytes[position])) {
+                position++;
+            }
+        }
+        
+        /**
+         * Checks whether a byte separates tokens on a line.
+         * 
+         * @param b The byte
+         * @return true for spaces, tabs, carriage returns, and commas
+         */
+        private static boolean isSpace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == ',';
+        }
+    }
+    
+    /**
+     * A graph imported from a file, with the cost of importing it.
+     */
+    public static class ImportResult {
+        private final CsrGraph graph;
+        private final Format format;
+        private final long bytes;
+        private final long nanos;
+        
+        /**
+         * Constructs an import result.
+         * 
+         * @param graph The imported graph
+         * @param format The format of the file
+         * @param bytes The size of the file in bytes
+         * @param nanos The time taken to import it, in nanoseconds
+         */
+        public ImportResult(CsrGraph graph, Format format, long bytes, long nanos) {
+            this.graph = graph;
+            this.format = format;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+        
+        /**
+         * Gets the imported graph.
+         * 
+         * @return The CSR graph
+         */
+        public CsrGraph getGraph() {
+            return graph;
+        }
+        
+        /**
+         * Gets the format of the file.
+         * 
+         * @return The format
+         */
+        public Format getFormat() {
+            return format;
+        }
+        
+        /**
+         * Gets the size of the file.
+         * 
+         * @return The size in bytes
+         */
+        public long getBytes() {
+            return bytes;
+        }
+        
+        /**
+         * Gets the time taken to import the file.
+         * 
+         * @return The time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+        
+        /**
+         * Gets the import throughput.
+         * 
+         * @return The throughput in megabytes (2^20 bytes) per second
+         */
+        public double getMegabytesPerSecond() {
+            return nanos == 0 ? 0 : (bytes / (1024.0 * 1024.0)) / (nanos / 1_000_000_000.0);
+        }
+    }
+}
\ No newline at end of file
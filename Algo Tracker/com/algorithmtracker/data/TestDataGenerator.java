@@ -3,12 +3,16 @@ package com.algorithmtracker.data;
 import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Generates test data for algorithm testing.
  */
 public class TestDataGenerator {
+    private static final int MAX_ALPHABET_SIZE = 63_000;
+    
     private Random random;
     
     /**
@@ -27,6 +31,16 @@ public class TestDataGenerator {
         this.random = new Random(seed);
     }
     
+    /**
+     * Gets the random number generator behind the generated data, so benchmark workloads
+     * can be drawn from the same seeded sequence.
+     * 
+     * @return The random number generator
+     */
+    public Random getRandom() {
+        return random;
+    }
+    
     /**
      * Generates a random integer array of the specified size.
      * 
@@ -98,6 +112,132 @@ public class TestDataGenerator {
         return sb.toString();
     }
     
+    /**
+     * Generates a random text over an alphabet of the specified size.
+     * Small alphabets start at 'a'; larger ones continue through the Basic Multilingual Plane,
+     * skipping the surrogate range so every character is a valid code point.
+     * 
+     * @param length The length of the text
+     * @param alphabetSize The number of distinct characters (1 to 63,000)
+     * @return The generated text
+     */
+    public String generateRandomText(int length, int alphabetSize) {
+        if (alphabetSize < 1 || alphabetSize > MAX_ALPHABET_SIZE) {
+            throw new IllegalArgumentException("Alphabet size must be between 1 and " + MAX_ALPHABET_SIZE);
+        }
+        
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = alphabetCharacter(random.nextInt(alphabetSize));
+        }
+        return new String(text);
+    }
+    
+    /**
+     * Generates a highly repetitive text by repeating a random block with occasional mutations.
+     * 
+     * @param length The length of the text
+     * @param blockLength The length of the repeated block
+     * @param alphabetSize The number of distinct characters
+     * @param mutationRate The probability that a copied character is replaced (0.0 to 1.0)
+     * @return The generated text
+     */
+    public String generateRepetitiveText(int length, int blockLength, int alphabetSize, double mutationRate) {
+        String block = generateRandomText(Math.max(1, blockLength), alphabetSize);
+        char[] text = new char[length];
+        
+        for (int i = 0; i < length; i++) {
+            if (random.nextDouble() < mutationRate) {
+                text[i] = alphabetCharacter(random.nextInt(alphabetSize));
+            } else {
+                text[i] = block.charAt(i % block.length());
+            }
+        }
+        return new String(text);
+    }
+    
+    /**
+     * Generates log-like text: timestamped lines built from a small vocabulary of
+     * levels, components, and messages with varying numeric fields.
+     * 
+     * @param length The approximate length of the text
+     * @return The generated text
+     */
+    public String generateLogText(int length) {
+        String[] levels = { "INFO", "INFO", "INFO", "DEBUG", "WARN", "ERROR" };
+        String[] components = { "http-worker", "db-pool", "scheduler", "auth", "cache" };
+        String[] messages = {
+            "request completed status=200 duration=%d ms",
+            "connection acquired id=%d",
+            "job finished jobId=%d",
+            "user login succeeded uid=%d",
+            "cache miss key=item:%d",
+            "request failed status=500 retry=%d"
+        };
+        
+        StringBuilder sb = new StringBuilder(length + 128);
+        long timestamp = 1_700_000_000_000L;
+        
+        while (sb.length() < length) {
+            timestamp += random.nextInt(1000);
+            sb.append(timestamp).append(' ')
+                    .append(levels[random.nextInt(levels.length)]).append(" [")
+                    .append(components[random.nextInt(components.length)]).append('-')
+                    .append(random.nextInt(16)).append("] ")
+                    .append(String.format(messages[random.nextInt(messages.length)], random.nextInt(100_000)))
+                    .append('\n');
+        }
+        sb.setLength(length);
+        return sb.toString();
+    }
+    
+    /**
+     * Picks a random substring of a text to use as a search pattern.
+     * 
+     * @param text The text to take the pattern from
+     * @param patternLength The length of the pattern
+     * @return The pattern
+     */
+    public String generatePatternFromText(String text, int patternLength) {
+        if (patternLength > text.length()) {
+            throw new IllegalArgumentException("Pattern length exceeds text length");
+        }
+        int start = random.nextInt(text.length() - patternLength + 1);
+        return text.substring(start, start + patternLength);
+    }
+    
+    /**
+     * Picks random substrings of a text to use as a set of search patterns.
+     * 
+     * @param text The text to take the patterns from
+     * @param count The number of patterns
+     * @param minLength The minimum pattern length
+     * @param maxLength The maximum pattern length (inclusive)
+     * @return The patterns
+     */
+    public String[] generatePatternSet(String text, int count, int minLength, int maxLength) {
+        String[] patterns = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            patterns[i] = generatePatternFromText(text, Math.min(length, text.length()));
+        }
+        return patterns;
+    }
+    
+    /**
+     * Maps an alphabet index to a character, skipping the surrogate range.
+     * 
+     * @param index The index within the alphabet
+     * @return The character
+     */
+    private char alphabetCharacter(int index) {
+        int c = 'a' + index;
+        if (c >= Character.MIN_SURROGATE) {
+            c += Character.MAX_SURROGATE - Character.MIN_SURROGATE + 1;
+        }
+        return (char) c;
+    }
+    
     /**
      * Generates a random graph with the specified number of vertices and edges.
      * 
@@ -107,16 +247,35 @@ public class TestDataGenerator {
      * @return The generated graph
      */
     public Graph generateRandomGraph(int vertices, int edges, int maxWeight) {
+        return generateRandomGraph(vertices, edges, maxWeight, true);
+    }
+    
+    /**
+     * Generates a random graph with the specified number of vertices and edges.
+     * When connected, a path through all vertices is added first and counts toward the edges;
+     * otherwise every edge joins two uniformly random vertices, so the number of components
+     * depends on the edge count.
+     * 
+     * @param vertices The number of vertices
+     * @param edges The number of edges
+     * @param maxWeight The maximum weight of an edge
+     * @param connected Whether to guarantee that every vertex is reachable from vertex 0
+     * @return The generated graph
+     */
+    public Graph generateRandomGraph(int vertices, int edges, int maxWeight, boolean connected) {
         Graph graph = new Graph(vertices);
+        int remainingEdges = edges;
         
         // Ensure the graph is connected
-        for (int i = 0; i < vertices - 1; i++) {
-            int weight = random.nextInt(maxWeight) + 1;
-            graph.addEdge(i, i + 1, weight);
+        if (connected) {
+            for (int i = 0; i < vertices - 1; i++) {
+                int weight = random.nextInt(maxWeight) + 1;
+                graph.addEdge(i, i + 1, weight);
+            }
+            remainingEdges -= vertices - 1;
         }
         
         // Add remaining random edges
-        int remainingEdges = edges - (vertices - 1);
         for (int i = 0; i < remainingEdges; i++) {
             int source = random.nextInt(vertices);
             int destination = random.nextInt(vertices);
@@ -131,6 +290,116 @@ public class TestDataGenerator {
         return graph;
     }
     
+    /**
+     * Generates a road-like planar graph.
+     * Vertices are scattered uniformly over a square about 100 units per vertex on a side and
+     * linked in both directions to roughly their nearest neighbors, found through a grid of
+     * 100-unit cells. Each edge weighs its Euclidean length rounded up, so the straight-line
+     * distance never overestimates a path and can serve as an A* heuristic.
+     * 
+     * @param vertices The number of vertices
+     * @param neighbors The number of neighbors each vertex links to
+     * @return The generated graph, with coordinates set on every vertex
+     */
+    public Graph generatePlanarGraph(int vertices, int neighbors) {
+        if (vertices < 1 || neighbors < 1) {
+            throw new IllegalArgumentException("Vertex and neighbor counts must be positive");
+        }
+        Graph graph = new Graph(vertices);
+        int cellSize = 100;
+        int cellsPerSide = (int) Math.ceil(Math.sqrt(vertices));
+        int side = cellsPerSide * cellSize;
+        
+        int[] x = new int[vertices];
+        int[] y = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            x[v] = random.nextInt(side);
+            y[v] = random.nextInt(side);
+            graph.setCoordinates(v, x[v], y[v]);
+        }
+        
+        // Bucket the vertices by grid cell with a counting sort
+        int[] cellStart = new int[cellsPerSide * cellsPerSide + 1];
+        for (int v = 0; v < vertices; v++) {
+            cellStart[(y[v] / cellSize) * cellsPerSide + x[v] / cellSize + 1]++;
+        }
+        for (int c = 0; c < cellsPerSide * cellsPerSide; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cellVertices = new int[vertices];
+        int[] fill = Arrays.copyOf(cellStart, cellStart.length - 1);
+        for (int v = 0; v < vertices; v++) {
+            cellVertices[fill[(y[v] / cellSize) * cellsPerSide + x[v] / cellSize]++] = v;
+        }
+        
+        Set<Long> linked = new HashSet<>();
+        int[] candidates = new int[16];
+        long[] squaredDistances = new long[16];
+        
+        for (int u = 0; u < vertices; u++) {
+            int cellX = x[u] / cellSize;
+            int cellY = y[u] / cellSize;
+            int count = 0;
+            
+            // Widen the ring of cells until it holds enough candidates, then take one more ring
+            int extraRings = -1;
+            for (int ring = 0; ring < cellsPerSide && extraRings < 1; ring++) {
+                for (int cy = cellY - ring; cy <= cellY + ring; cy++) {
+                    for (int cx = cellX - ring; cx <= cellX + ring; cx++) {
+                        boolean onRing = Math.abs(cy - cellY) == ring || Math.abs(cx - cellX) == ring;
+                        if (!onRing || cx < 0 || cy < 0 || cx >= cellsPerSide || cy >= cellsPerSide) {
+                            continue;
+                        }
+                        int cell = cy * cellsPerSide + cx;
+                        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                            int v = cellVertices[i];
+                            if (v == u) {
+                                continue;
+                            }
+                            if (count == candidates.length) {
+                                candidates = Arrays.copyOf(candidates, count * 2);
+                                squaredDistances = Arrays.copyOf(squaredDistances, count * 2);
+                            }
+                            long dx = x[u] - x[v];
+                            long dy = y[u] - y[v];
+                            candidates[count] = v;
+                            squaredDistances[count] = dx * dx + dy * dy;
+                            count++;
+                        }
+                    }
+                }
+                if (count >= neighbors) {
+                    extraRings++;
+                }
+            }
+            
+            // Selection of the nearest candidates
+            for (int k = 0; k < Math.min(neighbors, count); k++) {
+                int best = k;
+                for (int i = k + 1; i < count; i++) {
+                    if (squaredDistances[i] < squaredDistances[best]) {
+                        best = i;
+                    }
+                }
+                int v = candidates[best];
+                long squaredDistance = squaredDistances[best];
+                candidates[best] = candidates[k];
+                squaredDistances[best] = squaredDistances[k];
+                candidates[k] = v;
+                squaredDistances[k] = squaredDistance;
+                
+                long key = (long) Math.min(u, v) * vertices + Math.max(u, v);
+                if (linked.add(key)) {
+                    int weight = Math.max(1, (int) Math.ceil(Math.sqrt((double) squaredDistance)));
+                    graph.addEdge(u, v, weight);
+                    graph.addEdge(v, u, weight);
+                }
+            }
+        }
+        
+        return graph;
+    }
+    
     /**
      * Generates random weights and values for the Knapsack problem.
      * 
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 
 /**
@@ -68,6 +69,66 @@ public class PerformanceTracker {
         return results;
     }
     
+    /**
+     * An operation executed repeatedly by each thread of a throughput measurement.
+     */
+    @FunctionalInterface
+    public interface ConcurrentOperation {
+        
+        /**
+         * Executes one operation.
+         * 
+         * @param threadId The index of the executing thread
+         * @param operationIndex The index of the operation within the thread
+         */
+        void execute(int threadId, int operationIndex);
+    }
+    
+    /**
+     * Measures the throughput of an operation executed concurrently by several threads.
+     * All threads are released at the same time and the clock stops when the last one finishes.
+     * 
+     * @param threads The number of threads
+     * @param operationsPerThread The number of operations each thread executes
+     * @param operation The operation to execute
+     * @return The throughput in operations per second
+     */
+    public double measureThroughput(int threads, int operationsPerThread, ConcurrentOperation operation) {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        
+        for (int t = 0; t < threads; t++) {
+            final int threadId = t;
+            workers[t] = new Thread(() -> {
+                try {
+                    startSignal.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < operationsPerThread; i++) {
+                    operation.execute(threadId, i);
+                }
+            });
+            workers[t].start();
+        }
+        
+        long startTime = System.nanoTime();
+        startSignal.countDown();
+        
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for worker threads", e);
+        }
+        long endTime = System.nanoTime();
+        
+        return (double) threads * operationsPerThread / ((endTime - startTime) / 1_000_000_000.0);
+    }
+    
     /**
      * Represents a performance result.
      */
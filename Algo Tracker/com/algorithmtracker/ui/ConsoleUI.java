@@ -5,13 +5,22 @@ import com.algorithmtracker.algorithm.Algorithm.AlgorithmCategory;
 import com.algorithmtracker.algorithm.GraphAlgorithms.Graph;
 import com.algorithmtracker.auth.User;
 import com.algorithmtracker.auth.UserManager;
+import com.algorithmtracker.data.BinaryGraphFile;
+import com.algorithmtracker.data.GraphGenerator;
+import com.algorithmtracker.data.GraphImporter;
 import com.algorithmtracker.data.TestDataGenerator;
 import com.algorithmtracker.performance.PerformanceTracker;
 import com.algorithmtracker.performance.PerformanceTracker.PerformanceResult;
 import com.algorithmtracker.result.ResultManager;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -34,17 +43,63 @@ public class ConsoleUI {
     
     private final SearchingAlgorithms.LinearSearch linearSearch = new SearchingAlgorithms.LinearSearch();
     private final SearchingAlgorithms.BinarySearch binarySearch = new SearchingAlgorithms.BinarySearch();
+    private final SearchingAlgorithms.EliasFanoSearch eliasFanoSearch = new SearchingAlgorithms.EliasFanoSearch();
+    private final SearchingAlgorithms.SkipListSearch skipListSearch = new SearchingAlgorithms.SkipListSearch();
+    
+    private final StringSearchAlgorithms.NaiveStringSearch naiveStringSearch = new StringSearchAlgorithms.NaiveStringSearch();
+    private final StringSearchAlgorithms.KnuthMorrisPrattSearch kmpSearch = new StringSearchAlgorithms.KnuthMorrisPrattSearch();
+    private final StringSearchAlgorithms.BoyerMooreHorspoolSearch horspoolSearch = new StringSearchAlgorithms.BoyerMooreHorspoolSearch();
+    private final StringSearchAlgorithms.FirstCharacterScanSearch firstCharScanSearch = new StringSearchAlgorithms.FirstCharacterScanSearch();
+    private final StringSearchAlgorithms.AhoCorasickSearch ahoCorasickSearch = new StringSearchAlgorithms.AhoCorasickSearch();
+    private final StringSearchAlgorithms.SuffixArraySearch suffixArraySearch = new StringSearchAlgorithms.SuffixArraySearch();
     
     private final GraphAlgorithms.DepthFirstSearch dfs = new GraphAlgorithms.DepthFirstSearch();
+    private final GraphAlgorithms.IterativeDepthFirstSearch iterativeDfs = new GraphAlgorithms.IterativeDepthFirstSearch();
     private final GraphAlgorithms.BreadthFirstSearch bfs = new GraphAlgorithms.BreadthFirstSearch();
+    private final GraphAlgorithms.DirectionOptimizingBfs parallelBfs = new GraphAlgorithms.DirectionOptimizingBfs();
+    private final GraphAlgorithms.MultiSourceBfs multiSourceBfs = new GraphAlgorithms.MultiSourceBfs();
+    private final ConnectivityAlgorithms.UnionFindComponents unionFindComponents = new ConnectivityAlgorithms.UnionFindComponents();
+    private final ConnectivityAlgorithms.ParallelComponents parallelComponents = new ConnectivityAlgorithms.ParallelComponents();
+    private final ConnectivityAlgorithms.TarjanStrongComponents tarjanComponents = new ConnectivityAlgorithms.TarjanStrongComponents();
+    private final ConnectivityAlgorithms.KosarajuStrongComponents kosarajuComponents = new ConnectivityAlgorithms.KosarajuStrongComponents();
+    private final GraphAnalytics.PageRank pageRank = new GraphAnalytics.PageRank();
+    private final GraphAnalytics.TriangleCounter triangleCounter = new GraphAnalytics.TriangleCounter();
+    private final GraphImporter graphImporter = new GraphImporter();
+    
+    // Vertex reorderings compared against the generated numbering, in menu order
+    private final List<ReorderingAlgorithm> reorderingAlgorithms = List.of(
+            new GraphReorderingAlgorithms.DegreeSortReordering(),
+            new GraphReorderingAlgorithms.ReverseCuthillMcKee(),
+            new GraphReorderingAlgorithms.BfsOrderReordering());
+    
+    // Minimum spanning tree implementations, in table order
+    private final List<SpanningTreeAlgorithm> spanningTreeAlgorithms = List.of(
+            new SpanningTreeAlgorithms.KruskalMst(),
+            new SpanningTreeAlgorithms.PrimMst(),
+            new SpanningTreeAlgorithms.ParallelBoruvkaMst());
     private final GraphAlgorithms.DijkstraAlgorithm dijkstra = new GraphAlgorithms.DijkstraAlgorithm();
+    private final ShortestPathAlgorithms.BinaryHeapDijkstra binaryHeapDijkstra = new ShortestPathAlgorithms.BinaryHeapDijkstra();
+    private final ShortestPathAlgorithms.DaryHeapDijkstra daryHeapDijkstra = new ShortestPathAlgorithms.DaryHeapDijkstra();
+    private final ShortestPathAlgorithms.DialDijkstra dialDijkstra = new ShortestPathAlgorithms.DialDijkstra();
+    private final ShortestPathAlgorithms.RadixHeapDijkstra radixHeapDijkstra = new ShortestPathAlgorithms.RadixHeapDijkstra();
+    private final ShortestPathAlgorithms.DeltaSteppingShortestPaths deltaStepping = new ShortestPathAlgorithms.DeltaSteppingShortestPaths();
+    private final AllPairsShortestPathAlgorithms.BlockedFloydWarshall floydWarshall = new AllPairsShortestPathAlgorithms.BlockedFloydWarshall();
+    private final AllPairsShortestPathAlgorithms.JohnsonAllPairs johnson = new AllPairsShortestPathAlgorithms.JohnsonAllPairs();
+    private final PointToPointAlgorithms.EarlyExitDijkstra earlyExitDijkstra = new PointToPointAlgorithms.EarlyExitDijkstra();
+    private final PointToPointAlgorithms.BidirectionalDijkstra bidirectionalDijkstra = new PointToPointAlgorithms.BidirectionalDijkstra();
+    private final PointToPointAlgorithms.ContractionHierarchySearch contractionHierarchies = new PointToPointAlgorithms.ContractionHierarchySearch();
+    
+    // Interchangeable single-source shortest path implementations, in menu order
+    private final List<ShortestPathAlgorithm> shortestPathAlgorithms = List.of(
+            dijkstra, binaryHeapDijkstra, daryHeapDijkstra, dialDijkstra, radixHeapDijkstra, deltaStepping);
     
     /**
      * Constructs a ConsoleUI instance.
      */
     public ConsoleUI() {
         scanner = new Scanner(System.in);
-        dataGenerator = new TestDataGenerator();
+        // Fixed seed so generated data and query workloads repeat from run to run
+        dataGenerator = new TestDataGenerator(42L);
         performanceTracker = new PerformanceTracker();
         resultManager = new ResultManager();
         userManager = new UserManager();
@@ -350,12 +405,26 @@ public class ConsoleUI {
             System.out.println("\nSEARCHING ALGORITHMS");
             System.out.println("1. Linear Search");
             System.out.println("2. Binary Search");
+            System.out.println("3. Elias-Fano Compressed Search");
+            System.out.println("4. Concurrent Skip List Search");
+            System.out.println("5. Naive String Search");
+            System.out.println("6. Knuth-Morris-Pratt");
+            System.out.println("7. Boyer-Moore-Horspool");
+            System.out.println("8. First-Character Scan");
+            System.out.println("9. Aho-Corasick (multi-pattern)");
+            System.out.println("10. Suffix Array (indexed repeated queries)");
             System.out.println("0. Back to Main Menu");
             
             int choice = getIntInput("Enter your choice: ");
             
-            if (choice >= 1 && choice <= 2) {
+            if (choice >= 1 && choice <= 4) {
                 runSearchingAlgorithm(choice);
+            } else if (choice >= 5 && choice <= 8) {
+                runStringSearchAlgorithm(choice);
+            } else if (choice == 9) {
+                runMultiPatternSearch();
+            } else if (choice == 10) {
+                runSuffixArraySearch();
             } else if (choice == 0) {
                 back = true;
             } else {
@@ -381,23 +450,23 @@ public class ConsoleUI {
             int size = getIntInput("Enter array size: ");
             array = dataGenerator.generateRandomIntArray(size, 0, 1000);
             
-            // For binary search, the array needs to be sorted
-            if (choice == 2) {
+            // For binary and compressed search, the array needs to be sorted
+            if (choice == 2 || choice == 3) {
                 Arrays.sort(array);
             }
         } else if (inputChoice == 2) {
             array = getCustomIntArray();
             
-            // For binary search, the array needs to be sorted
-            if (choice == 2) {
+            // For binary and compressed search, the array needs to be sorted
+            if (choice == 2 || choice == 3) {
                 Arrays.sort(array);
             }
         } else {
             System.out.println("Invalid choice. Using random array.");
             array = dataGenerator.generateRandomIntArray(10, 0, 100);
             
-            // For binary search, the array needs to be sorted
-            if (choice == 2) {
+            // For binary and compressed search, the array needs to be sorted
+            if (choice == 2 || choice == 3) {
                 Arrays.sort(array);
             }
         }
@@ -420,7 +489,7 @@ public class ConsoleUI {
             result = linearSearch.search(array, target);
             long endTime = System.nanoTime();
             executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
-        } else {
+        } else if (choice == 2) {
             algorithm = binarySearch;
             
             // Warm-up run
@@ -430,6 +499,37 @@ public class ConsoleUI {
             result = binarySearch.search(array, target);
             long endTime = System.nanoTime();
             executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+        } else if (choice == 3) {
+            algorithm = eliasFanoSearch;
+            
+            long encodeStart = System.nanoTime();
+            SearchingAlgorithms.EliasFanoSet compressed = eliasFanoSearch.encode(array);
+            long encodeEnd = System.nanoTime();
+            System.out.println("Encoding time: " + (encodeEnd - encodeStart) / 1_000_000 + " ms");
+            
+            // Warm-up run
+            eliasFanoSearch.search(compressed, target);
+            
+            long startTime = System.nanoTime();
+            result = eliasFanoSearch.search(compressed, target);
+            long endTime = System.nanoTime();
+            executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            
+            displayCompressedSearchReport(array, compressed);
+        } else {
+            algorithm = skipListSearch;
+            SearchingAlgorithms.ConcurrentIntSkipList list = skipListSearch.build(array);
+            
+            // Warm-up run
+            skipListSearch.search(list, target);
+            
+            long startTime = System.nanoTime();
+            boolean found = skipListSearch.search(list, target);
+            long endTime = System.nanoTime();
+            executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            
+            // The skip list keeps no positional index, so report the rank among distinct values
+            result = found ? Arrays.binarySearch(list.toSortedArray(), target) : -1;
         }
         
         if (result != -1) {
@@ -451,6 +551,156 @@ public class ConsoleUI {
         System.out.println("Space Complexity: " + algorithm.getSpaceComplexity());
     }
     
+    /**
+     * Runs a substring search algorithm based on the user's choice.
+     * 
+     * @param choice The algorithm choice
+     */
+    private void runStringSearchAlgorithm(int choice) {
+        String text = getTextCorpus();
+        String pattern = getSearchPattern(text);
+        
+        Algorithm algorithm;
+        Function<String, Integer> countFunction;
+        
+        switch (choice) {
+            case 5:
+                algorithm = naiveStringSearch;
+                countFunction = t -> naiveStringSearch.countOccurrences(t, pattern);
+                break;
+            case 6:
+                algorithm = kmpSearch;
+                countFunction = t -> kmpSearch.countOccurrences(t, pattern);
+                break;
+            case 7:
+                algorithm = horspoolSearch;
+                countFunction = t -> horspoolSearch.countOccurrences(t, pattern);
+                break;
+            default:
+                algorithm = firstCharScanSearch;
+                countFunction = t -> firstCharScanSearch.countOccurrences(t, pattern);
+        }
+        
+        // Warm-up run
+        countFunction.apply(text);
+        
+        long startTime = System.nanoTime();
+        int occurrences = countFunction.apply(text);
+        long endTime = System.nanoTime();
+        long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+        
+        System.out.println("Occurrences found: " + occurrences);
+        System.out.println("Execution time: " + executionTime + " ms");
+        System.out.printf("Scan throughput: %.1f MB/s\n", megabytesPerSecond(text.length() * 2L, endTime - startTime));
+        
+        // Add result to performance tracker
+        PerformanceResult result = new PerformanceResult(algorithm, executionTime, text.length());
+        performanceTracker.addResult(result);
+        resultManager.addResult(result);
+        
+        System.out.println("\nAlgorithm: " + algorithm.getName());
+        System.out.println("Description: " + algorithm.getDescription());
+        System.out.println("Time Complexity: " + algorithm.getTimeComplexity());
+        System.out.println("Space Complexity: " + algorithm.getSpaceComplexity());
+    }
+    
+    /**
+     * Runs Aho-Corasick over a generated pattern set, reporting build time and scan throughput separately.
+     */
+    private void runMultiPatternSearch() {
+        String text = getTextCorpus();
+        String[] patterns = getPatternSet(text);
+        
+        long buildStart = System.nanoTime();
+        StringSearchAlgorithms.AhoCorasickAutomaton automaton = ahoCorasickSearch.build(patterns);
+        long buildEnd = System.nanoTime();
+        
+        // Warm-up run
+        ahoCorasickSearch.search(automaton, text);
+        
+        long startTime = System.nanoTime();
+        int[] counts = ahoCorasickSearch.search(automaton, text);
+        long endTime = System.nanoTime();
+        long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+        
+        long total = Arrays.stream(counts).asLongStream().sum();
+        long matchedPatterns = Arrays.stream(counts).filter(c -> c > 0).count();
+        
+        System.out.println("Patterns matched: " + matchedPatterns + " of " + patterns.length);
+        System.out.println("Total occurrences: " + total);
+        displayAutomatonMetrics(automaton, buildEnd - buildStart, text.length(), endTime - startTime);
+        System.out.println("Execution time: " + executionTime + " ms");
+        
+        // Add result to performance tracker
+        PerformanceResult result = new PerformanceResult(ahoCorasickSearch, executionTime, text.length());
+        performanceTracker.addResult(result);
+        resultManager.addResult(result);
+        
+        System.out.println("\nAlgorithm: " + ahoCorasickSearch.getName());
+        System.out.println("Description: " + ahoCorasickSearch.getDescription());
+        System.out.println("Time Complexity: " + ahoCorasickSearch.getTimeComplexity());
+        System.out.println("Space Complexity: " + ahoCorasickSearch.getSpaceComplexity());
+    }
+    
+    /**
+     * Builds a suffix array index over a text and answers a single pattern query with it.
+     */
+    private void runSuffixArraySearch() {
+        String text = getTextCorpus();
+        
+        long buildStart = System.nanoTime();
+        StringSearchAlgorithms.SuffixArrayIndex index = suffixArraySearch.build(text);
+        long buildEnd = System.nanoTime();
+        
+        System.out.println("Construction time: " + (buildEnd - buildStart) / 1_000_000 + " ms");
+        System.out.printf("Index size: %d KB (%.1f bytes per character, excluding the text)\n",
+                index.getSizeInBytes() / 1024, text.isEmpty() ? 0.0 : (double) index.getSizeInBytes() / text.length());
+        
+        String pattern = getSearchPattern(text);
+        
+        // Warm-up run
+        suffixArraySearch.locate(index, pattern);
+        
+        long startTime = System.nanoTime();
+        int[] positions = suffixArraySearch.locate(index, pattern);
+        long endTime = System.nanoTime();
+        long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+        
+        System.out.println("Occurrences found: " + positions.length);
+        if (positions.length > 0) {
+            System.out.println("First positions: "
+                    + Arrays.toString(Arrays.copyOf(positions, Math.min(positions.length, 20))));
+        }
+        System.out.println("Query time: " + (endTime - startTime) / 1_000 + " us");
+        System.out.println("Execution time: " + executionTime + " ms");
+        
+        // Add result to performance tracker
+        PerformanceResult result = new PerformanceResult(suffixArraySearch, executionTime, text.length());
+        performanceTracker.addResult(result);
+        resultManager.addResult(result);
+        
+        System.out.println("\nAlgorithm: " + suffixArraySearch.getName());
+        System.out.println("Description: " + suffixArraySearch.getDescription());
+        System.out.println("Time Complexity: " + suffixArraySearch.getTimeComplexity());
+        System.out.println("Space Complexity: " + suffixArraySearch.getSpaceComplexity());
+    }
+    
+    /**
+     * Displays build-time and scan-throughput metrics for an Aho-Corasick automaton.
+     * 
+     * @param automaton The automaton
+     * @param buildNanos The construction time in nanoseconds
+     * @param textLength The length of the scanned text
+     * @param scanNanos The scan time in nanoseconds
+     */
+    private void displayAutomatonMetrics(StringSearchAlgorithms.AhoCorasickAutomaton automaton,
+            long buildNanos, int textLength, long scanNanos) {
+        System.out.println("States: " + automaton.getStateCount() + ", character classes: "
+                + automaton.getAlphabetSize() + ", table size: " + automaton.getSizeInBytes() / 1024 + " KB");
+        System.out.println("Build time: " + buildNanos / 1_000_000 + " ms");
+        System.out.printf("Scan throughput: %.1f MB/s\n", megabytesPerSecond(textLength * 2L, scanNanos));
+    }
+    
     /**
      * Displays the graph algorithms menu.
      */
@@ -462,12 +712,70 @@ public class ConsoleUI {
             System.out.println("1. Depth-First Search");
             System.out.println("2. Breadth-First Search");
             System.out.println("3. Dijkstra's Algorithm");
+            System.out.println("4. Adjacency List vs CSR Representation");
+            System.out.println("5. Compare Shortest Path Implementations");
+            System.out.println("6. Integer Weight Sweep (Dial / Radix Heap vs Dijkstra)");
+            System.out.println("7. Depth-First Search (Iterative, with timestamps)");
+            System.out.println("8. Direction-Optimizing Parallel BFS (per-level timing, TEPS)");
+            System.out.println("9. Delta-Stepping Delta Sweep");
+            System.out.println("10. Point-to-Point Queries (Bidirectional Dijkstra, A*)");
+            System.out.println("11. Contraction Hierarchies (preprocessing, query speedup)");
+            System.out.println("12. Multi-Source BFS vs Repeated BFS (batched throughput)");
+            System.out.println("13. Connected Components Edge Sweep (Union-Find, Parallel Afforest)");
+            System.out.println("14. Vertex Reordering for Cache Locality (Degree, RCM, BFS order)");
+            System.out.println("15. Binary Graph File (write, memory-map, traverse in place)");
+            System.out.println("16. Import Edge List (SNAP, DIMACS .gr, Matrix Market .mtx)");
+            System.out.println("17. Synthetic Graph Generators (R-MAT, Barabási-Albert, grid, geometric)");
+            System.out.println("18. Shortest Path Cache (hot sources, LRU, invalidation)");
+            System.out.println("19. Incremental Shortest Paths (repair vs recompute by batch size)");
+            System.out.println("20. All-Pairs Shortest Paths Density Sweep (Blocked Floyd-Warshall, Johnson)");
+            System.out.println("21. Minimum Spanning Tree Edge Sweep (Kruskal, Prim, Parallel Borůvka)");
+            System.out.println("22. Strong Components and Reachability Index (build cost vs query speedup)");
+            System.out.println("23. Graph Analytics (Parallel PageRank, Triangle Counting, edges/sec)");
             System.out.println("0. Back to Main Menu");
             
             int choice = getIntInput("Enter your choice: ");
             
-            if (choice >= 1 && choice <= 3) {
+            if ((choice >= 1 && choice <= 3) || choice == 7) {
                 runGraphAlgorithm(choice);
+            } else if (choice == 4) {
+                runRepresentationComparison();
+            } else if (choice == 5) {
+                compareShortestPathImplementations();
+            } else if (choice == 6) {
+                runWeightSweep();
+            } else if (choice == 8) {
+                runParallelBfs();
+            } else if (choice == 9) {
+                runDeltaSweep();
+            } else if (choice == 10) {
+                runPointToPointQueries();
+            } else if (choice == 11) {
+                runContractionHierarchies();
+            } else if (choice == 12) {
+                runMultiSourceBfs();
+            } else if (choice == 13) {
+                runComponentSweep();
+            } else if (choice == 14) {
+                runReorderingBenchmark();
+            } else if (choice == 15) {
+                runBinaryGraphFile();
+            } else if (choice == 16) {
+                runEdgeListImport();
+            } else if (choice == 17) {
+                runGraphGenerator();
+            } else if (choice == 18) {
+                runShortestPathCache();
+            } else if (choice == 19) {
+                runIncrementalShortestPaths();
+            } else if (choice == 20) {
+                runAllPairsSweep();
+            } else if (choice == 21) {
+                runSpanningTreeSweep();
+            } else if (choice == 22) {
+                runReachabilityIndex();
+            } else if (choice == 23) {
+                runGraphAnalytics();
             } else if (choice == 0) {
                 back = true;
             } else {
@@ -529,6 +837,30 @@ public class ConsoleUI {
                 System.out.println("DFS traversal: " + dfsResult);
                 break;
                 
+            case 7:
+                algorithm = iterativeDfs;
+                
+                // Warm-up run
+                iterativeDfs.traverseWithTimestamps(graph, startVertex);
+                
+                long startTime7 = System.nanoTime();
+                GraphAlgorithms.DfsResult dfsTimestamps = iterativeDfs.traverseWithTimestamps(graph, startVertex);
+                long endTime7 = System.nanoTime();
+                executionTime = (endTime7 - startTime7) / 1_000_000; // Convert to milliseconds
+                
+                System.out.println("DFS visited " + dfsTimestamps.getVisitedCount() + " vertices");
+                
+                // Only print the full traversal for small graphs
+                if (graph.getVertices() <= 20) {
+                    int[] pre = dfsTimestamps.getPreOrder();
+                    int[] post = dfsTimestamps.getPostOrder();
+                    System.out.println("DFS traversal: " + dfsTimestamps.getVisitOrderList());
+                    for (int v : dfsTimestamps.getVisitOrder()) {
+                        System.out.println("Vertex " + v + ": discovered " + pre[v] + ", finished " + post[v]);
+                    }
+                }
+                break;
+                
             case 2:
                 algorithm = bfs;
                 
@@ -593,159 +925,1698 @@ public class ConsoleUI {
     }
     
     /**
-     * Displays the compare algorithms menu.
+     * Runs DFS, BFS, and Dijkstra's Algorithm on the same random graph stored as an adjacency
+     * list and in CSR form, reporting memory per edge and execution times for both.
      */
-    private void compareAlgorithmsMenu() {
-        System.out.println("\nCOMPARE ALGORITHMS");
-        System.out.println("Select algorithm category:");
-        System.out.println("1. Sorting Algorithms");
-        System.out.println("2. Searching Algorithms");
-        System.out.println("3. Graph Algorithms");
-        // Dynamic Programming option removed
+    private void runRepresentationComparison() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        int maxWeight = getIntInput("Enter maximum edge weight: ");
         
-        int categoryChoice = getIntInput("Enter your choice: ");
+        Graph graph = dataGenerator.generateRandomGraph(vertices, edges, maxWeight);
         
-        switch (categoryChoice) {
-            case 1:
-                compareSortingAlgorithms();
-                break;
-            case 2:
-                compareSearchingAlgorithms();
-                break;
-            case 3:
-                compareGraphAlgorithms();
-                break;
-            default:
-                System.out.println("Invalid choice. Returning to main menu.");
+        long convertStart = System.nanoTime();
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(graph);
+        long convertEnd = System.nanoTime();
+        
+        long edgeCount = graph.getEdgeCount();
+        System.out.println("\nConversion to CSR: " + (convertEnd - convertStart) / 1_000_000 + " ms");
+        System.out.println("--------------------------------------------------");
+        System.out.printf("%-25s %-15s %-15s\n", "Representation", "Total (KB)", "Bytes/edge");
+        System.out.println("--------------------------------------------------");
+        System.out.printf("%-25s %-15d %-15.1f\n", "Adjacency list (est.)", graph.estimateSizeInBytes() / 1024,
+                edgeCount == 0 ? 0.0 : (double) graph.estimateSizeInBytes() / edgeCount);
+        System.out.printf("%-25s %-15d %-15.1f\n", "CSR", csrGraph.getSizeInBytes() / 1024, csrGraph.getBytesPerEdge());
+        System.out.println("--------------------------------------------------");
+        
+        List<Algorithm> algorithms = List.of(dfs, iterativeDfs, bfs, dijkstra);
+        List<Function<Graph, Object>> listFunctions = List.of(
+                g -> dfs.traverse(g, 0), g -> iterativeDfs.traverse(g, 0),
+                g -> bfs.traverse(g, 0), g -> dijkstra.findShortestPaths(g, 0));
+        List<Function<GraphAlgorithms.CsrGraph, Object>> csrFunctions = List.of(
+                g -> dfs.traverse(g, 0), g -> iterativeDfs.traverse(g, 0),
+                g -> bfs.traverse(g, 0), g -> dijkstra.findShortestPaths(g, 0));
+        
+        System.out.printf("\n%-32s %-15s %-15s\n", "Algorithm", "List (ms)", "CSR (ms)");
+        System.out.println("---------------------------------------------------------");
+        
+        for (int i = 0; i < algorithms.size(); i++) {
+            Algorithm algorithm = algorithms.get(i);
+            try {
+                long listTime = performanceTracker.measureExecutionTime(algorithm, graph, listFunctions.get(i));
+                long csrTime = performanceTracker.measureExecutionTime(algorithm, csrGraph, csrFunctions.get(i));
+                System.out.printf("%-32s %-15d %-15d\n", algorithm.getName(), listTime, csrTime);
+                
+                // Add result to performance tracker
+                PerformanceResult result = new PerformanceResult(algorithm, csrTime, vertices);
+                performanceTracker.addResult(result);
+                resultManager.addResult(result);
+            } catch (StackOverflowError e) {
+                System.out.printf("%-32s %s\n", algorithm.getName(), "stack overflow (graph too deep for recursion)");
+            }
         }
+        System.out.println("---------------------------------------------------------");
     }
     
     /**
-     * Compares sorting algorithms.
+     * Runs the selected single-source shortest path implementations on the same CSR graph,
+     * checking that they produce identical distances.
      */
-    private void compareSortingAlgorithms() {
-        System.out.println("\nComparing Sorting Algorithms");
-        
-        System.out.println("Select algorithms to compare (comma-separated, e.g., 1,3,5):");
-        System.out.println("1. Bubble Sort");
-        System.out.println("2. Insertion Sort");
-        System.out.println("3. Selection Sort");
-        System.out.println("4. Merge Sort");
-        System.out.println("5. Quick Sort");
+    private void compareShortestPathImplementations() {
+        System.out.println("\nSelect implementations to compare (comma-separated, e.g., 1,2,3):");
+        for (int i = 0; i < shortestPathAlgorithms.size(); i++) {
+            System.out.println((i + 1) + ". " + shortestPathAlgorithms.get(i).getName());
+        }
         
         String input = scanner.next();
-        String[] choices = input.split(",");
-        
-        List<Algorithm> algorithms = new ArrayList<>();
-        List<Function<int[], int[]>> functions = new ArrayList<>();
+        List<ShortestPathAlgorithm> selected = new ArrayList<>();
         
-        for (String choice : choices) {
+        for (String choice : input.split(",")) {
             try {
                 int algorithmChoice = Integer.parseInt(choice.trim());
-                
-                switch (algorithmChoice) {
-                    case 1:
-                        algorithms.add(bubbleSort);
-                        functions.add(bubbleSort::sort);
-                        break;
-                    case 2:
-                        algorithms.add(insertionSort);
-                        functions.add(insertionSort::sort);
-                        break;
-                    case 3:
-                        algorithms.add(selectionSort);
-                        functions.add(selectionSort::sort);
-                        break;
-                    case 4:
-                        algorithms.add(mergeSort);
-                        functions.add(mergeSort::sort);
-                        break;
-                    case 5:
-                        algorithms.add(quickSort);
-                        functions.add(quickSort::sort);
-                        break;
-                    default:
-                        System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
+                if (algorithmChoice >= 1 && algorithmChoice <= shortestPathAlgorithms.size()) {
+                    selected.add(shortestPathAlgorithms.get(algorithmChoice - 1));
+                } else {
+                    System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
                 }
             } catch (NumberFormatException e) {
                 System.out.println("Invalid input: " + choice + ". Skipping.");
             }
         }
         
-        if (algorithms.isEmpty()) {
-            System.out.println("No valid algorithms selected. Returning to main menu.");
+        if (selected.isEmpty()) {
+            System.out.println("No valid algorithms selected. Returning to graph menu.");
             return;
         }
         
-        System.out.println("\nSelect input type:");
-        System.out.println("1. Random array");
-        System.out.println("2. Nearly sorted array");
-        System.out.println("3. Reversed array");
-        System.out.println("4. Array with many duplicates");
-        
-        int inputChoice = getIntInput("Enter your choice: ");
-        int size = getIntInput("Enter array size: ");
-        
-        int[] array;
-        switch (inputChoice) {
-            case 1:
-                array = dataGenerator.generateRandomIntArray(size, 0, 1000);
-                break;
-            case 2:
-                array = dataGenerator.generateNearlySortedIntArray(size, 0, 1000, 0.1);
-                break;
-            case 3:
-                array = dataGenerator.generateReversedIntArray(size, 0, 1000);
-                break;
-            case 4:
-                int uniqueValues = getIntInput("Enter number of unique values: ");
-                array = dataGenerator.generateArrayWithDuplicates(size, uniqueValues);
-                break;
-            default:
-                System.out.println("Invalid choice. Using random array.");
-                array = dataGenerator.generateRandomIntArray(size, 0, 1000);
-        }
-        
-        System.out.println("\nComparing " + algorithms.size() + " sorting algorithms on an array of size " + size);
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        int maxWeight = getIntInput("Enter maximum edge weight: ");
         
-        Map<String, Long> results = new HashMap<>();
+        Graph graph = dataGenerator.generateRandomGraph(vertices, edges, maxWeight);
         
-        for (int i = 0; i < algorithms.size(); i++) {
-            Algorithm algorithm = algorithms.get(i);
-            Function<int[], int[]> function = functions.get(i);
-            
-            // Create a copy of the array for each algorithm
-            int[] arrayCopy = Arrays.copyOf(array, array.length);
-            
-            // Warm-up run
-            function.apply(arrayCopy);
-            
-            // Actual measurement
-            long startTime = System.nanoTime();
-            function.apply(arrayCopy);
-            long endTime = System.nanoTime();
-            long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
-            
-            results.put(algorithm.getName(), executionTime);
-            
-            // Add result to performance tracker
-            PerformanceResult result = new PerformanceResult(algorithm, executionTime, size);
-            performanceTracker.addResult(result);
-            resultManager.addResult(result);
-        }
+        long convertStart = System.nanoTime();
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(graph);
+        long convertEnd = System.nanoTime();
+        System.out.println("Conversion to CSR: " + (convertEnd - convertStart) / 1_000_000 + " ms");
         
-        displayComparisonResults(results);
+        compareShortestPaths(selected, csrGraph, 0);
     }
     
     /**
-     * Compares searching algorithms.
+     * Runs the integer-weight shortest path implementations against Dijkstra's Algorithm on
+     * graphs of the same shape generated with a range of maximum edge weights.
      */
-    private void compareSearchingAlgorithms() {
-        System.out.println("\nComparing Searching Algorithms");
-        
-        List<Algorithm> algorithms = new ArrayList<>();
-        algorithms.add(linearSearch);
-        algorithms.add(binarySearch);
+    private void runWeightSweep() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        System.out.println("Enter maximum edge weights to sweep (comma-separated, e.g., 1,10,100,10000):");
+        String input = scanner.next();
+        
+        List<Integer> maxWeights = new ArrayList<>();
+        for (String value : input.split(",")) {
+            try {
+                int maxWeight = Integer.parseInt(value.trim());
+                if (maxWeight >= 1) {
+                    maxWeights.add(maxWeight);
+                } else {
+                    System.out.println("Invalid maximum weight: " + maxWeight + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + value + ". Skipping.");
+            }
+        }
+        
+        List<ShortestPathAlgorithm> algorithms = new ArrayList<>(List.of(binaryHeapDijkstra, dialDijkstra, radixHeapDijkstra));
+        if (getIntInput("Include the O(V²) array-scan Dijkstra? (1 = yes, 0 = no): ") == 1) {
+            algorithms.add(0, dijkstra);
+        }
+        
+        System.out.printf("\n%-12s", "Max weight");
+        for (ShortestPathAlgorithm algorithm : algorithms) {
+            System.out.printf(" %-27s", algorithm.getName());
+        }
+        System.out.println();
+        
+        for (int maxWeight : maxWeights) {
+            GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                    dataGenerator.generateRandomGraph(vertices, edges, maxWeight));
+            int[] reference = null;
+            
+            System.out.printf("%-12d", maxWeight);
+            for (ShortestPathAlgorithm algorithm : algorithms) {
+                // Warm-up run; implementations that cannot handle these weights are skipped
+                int[] distances;
+                try {
+                    distances = algorithm.findShortestPaths(csrGraph, 0);
+                } catch (IllegalArgumentException e) {
+                    System.out.printf(" %-27s", "n/a (weights too large)");
+                    continue;
+                }
+                
+                long startTime = System.nanoTime();
+                algorithm.findShortestPaths(csrGraph, 0);
+                long endTime = System.nanoTime();
+                long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+                
+                boolean agrees = reference == null || Arrays.equals(reference, distances);
+                if (reference == null) {
+                    reference = distances;
+                }
+                System.out.printf(" %-27s", executionTime + " ms" + (agrees ? "" : " (MISMATCH)"));
+                
+                // Add result to performance tracker
+                PerformanceResult result = new PerformanceResult(algorithm, executionTime, vertices);
+                performanceTracker.addResult(result);
+                resultManager.addResult(result);
+            }
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Runs the sequential and direction-optimizing parallel BFS on the same random graph,
+     * reporting per-level timings and traversed edges per second.
+     */
+    private void runParallelBfs() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(vertices, edges, 1));
+        GraphAlgorithms.CsrGraph transpose = csrGraph.transpose();
+        
+        // Warm-up runs
+        bfs.traverse(csrGraph, 0);
+        parallelBfs.search(csrGraph, transpose, 0);
+        
+        long startTime = System.nanoTime();
+        List<Integer> sequentialResult = bfs.traverse(csrGraph, 0);
+        long sequentialNanos = System.nanoTime() - startTime;
+        
+        GraphAlgorithms.ParallelBfsResult parallelResult = parallelBfs.search(csrGraph, transpose, 0);
+        
+        System.out.println("\nParallel BFS with " + parallelBfs.getThreads() + " threads from vertex 0");
+        System.out.println("------------------------------------------------------------------");
+        System.out.printf("%-8s %-12s %-15s %-15s %-12s\n", "Level", "Direction", "Frontier", "Edges examined", "Time (ms)");
+        System.out.println("------------------------------------------------------------------");
+        for (GraphAlgorithms.BfsLevel level : parallelResult.getLevelStats()) {
+            System.out.printf("%-8d %-12s %-15d %-15d %-12.3f\n", level.getLevel(),
+                    level.isBottomUp() ? "bottom-up" : "top-down", level.getFrontierSize(),
+                    level.getEdgesExamined(), level.getNanos() / 1_000_000.0);
+        }
+        System.out.println("------------------------------------------------------------------");
+        
+        long sequentialEdges = 0;
+        for (int vertex : sequentialResult) {
+            sequentialEdges += csrGraph.getOutDegree(vertex);
+        }
+        double sequentialTeps = sequentialNanos == 0 ? 0 : sequentialEdges / (sequentialNanos / 1_000_000_000.0);
+        
+        System.out.printf("%-45s %-10s %-12s %-10s\n", "Algorithm", "Reached", "Time (ms)", "MTEPS");
+        System.out.printf("%-45s %-10d %-12.3f %-10.1f\n", bfs.getName(), sequentialResult.size(),
+                sequentialNanos / 1_000_000.0, sequentialTeps / 1_000_000);
+        System.out.printf("%-45s %-10d %-12.3f %-10.1f\n", parallelBfs.getName(), parallelResult.getReachedCount(),
+                parallelResult.getElapsedNanos() / 1_000_000.0, parallelResult.getTeps() / 1_000_000);
+        
+        if (sequentialResult.size() != parallelResult.getReachedCount()) {
+            System.out.println("Warning: the searches reached different numbers of vertices.");
+        }
+        
+        // Add results to performance tracker
+        PerformanceResult sequential = new PerformanceResult(bfs, sequentialNanos / 1_000_000, vertices);
+        PerformanceResult parallel = new PerformanceResult(parallelBfs, parallelResult.getElapsedNanos() / 1_000_000, vertices);
+        performanceTracker.addResult(sequential);
+        performanceTracker.addResult(parallel);
+        resultManager.addResult(sequential);
+        resultManager.addResult(parallel);
+    }
+    
+    /**
+     * Runs delta-stepping with a range of bucket widths on the same random graph, checking
+     * each result against Dijkstra's Algorithm with a binary heap.
+     */
+    private void runDeltaSweep() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        int maxWeight = getIntInput("Enter maximum edge weight: ");
+        System.out.println("Enter delta values to sweep (comma-separated, 0 = automatic, e.g., 0,1,10,100):");
+        String input = scanner.next();
+        
+        List<Integer> deltas = new ArrayList<>();
+        for (String value : input.split(",")) {
+            try {
+                int delta = Integer.parseInt(value.trim());
+                if (delta >= 0) {
+                    deltas.add(delta);
+                } else {
+                    System.out.println("Invalid delta: " + delta + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + value + ". Skipping.");
+            }
+        }
+        
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(vertices, edges, maxWeight));
+        
+        // Warm-up run
+        binaryHeapDijkstra.findShortestPaths(csrGraph, 0);
+        
+        long referenceStart = System.nanoTime();
+        int[] reference = binaryHeapDijkstra.findShortestPaths(csrGraph, 0);
+        long referenceTime = (System.nanoTime() - referenceStart) / 1_000_000; // Convert to milliseconds
+        
+        System.out.println("\n" + binaryHeapDijkstra.getName() + ": " + referenceTime + " ms");
+        System.out.println("Delta-stepping with " + deltaStepping.getThreads() + " threads");
+        System.out.println("--------------------------------------------------");
+        System.out.printf("%-12s %-12s %-12s %-12s\n", "Delta", "Used", "Time (ms)", "Result");
+        System.out.println("--------------------------------------------------");
+        
+        for (int delta : deltas) {
+            ShortestPathAlgorithms.DeltaSteppingShortestPaths algorithm = delta == 0
+                    ? deltaStepping : new ShortestPathAlgorithms.DeltaSteppingShortestPaths(delta);
+            
+            // Warm-up run
+            algorithm.findShortestPaths(csrGraph, 0);
+            
+            long startTime = System.nanoTime();
+            int[] distances = algorithm.findShortestPaths(csrGraph, 0);
+            long endTime = System.nanoTime();
+            long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            
+            System.out.printf("%-12s %-12d %-12d %-12s\n", delta == 0 ? "auto" : String.valueOf(delta),
+                    algorithm.getDelta(csrGraph), executionTime,
+                    Arrays.equals(reference, distances) ? "identical" : "MISMATCH");
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, executionTime, vertices);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        System.out.println("--------------------------------------------------");
+    }
+    
+    /**
+     * Answers random source-to-target queries on a planar graph with the point-to-point
+     * algorithms, comparing query times and the number of vertices each search settles.
+     */
+    private void runPointToPointQueries() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int neighbors = getIntInput("Enter number of neighbors per vertex: ");
+        int queries = getIntInput("Enter number of queries: ");
+        
+        if (vertices < 1 || neighbors < 1 || queries < 1) {
+            System.out.println("Vertices, neighbors, and queries must be positive.");
+            return;
+        }
+        
+        Graph graph = dataGenerator.generatePlanarGraph(vertices, neighbors);
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(graph);
+        csrGraph.transpose();
+        
+        List<PointToPointAlgorithm> algorithms = List.of(earlyExitDijkstra, bidirectionalDijkstra,
+                new PointToPointAlgorithms.AStarSearch(PointToPointAlgorithms.Heuristic.euclidean(graph)));
+        
+        Random random = dataGenerator.getRandom();
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = random.nextInt(vertices);
+            targets[q] = random.nextInt(vertices);
+        }
+        
+        // A full single-source search settles every reachable vertex
+        long fullStart = System.nanoTime();
+        int[] distances = binaryHeapDijkstra.findShortestPaths(csrGraph, sources[0]);
+        long fullNanos = System.nanoTime() - fullStart;
+        int reachable = 0;
+        for (int distance : distances) {
+            if (distance != Integer.MAX_VALUE) {
+                reachable++;
+            }
+        }
+        
+        System.out.println("\nPlanar graph with " + vertices + " vertices and " + csrGraph.getEdgeCount() + " edges");
+        System.out.println("-------------------------------------------------------------------------------");
+        System.out.printf("%-32s %-15s %-15s %-15s\n", "Algorithm", "Avg time (ms)", "Avg settled", "Search space");
+        System.out.println("-------------------------------------------------------------------------------");
+        System.out.printf("%-32s %-15.3f %-15d %-15s\n", binaryHeapDijkstra.getName() + " (all)",
+                fullNanos / 1_000_000.0, reachable, "100.0%");
+        
+        PointToPointAlgorithms.PathResult[] reference = new PointToPointAlgorithms.PathResult[queries];
+        boolean mismatch = false;
+        
+        for (PointToPointAlgorithm algorithm : algorithms) {
+            // Warm-up run
+            algorithm.findPath(csrGraph, sources[0], targets[0]);
+            
+            long settled = 0;
+            long startTime = System.nanoTime();
+            for (int q = 0; q < queries; q++) {
+                PointToPointAlgorithms.PathResult path = algorithm.findPath(csrGraph, sources[q], targets[q]);
+                settled += path.getSettledVertices();
+                if (reference[q] == null) {
+                    reference[q] = path;
+                } else if (reference[q].getDistance() != path.getDistance()) {
+                    mismatch = true;
+                }
+            }
+            long totalNanos = System.nanoTime() - startTime;
+            
+            double averageSettled = (double) settled / queries;
+            System.out.printf("%-32s %-15.3f %-15.0f %-15s\n", algorithm.getName(), totalNanos / 1_000_000.0 / queries,
+                    averageSettled, String.format("%.1f%%", reachable == 0 ? 0 : 100.0 * averageSettled / reachable));
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, totalNanos / 1_000_000, vertices);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        if (mismatch) {
+            System.out.println("Warning: the algorithms returned different distances.");
+        }
+        
+        PointToPointAlgorithms.PathResult sample = reference[0];
+        System.out.print("Sample query " + sources[0] + " -> " + targets[0] + ": ");
+        if (sample.isReachable()) {
+            int[] path = sample.getPath();
+            System.out.println("distance " + sample.getDistance() + ", " + (path.length - 1) + " edges");
+            if (path.length <= 20) {
+                System.out.println("Path: " + Arrays.toString(path));
+            }
+        } else {
+            System.out.println("target not reachable");
+        }
+    }
+    
+    /**
+     * Preprocesses a planar graph into a contraction hierarchy and compares its query time
+     * with Dijkstra's Algorithm on the same random source-target pairs.
+     */
+    private void runContractionHierarchies() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int neighbors = getIntInput("Enter number of neighbors per vertex: ");
+        int queries = getIntInput("Enter number of queries: ");
+        
+        if (vertices < 1 || neighbors < 1 || queries < 1) {
+            System.out.println("Vertices, neighbors, and queries must be positive.");
+            return;
+        }
+        
+        boolean includeArrayScan = getIntInput("Include the O(V²) array-scan Dijkstra? (1 = yes, 0 = no): ") == 1;
+        
+        Graph graph = dataGenerator.generatePlanarGraph(vertices, neighbors);
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(graph);
+        PointToPointAlgorithms.ContractionHierarchy hierarchy = contractionHierarchies.build(graph);
+        
+        System.out.println("\nPreprocessing time: " + hierarchy.getPreprocessingNanos() / 1_000_000 + " ms");
+        System.out.println("Original edges: " + csrGraph.getEdgeCount());
+        System.out.println("Shortcuts added: " + hierarchy.getShortcutCount());
+        System.out.println("Upward search edges: " + hierarchy.getUpwardEdgeCount());
+        
+        Random random = dataGenerator.getRandom();
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = random.nextInt(vertices);
+            targets[q] = random.nextInt(vertices);
+        }
+        
+        // Dijkstra computes all distances per query, so only a few queries are timed
+        List<ShortestPathAlgorithm> baselines = new ArrayList<>(List.of(binaryHeapDijkstra));
+        if (includeArrayScan) {
+            baselines.add(dijkstra);
+        }
+        int baselineQueries = Math.min(queries, 3);
+        boolean mismatch = false;
+        
+        // Warm-up run
+        contractionHierarchies.findPath(hierarchy, sources[0], targets[0]);
+        
+        long settled = 0;
+        int[] hierarchyDistances = new int[queries];
+        long hierarchyBaselineNanos = 0;
+        long hierarchyStart = System.nanoTime();
+        for (int q = 0; q < queries; q++) {
+            PointToPointAlgorithms.PathResult path = contractionHierarchies.findPath(hierarchy, sources[q], targets[q]);
+            hierarchyDistances[q] = path.getDistance();
+            settled += path.getSettledVertices();
+            if (q == baselineQueries - 1) {
+                hierarchyBaselineNanos = System.nanoTime() - hierarchyStart;
+            }
+        }
+        long hierarchyNanos = System.nanoTime() - hierarchyStart;
+        double hierarchyAverage = (double) hierarchyNanos / queries;
+        
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("%-28s %-18s %-15s\n", "Algorithm", "Avg query (ms)", "CH speedup");
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("%-28s %-18.4f %-15s\n", contractionHierarchies.getName(), hierarchyAverage / 1_000_000, "-");
+        
+        for (ShortestPathAlgorithm baseline : baselines) {
+            long baselineNanos = 0;
+            for (int q = 0; q < baselineQueries; q++) {
+                long startTime = System.nanoTime();
+                int[] distances = baseline.findShortestPaths(csrGraph, sources[q]);
+                baselineNanos += System.nanoTime() - startTime;
+                if (distances[targets[q]] != hierarchyDistances[q]) {
+                    mismatch = true;
+                }
+            }
+            double baselineAverage = (double) baselineNanos / baselineQueries;
+            System.out.printf("%-28s %-18.4f %-15s\n", baseline.getName(), baselineAverage / 1_000_000,
+                    String.format("%.1fx", hierarchyAverage == 0 ? 0 : baselineAverage / hierarchyAverage));
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(baseline, baselineNanos / 1_000_000, vertices);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("Average vertices settled per CH query: %.0f of %d\n", (double) settled / queries, vertices);
+        
+        if (mismatch) {
+            System.out.println("Warning: the hierarchy and Dijkstra's Algorithm returned different distances.");
+        }
+        
+        // Add result to performance tracker, over the same queries as the baselines
+        PerformanceResult result = new PerformanceResult(contractionHierarchies, hierarchyBaselineNanos / 1_000_000, vertices);
+        performanceTracker.addResult(result);
+        resultManager.addResult(result);
+    }
+    
+    /**
+     * Runs Breadth-First Searches from a batch of random sources, once as a single bit-parallel
+     * multi-source search and once as repeated single-source searches, and compares throughput.
+     */
+    private void runMultiSourceBfs() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        int sourceCount = getIntInput("Enter number of sources (64 per bitset word): ");
+        
+        if (vertices < 1 || sourceCount < 1) {
+            System.out.println("Vertices and sources must be positive.");
+            return;
+        }
+        
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(vertices, edges, 1));
+        Random random = dataGenerator.getRandom();
+        int[] sources = new int[sourceCount];
+        for (int i = 0; i < sourceCount; i++) {
+            sources[i] = random.nextInt(vertices);
+        }
+        
+        // Warm-up runs
+        bfs.traverse(csrGraph, sources[0]);
+        try {
+            multiSourceBfs.search(csrGraph, sources);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Cannot run batch: " + e.getMessage());
+            return;
+        }
+        
+        int[] repeatedCounts = new int[sourceCount];
+        long startTime = System.nanoTime();
+        for (int i = 0; i < sourceCount; i++) {
+            repeatedCounts[i] = bfs.traverse(csrGraph, sources[i]).size();
+        }
+        long repeatedNanos = System.nanoTime() - startTime;
+        
+        startTime = System.nanoTime();
+        GraphAlgorithms.MultiSourceBfsResult result = multiSourceBfs.search(csrGraph, sources);
+        long batchedNanos = System.nanoTime() - startTime;
+        
+        boolean mismatch = false;
+        long reached = 0;
+        for (int i = 0; i < sourceCount; i++) {
+            reached += repeatedCounts[i];
+            if (repeatedCounts[i] != result.getReachedCounts()[i]) {
+                mismatch = true;
+            }
+        }
+        
+        System.out.println("\nBreadth-First Search from " + sourceCount + " sources (" + reached + " vertex visits)");
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("%-34s %-12s %-15s\n", "Algorithm", "Time (ms)", "Sources/sec");
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("%-34s %-12.3f %-15.1f\n", "Repeated " + bfs.getName(), repeatedNanos / 1_000_000.0,
+                repeatedNanos == 0 ? 0 : sourceCount / (repeatedNanos / 1_000_000_000.0));
+        System.out.printf("%-34s %-12.3f %-15.1f\n", multiSourceBfs.getName(), batchedNanos / 1_000_000.0,
+                batchedNanos == 0 ? 0 : sourceCount / (batchedNanos / 1_000_000_000.0));
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("Speedup: %.2fx\n", batchedNanos == 0 ? 0 : (double) repeatedNanos / batchedNanos);
+        
+        int shown = Math.min(sourceCount, 5);
+        System.out.println("\nFirst " + shown + " sources:");
+        System.out.printf("%-10s %-10s %-14s %-12s\n", "Source", "Reached", "Eccentricity", "Closeness");
+        for (int i = 0; i < shown; i++) {
+            System.out.printf("%-10d %-10d %-14d %-12.4f\n", sources[i], result.getReachedCounts()[i],
+                    result.getEccentricities()[i], result.getCloseness(i));
+        }
+        
+        if (mismatch) {
+            System.out.println("Warning: the searches reached different numbers of vertices.");
+        }
+        
+        // Add results to performance tracker
+        PerformanceResult repeated = new PerformanceResult(bfs, repeatedNanos / 1_000_000, vertices);
+        PerformanceResult batched = new PerformanceResult(multiSourceBfs, batchedNanos / 1_000_000, vertices);
+        performanceTracker.addResult(repeated);
+        performanceTracker.addResult(batched);
+        resultManager.addResult(repeated);
+        resultManager.addResult(batched);
+    }
+    
+    /**
+     * Finds the connected components of random graphs with a fixed vertex count and a range of
+     * edge counts, timing the union-find and parallel implementations and checking they agree.
+     * The graphs are generated without a connecting path, so components merge as edges are added.
+     */
+    private void runComponentSweep() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        System.out.println("Enter edge counts to sweep (comma-separated, e.g., 50000,100000,200000):");
+        String input = scanner.next();
+        
+        List<Integer> edgeCounts = new ArrayList<>();
+        for (String value : input.split(",")) {
+            try {
+                int edges = Integer.parseInt(value.trim());
+                if (edges >= 0) {
+                    edgeCounts.add(edges);
+                } else {
+                    System.out.println("Invalid edge count: " + edges + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + value + ". Skipping.");
+            }
+        }
+        
+        System.out.println("\nParallel components with " + parallelComponents.getThreads() + " threads");
+        System.out.println("-----------------------------------------------------------------------------------");
+        System.out.printf("%-12s %-12s %-12s %-18s %-18s %-10s\n", "Edges", "Components", "Largest",
+                "Union-Find (ms)", "Parallel (ms)", "Result");
+        System.out.println("-----------------------------------------------------------------------------------");
+        
+        for (int edges : edgeCounts) {
+            GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                    dataGenerator.generateRandomGraph(vertices, edges, 1, false));
+            
+            // Warm-up runs
+            unionFindComponents.findComponents(csrGraph);
+            parallelComponents.findComponents(csrGraph);
+            
+            long startTime = System.nanoTime();
+            int[] sequentialIds = unionFindComponents.findComponents(csrGraph);
+            long sequentialNanos = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            int[] parallelIds = parallelComponents.findComponents(csrGraph);
+            long parallelNanos = System.nanoTime() - startTime;
+            
+            System.out.printf("%-12d %-12d %-12d %-18.3f %-18.3f %-10s\n", edges,
+                    ConnectivityAlgorithms.countComponents(sequentialIds),
+                    ConnectivityAlgorithms.largestComponentSize(sequentialIds),
+                    sequentialNanos / 1_000_000.0, parallelNanos / 1_000_000.0,
+                    Arrays.equals(sequentialIds, parallelIds) ? "identical" : "MISMATCH");
+            
+            // Add results to performance tracker
+            PerformanceResult sequential = new PerformanceResult(unionFindComponents, sequentialNanos / 1_000_000, vertices);
+            PerformanceResult parallel = new PerformanceResult(parallelComponents, parallelNanos / 1_000_000, vertices);
+            performanceTracker.addResult(sequential);
+            performanceTracker.addResult(parallel);
+            resultManager.addResult(sequential);
+            resultManager.addResult(parallel);
+        }
+        System.out.println("-----------------------------------------------------------------------------------");
+    }
+    
+    /**
+     * Renumbers a random graph with each reordering and times Breadth-First Search and Dijkstra's
+     * Algorithm before and after, reporting the reordering cost separately. Distances on each
+     * renumbered graph are mapped back to the original ids and checked against the original run.
+     */
+    private void runReorderingBenchmark() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        
+        if (vertices < 1) {
+            System.out.println("The graph must have at least one vertex.");
+            return;
+        }
+        
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(vertices, edges, 100));
+        
+        // Warm-up runs
+        bfs.traverse(csrGraph, 0);
+        binaryHeapDijkstra.findShortestPaths(csrGraph, 0);
+        
+        long startTime = System.nanoTime();
+        bfs.traverse(csrGraph, 0);
+        long bfsNanos = System.nanoTime() - startTime;
+        
+        startTime = System.nanoTime();
+        int[] reference = binaryHeapDijkstra.findShortestPaths(csrGraph, 0);
+        long dijkstraNanos = System.nanoTime() - startTime;
+        
+        System.out.println("\nTraversals from vertex 0 (" + bfs.getName() + ", " + binaryHeapDijkstra.getName() + ")");
+        System.out.println("------------------------------------------------------------------------------------------");
+        System.out.printf("%-24s %-14s %-16s %-12s %-15s %-10s\n", "Order", "Reorder (ms)", "Avg edge span",
+                "BFS (ms)", "Dijkstra (ms)", "Result");
+        System.out.println("------------------------------------------------------------------------------------------");
+        System.out.printf("%-24s %-14s %-16.1f %-12.3f %-15.3f %-10s\n", "Original", "-",
+                GraphReorderingAlgorithms.averageEdgeSpan(csrGraph), bfsNanos / 1_000_000.0,
+                dijkstraNanos / 1_000_000.0, "-");
+        
+        for (ReorderingAlgorithm algorithm : reorderingAlgorithms) {
+            startTime = System.nanoTime();
+            GraphReorderingAlgorithms.Reordering reordering = algorithm.reorder(csrGraph);
+            long reorderNanos = System.nanoTime() - startTime;
+            
+            GraphAlgorithms.CsrGraph reordered = reordering.getGraph();
+            int source = reordering.getNewIds()[0];
+            
+            // Warm-up runs
+            bfs.traverse(reordered, source);
+            binaryHeapDijkstra.findShortestPaths(reordered, source);
+            
+            startTime = System.nanoTime();
+            bfs.traverse(reordered, source);
+            long reorderedBfsNanos = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            int[] distances = binaryHeapDijkstra.findShortestPaths(reordered, source);
+            long reorderedDijkstraNanos = System.nanoTime() - startTime;
+            
+            System.out.printf("%-24s %-14.3f %-16.1f %-12.3f %-15.3f %-10s\n", algorithm.getName(),
+                    reorderNanos / 1_000_000.0, GraphReorderingAlgorithms.averageEdgeSpan(reordered),
+                    reorderedBfsNanos / 1_000_000.0, reorderedDijkstraNanos / 1_000_000.0,
+                    Arrays.equals(reference, reordering.toOriginalOrder(distances)) ? "identical" : "MISMATCH");
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, reorderNanos / 1_000_000, vertices);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        System.out.println("------------------------------------------------------------------------------------------");
+    }
+    
+    /**
+     * Opens a binary graph file, optionally writing a random graph to it first, and times
+     * traversals that read the memory-mapped file in place against traversals of a heap copy.
+     * Load times are reported separately from traversal times.
+     */
+    private void runBinaryGraphFile() {
+        System.out.println("Enter graph file path (e.g., graphs/random.graph):");
+        scanner.nextLine(); // Consume newline
+        Path path = Paths.get(scanner.nextLine().trim());
+        
+        try {
+            boolean generate = getIntInput("Generate a random graph and write it to this file first? (1 = yes, 0 = no): ") == 1;
+            if (generate) {
+                int vertices = getIntInput("Enter number of vertices: ");
+                int edges = getIntInput("Enter number of edges: ");
+                GraphAlgorithms.CsrGraph generated = GraphAlgorithms.CsrGraph.fromGraph(
+                        dataGenerator.generateRandomGraph(vertices, edges, 100));
+                
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                long startTime = System.nanoTime();
+                BinaryGraphFile.write(generated, path);
+                long writeNanos = System.nanoTime() - startTime;
+                System.out.printf("Wrote %.1f MB in %.3f ms\n", Files.size(path) / (1024.0 * 1024.0), writeNanos / 1_000_000.0);
+            }
+            
+            long startTime = System.nanoTime();
+            GraphAlgorithms.MappedCsrGraph mapped = BinaryGraphFile.open(path);
+            long mapNanos = System.nanoTime() - startTime;
+            
+            if (mapped.getVertices() == 0) {
+                System.out.println("The graph has no vertices.");
+                return;
+            }
+            
+            // The first traversal also pays for faulting the file's pages in
+            startTime = System.nanoTime();
+            List<Integer> mappedOrder = bfs.traverse(mapped, 0);
+            long firstTouchNanos = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            bfs.traverse(mapped, 0);
+            long mappedBfsNanos = System.nanoTime() - startTime;
+            
+            binaryHeapDijkstra.findShortestPaths(mapped, 0);
+            startTime = System.nanoTime();
+            int[] mappedDistances = binaryHeapDijkstra.findShortestPaths(mapped, 0);
+            long mappedDijkstraNanos = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            GraphAlgorithms.CsrGraph heapGraph = mapped.toCsrGraph();
+            long copyNanos = System.nanoTime() - startTime;
+            
+            bfs.traverse(heapGraph, 0);
+            startTime = System.nanoTime();
+            List<Integer> heapOrder = bfs.traverse(heapGraph, 0);
+            long heapBfsNanos = System.nanoTime() - startTime;
+            
+            binaryHeapDijkstra.findShortestPaths(heapGraph, 0);
+            startTime = System.nanoTime();
+            int[] heapDistances = binaryHeapDijkstra.findShortestPaths(heapGraph, 0);
+            long heapDijkstraNanos = System.nanoTime() - startTime;
+            
+            System.out.println("\nGraph: " + mapped.getVertices() + " vertices, " + mapped.getEdgeCount() + " edges");
+            System.out.printf("First traversal of the mapped file (includes page faults): %.3f ms\n", firstTouchNanos / 1_000_000.0);
+            System.out.println("---------------------------------------------------------------------");
+            System.out.printf("%-26s %-12s %-12s %-15s\n", "Representation", "Load (ms)", "BFS (ms)", "Dijkstra (ms)");
+            System.out.println("---------------------------------------------------------------------");
+            System.out.printf("%-26s %-12.3f %-12.3f %-15.3f\n", "Memory-mapped file", mapNanos / 1_000_000.0,
+                    mappedBfsNanos / 1_000_000.0, mappedDijkstraNanos / 1_000_000.0);
+            System.out.printf("%-26s %-12.3f %-12.3f %-15.3f\n", "Heap copy (map + copy)", (mapNanos + copyNanos) / 1_000_000.0,
+                    heapBfsNanos / 1_000_000.0, heapDijkstraNanos / 1_000_000.0);
+            System.out.println("---------------------------------------------------------------------");
+            
+            if (!mappedOrder.equals(heapOrder) || !Arrays.equals(mappedDistances, heapDistances)) {
+                System.out.println("Warning: the mapped and heap graphs produced different results.");
+            }
+            
+            // Add results to performance tracker
+            PerformanceResult traversal = new PerformanceResult(bfs, mappedBfsNanos / 1_000_000, mapped.getVertices());
+            PerformanceResult shortestPaths = new PerformanceResult(binaryHeapDijkstra, mappedDijkstraNanos / 1_000_000, mapped.getVertices());
+            performanceTracker.addResult(traversal);
+            performanceTracker.addResult(shortestPaths);
+            resultManager.addResult(traversal);
+            resultManager.addResult(shortestPaths);
+        } catch (IOException e) {
+            System.out.println("Error accessing graph file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Imports a local edge list file, reports the import throughput, and runs a Breadth-First
+     * Search on the result. The imported graph can be saved as a binary graph file so later
+     * runs can map it instead of parsing the text again.
+     */
+    private void runEdgeListImport() {
+        System.out.println("Enter edge list path (.gr = DIMACS, .mtx = Matrix Market, otherwise SNAP):");
+        scanner.nextLine(); // Consume newline
+        Path path = Paths.get(scanner.nextLine().trim());
+        
+        try {
+            GraphImporter.ImportResult imported = graphImporter.importGraph(path);
+            GraphAlgorithms.CsrGraph csrGraph = imported.getGraph();
+            
+            System.out.println("\nFormat: " + imported.getFormat() + " (" + graphImporter.getThreads() + " threads)");
+            System.out.println("Vertices: " + csrGraph.getVertices() + ", edges: " + csrGraph.getEdgeCount());
+            System.out.printf("Imported %.1f MB in %.3f ms (%.1f MB/s)\n", imported.getBytes() / (1024.0 * 1024.0),
+                    imported.getNanos() / 1_000_000.0, imported.getMegabytesPerSecond());
+            
+            if (csrGraph.getVertices() > 0) {
+                long startTime = System.nanoTime();
+                List<Integer> order = bfs.traverse(csrGraph, 0);
+                long bfsNanos = System.nanoTime() - startTime;
+                System.out.printf("%s from vertex 0 reached %d vertices in %.3f ms\n", bfs.getName(), order.size(),
+                        bfsNanos / 1_000_000.0);
+                
+                // Add result to performance tracker
+                PerformanceResult result = new PerformanceResult(bfs, bfsNanos / 1_000_000, csrGraph.getVertices());
+                performanceTracker.addResult(result);
+                resultManager.addResult(result);
+            }
+            
+            if (getIntInput("Save as a binary graph file? (1 = yes, 0 = no): ") == 1) {
+                System.out.println("Enter binary graph file path (e.g., graphs/imported.graph):");
+                scanner.nextLine(); // Consume newline
+                Path binaryPath = Paths.get(scanner.nextLine().trim());
+                if (binaryPath.getParent() != null) {
+                    Files.createDirectories(binaryPath.getParent());
+                }
+                BinaryGraphFile.write(csrGraph, binaryPath);
+                System.out.println("Saved to " + binaryPath);
+            }
+        } catch (IOException e) {
+            System.out.println("Error importing graph: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Generates a synthetic graph with the parallel generators, reports generation throughput
+     * and degree skew, and runs sequential and parallel Breadth-First Search from the vertex
+     * with the highest out-degree, where skewed graphs stress load balancing the most.
+     */
+    private void runGraphGenerator() {
+        System.out.println("\nSelect a generator:");
+        System.out.println("1. R-MAT (Graph500 parameters)");
+        System.out.println("2. Barabási-Albert");
+        System.out.println("3. Road-like 2D Grid");
+        System.out.println("4. Random Geometric");
+        int generatorChoice = getIntInput("Enter your choice: ");
+        long seed = getIntInput("Enter seed: ");
+        GraphGenerator generator = new GraphGenerator(seed);
+        
+        GraphAlgorithms.CsrGraph csrGraph;
+        String description;
+        long startTime;
+        try {
+            switch (generatorChoice) {
+                case 1:
+                    int scale = getIntInput("Enter scale (vertices = 2^scale): ");
+                    int edgeFactor = getIntInput("Enter edge factor (edges per vertex): ");
+                    startTime = System.nanoTime();
+                    csrGraph = generator.generateRmatGraph(scale, edgeFactor, 100);
+                    description = "R-MAT scale " + scale + ", edge factor " + edgeFactor;
+                    break;
+                case 2:
+                    int vertices = getIntInput("Enter number of vertices: ");
+                    int edgesPerVertex = getIntInput("Enter edges per new vertex: ");
+                    startTime = System.nanoTime();
+                    csrGraph = generator.generateBarabasiAlbertGraph(vertices, edgesPerVertex, 100);
+                    description = "Barabási-Albert, " + edgesPerVertex + " edges per vertex";
+                    break;
+                case 3:
+                    int rows = getIntInput("Enter number of rows: ");
+                    int columns = getIntInput("Enter number of columns: ");
+                    int removalPercent = getIntInput("Enter percentage of links to remove (0-100): ");
+                    startTime = System.nanoTime();
+                    csrGraph = generator.generateGridGraph(rows, columns, removalPercent / 100.0, 100);
+                    description = rows + " x " + columns + " grid, " + removalPercent + "% links removed";
+                    break;
+                case 4:
+                    int points = getIntInput("Enter number of vertices: ");
+                    int averageDegree = getIntInput("Enter average degree: ");
+                    startTime = System.nanoTime();
+                    csrGraph = generator.generateGeometricGraph(points, averageDegree);
+                    description = "Random geometric, average degree " + averageDegree;
+                    break;
+                default:
+                    System.out.println("Invalid choice.");
+                    return;
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Cannot generate graph: " + e.getMessage());
+            return;
+        }
+        long generationNanos = System.nanoTime() - startTime;
+        
+        int vertices = csrGraph.getVertices();
+        int hub = 0;
+        for (int v = 1; v < vertices; v++) {
+            if (csrGraph.getOutDegree(v) > csrGraph.getOutDegree(hub)) {
+                hub = v;
+            }
+        }
+        double averageDegree = (double) csrGraph.getEdgeCount() / vertices;
+        
+        System.out.println("\n" + description + " (seed " + seed + ", " + generator.getThreads() + " threads)");
+        System.out.println("Vertices: " + vertices + ", edges: " + csrGraph.getEdgeCount());
+        System.out.printf("Generated in %.3f ms (%.2f million edges/s)\n", generationNanos / 1_000_000.0,
+                generationNanos == 0 ? 0 : csrGraph.getEdgeCount() / (generationNanos / 1_000.0));
+        System.out.printf("Average out-degree: %.2f, maximum: %d (vertex %d, %.1fx average)\n", averageDegree,
+                csrGraph.getOutDegree(hub), hub, averageDegree == 0 ? 0 : csrGraph.getOutDegree(hub) / averageDegree);
+        
+        GraphAlgorithms.CsrGraph transpose = csrGraph.transpose();
+        
+        // Warm-up runs
+        bfs.traverse(csrGraph, hub);
+        parallelBfs.search(csrGraph, transpose, hub);
+        
+        startTime = System.nanoTime();
+        List<Integer> order = bfs.traverse(csrGraph, hub);
+        long sequentialNanos = System.nanoTime() - startTime;
+        GraphAlgorithms.ParallelBfsResult parallelResult = parallelBfs.search(csrGraph, transpose, hub);
+        
+        System.out.printf("%-45s %-10s %-12s\n", "Algorithm", "Reached", "Time (ms)");
+        System.out.printf("%-45s %-10d %-12.3f\n", bfs.getName(), order.size(), sequentialNanos / 1_000_000.0);
+        System.out.printf("%-45s %-10d %-12.3f\n", parallelBfs.getName(), parallelResult.getReachedCount(),
+                parallelResult.getElapsedNanos() / 1_000_000.0);
+        
+        // Add results to performance tracker
+        PerformanceResult sequential = new PerformanceResult(bfs, sequentialNanos / 1_000_000, vertices);
+        PerformanceResult parallel = new PerformanceResult(parallelBfs, parallelResult.getElapsedNanos() / 1_000_000, vertices);
+        performanceTracker.addResult(sequential);
+        performanceTracker.addResult(parallel);
+        resultManager.addResult(sequential);
+        resultManager.addResult(parallel);
+    }
+    
+    /**
+     * Replays a skewed stream of shortest path queries, where most queries come from a small
+     * hot set of sources, against plain Dijkstra and against a ShortestPathCache, then adds an
+     * edge to show that the cache invalidates itself when the graph changes.
+     */
+    private void runShortestPathCache() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        int hotSources = getIntInput("Enter number of hot sources: ");
+        int queries = getIntInput("Enter number of queries: ");
+        int cacheMegabytes = getIntInput("Enter cache size in MB: ");
+        
+        if (vertices < 1 || hotSources < 1 || queries < 1 || cacheMegabytes < 1) {
+            System.out.println("All values must be positive.");
+            return;
+        }
+        
+        Graph graph = dataGenerator.generateRandomGraph(vertices, edges, 100);
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(graph);
+        ShortestPathCache cache = new ShortestPathCache(graph, binaryHeapDijkstra, cacheMegabytes * 1024L * 1024L);
+        
+        // Nine queries in ten come from the hot set, the rest from anywhere in the graph
+        Random random = dataGenerator.getRandom();
+        int[] hot = new int[hotSources];
+        for (int i = 0; i < hotSources; i++) {
+            hot[i] = random.nextInt(vertices);
+        }
+        int[] stream = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            stream[i] = random.nextInt(10) == 0
+                    ? random.nextInt(vertices)
+                    : hot[random.nextInt(hotSources)];
+        }
+        
+        // Warm-up run
+        binaryHeapDijkstra.findShortestPaths(csrGraph, stream[0]);
+        
+        long checksum = 0;
+        long startTime = System.nanoTime();
+        for (int source : stream) {
+            checksum += binaryHeapDijkstra.findShortestPaths(csrGraph, source)[0];
+        }
+        long uncachedNanos = System.nanoTime() - startTime;
+        
+        long cachedChecksum = 0;
+        startTime = System.nanoTime();
+        for (int source : stream) {
+            cachedChecksum += cache.getShortestPaths(source).getDistance(0);
+        }
+        long cachedNanos = System.nanoTime() - startTime;
+        
+        System.out.println("\n" + queries + " queries from " + hotSources + " hot sources (" + cacheMegabytes + " MB cache)");
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("%-34s %-12s %-15s\n", "Algorithm", "Time (ms)", "Queries/sec");
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("%-34s %-12.3f %-15.1f\n", binaryHeapDijkstra.getName(), uncachedNanos / 1_000_000.0,
+                uncachedNanos == 0 ? 0 : queries / (uncachedNanos / 1_000_000_000.0));
+        System.out.printf("%-34s %-12.3f %-15.1f\n", "Cached " + binaryHeapDijkstra.getName(), cachedNanos / 1_000_000.0,
+                cachedNanos == 0 ? 0 : queries / (cachedNanos / 1_000_000_000.0));
+        System.out.println("-----------------------------------------------------------------");
+        System.out.printf("Speedup: %.2fx\n", cachedNanos == 0 ? 0 : (double) uncachedNanos / cachedNanos);
+        System.out.printf("Hits: %d, misses: %d (hit rate %.1f%%), evictions: %d\n", cache.getHits(),
+                cache.getMisses(), cache.getHitRate() * 100, cache.getEvictions());
+        System.out.printf("Cached entries: %d, %.2f MB\n", cache.getEntryCount(),
+                cache.getSizeInBytes() / (1024.0 * 1024.0));
+        if (checksum != cachedChecksum) {
+            System.out.println("WARNING: cached distances differ from Dijkstra's");
+        }
+        
+        // Mutating the graph must drop every cached tree
+        int source = hot[0];
+        boolean wasCached = cache.contains(source);
+        graph.addEdge(source, random.nextInt(vertices), 1);
+        long missesBefore = cache.getMisses();
+        cache.getShortestPaths(source);
+        System.out.println("After adding an edge from vertex " + source + ": cached before = " + wasCached
+                + ", recomputed = " + (cache.getMisses() > missesBefore)
+                + ", invalidations = " + cache.getInvalidations());
+        
+        // Add results to performance tracker
+        PerformanceResult result = new PerformanceResult(binaryHeapDijkstra, uncachedNanos / 1_000_000, vertices);
+        performanceTracker.addResult(result);
+        resultManager.addResult(result);
+    }
+    
+    /**
+     * Applies batches of edge insertions and weight decreases of increasing size to a graph,
+     * timing the incremental repair of shortest paths from vertex 0 against recomputing them
+     * from scratch on the updated graph, and verifying that both give the same distances.
+     */
+    private void runIncrementalShortestPaths() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        System.out.println("Enter batch sizes to sweep (comma-separated, e.g., 1,10,100,1000):");
+        String input = scanner.next();
+        
+        List<Integer> batchSizes = new ArrayList<>();
+        for (String value : input.split(",")) {
+            try {
+                int batchSize = Integer.parseInt(value.trim());
+                if (batchSize > 0) {
+                    batchSizes.add(batchSize);
+                } else {
+                    System.out.println("Invalid batch size: " + batchSize + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + value + ". Skipping.");
+            }
+        }
+        
+        if (vertices < 2 || edges < 1) {
+            System.out.println("The graph needs at least 2 vertices and 1 edge.");
+            return;
+        }
+        
+        Graph graph = dataGenerator.generateRandomGraph(vertices, edges, 100);
+        DynamicShortestPaths dynamicPaths = new DynamicShortestPaths(graph, 0);
+        DynamicShortestPaths reference = new DynamicShortestPaths(graph, 0);
+        Random random = dataGenerator.getRandom();
+        
+        System.out.println("\nShortest paths from vertex 0, half insertions and half weight decreases per batch");
+        System.out.println("-------------------------------------------------------------------------------");
+        System.out.printf("%-12s %-12s %-14s %-16s %-10s %-10s\n", "Batch size", "Affected", "Repair (ms)",
+                "Recompute (ms)", "Speedup", "Result");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        for (int batchSize : batchSizes) {
+            List<Graph.Edge> insertions = new ArrayList<>();
+            List<Graph.Edge> decreases = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                int source = random.nextInt(vertices);
+                if (i % 2 == 0) {
+                    insertions.add(new Graph.Edge(source, random.nextInt(vertices),
+                            1 + random.nextInt(100)));
+                } else {
+                    List<Graph.Edge> outgoing = graph.getAdjacencyList().get(source);
+                    if (!outgoing.isEmpty()) {
+                        Graph.Edge edge = outgoing.get(random.nextInt(outgoing.size()));
+                        decreases.add(new Graph.Edge(source, edge.getDestination(), edge.getWeight() / 2));
+                    }
+                }
+            }
+            
+            long startTime = System.nanoTime();
+            long affected = dynamicPaths.addEdges(insertions) + dynamicPaths.decreaseEdgeWeights(decreases);
+            long repairNanos = System.nanoTime() - startTime;
+            
+            // The graph changed behind the reference's back, so this recomputes from scratch
+            startTime = System.nanoTime();
+            reference.recompute();
+            long recomputeNanos = System.nanoTime() - startTime;
+            
+            System.out.printf("%-12d %-12d %-14.3f %-16.3f %-10.2f %-10s\n", batchSize, affected,
+                    repairNanos / 1_000_000.0, recomputeNanos / 1_000_000.0,
+                    repairNanos == 0 ? 0 : (double) recomputeNanos / repairNanos,
+                    Arrays.equals(dynamicPaths.getDistances(), reference.getDistances()) ? "identical" : "MISMATCH");
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(dynamicPaths, repairNanos / 1_000_000, batchSize);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        System.out.println("-------------------------------------------------------------------------------");
+    }
+    
+    /**
+     * Times blocked Floyd-Warshall against Johnson's algorithm on graphs of increasing edge
+     * density. Floyd-Warshall costs the same at every density, while Johnson's algorithm grows
+     * with the edge count, so the sweep shows where the dense method starts to win.
+     */
+    private void runAllPairsSweep() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        System.out.println("Enter edge densities to sweep in percent (comma-separated, e.g., 0.1,1,10,100):");
+        String input = scanner.next();
+        
+        List<Double> densities = new ArrayList<>();
+        for (String value : input.split(",")) {
+            try {
+                double density = Double.parseDouble(value.trim());
+                if (density > 0 && density <= 100) {
+                    densities.add(density);
+                } else {
+                    System.out.println("Invalid density: " + density + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + value + ". Skipping.");
+            }
+        }
+        
+        if (vertices < 2) {
+            System.out.println("The graph needs at least 2 vertices.");
+            return;
+        }
+        
+        // Warm-up runs on a small graph
+        GraphAlgorithms.CsrGraph warmUpGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(300, 3000, 100));
+        floydWarshall.findAllPairs(warmUpGraph);
+        johnson.findAllPairs(warmUpGraph);
+        
+        System.out.printf("\nAll-pairs shortest paths on %d vertices (%.1f MB per distance matrix, %d threads)\n",
+                vertices, 4.0 * vertices * vertices / (1024 * 1024), floydWarshall.getThreads());
+        System.out.println("-------------------------------------------------------------------------------");
+        System.out.printf("%-10s %-12s %-20s %-14s %-10s %-10s\n", "Density", "Edges", "Floyd-Warshall (ms)",
+                "Johnson (ms)", "Faster", "Result");
+        System.out.println("-------------------------------------------------------------------------------");
+        
+        for (double density : densities) {
+            long edges = Math.min(Integer.MAX_VALUE, Math.max(vertices - 1,
+                    (long) ((double) vertices * (vertices - 1) * density / 100)));
+            GraphAlgorithms.CsrGraph csrGraph;
+            AllPairsShortestPathAlgorithms.DistanceMatrix floydWarshallResult;
+            AllPairsShortestPathAlgorithms.DistanceMatrix johnsonResult;
+            long floydWarshallNanos;
+            long johnsonNanos;
+            try {
+                csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                        dataGenerator.generateRandomGraph(vertices, (int) edges, 100));
+                
+                long startTime = System.nanoTime();
+                floydWarshallResult = floydWarshall.findAllPairs(csrGraph);
+                floydWarshallNanos = System.nanoTime() - startTime;
+                
+                startTime = System.nanoTime();
+                johnsonResult = johnson.findAllPairs(csrGraph);
+                johnsonNanos = System.nanoTime() - startTime;
+            } catch (IllegalArgumentException e) {
+                System.out.println("Cannot run sweep: " + e.getMessage());
+                return;
+            }
+            
+            System.out.printf("%-10s %-12d %-20.3f %-14.3f %-10s %-10s\n", density + "%", csrGraph.getEdgeCount(),
+                    floydWarshallNanos / 1_000_000.0, johnsonNanos / 1_000_000.0,
+                    floydWarshallNanos <= johnsonNanos ? "Floyd" : "Johnson",
+                    Arrays.equals(floydWarshallResult.getDistances(), johnsonResult.getDistances())
+                            ? "identical" : "MISMATCH");
+            
+            // Add results to performance tracker
+            PerformanceResult floydWarshallPerformance = new PerformanceResult(floydWarshall,
+                    floydWarshallNanos / 1_000_000, vertices);
+            PerformanceResult johnsonPerformance = new PerformanceResult(johnson, johnsonNanos / 1_000_000, vertices);
+            performanceTracker.addResult(floydWarshallPerformance);
+            performanceTracker.addResult(johnsonPerformance);
+            resultManager.addResult(floydWarshallPerformance);
+            resultManager.addResult(johnsonPerformance);
+        }
+        System.out.println("-------------------------------------------------------------------------------");
+    }
+    
+    /**
+     * Finds minimum spanning forests of random graphs with a fixed vertex count and a range of
+     * edge counts, timing every spanning tree implementation and checking that each selects
+     * exactly the same edges as the first.
+     */
+    private void runSpanningTreeSweep() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        System.out.println("Enter edge counts to sweep (comma-separated, e.g., 100000,1000000,4000000):");
+        String input = scanner.next();
+        
+        List<Integer> edgeCounts = new ArrayList<>();
+        for (String value : input.split(",")) {
+            try {
+                int edges = Integer.parseInt(value.trim());
+                if (edges >= 0) {
+                    edgeCounts.add(edges);
+                } else {
+                    System.out.println("Invalid edge count: " + edges + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + value + ". Skipping.");
+            }
+        }
+        
+        if (vertices < 1) {
+            System.out.println("The graph must have at least one vertex.");
+            return;
+        }
+        
+        System.out.println("\nMinimum spanning forests on " + vertices + " vertices ("
+                + Runtime.getRuntime().availableProcessors() + " processors)");
+        System.out.println("------------------------------------------------------------------------------------------");
+        System.out.printf("%-12s %-34s %-12s %-16s %-12s\n", "Edges", "Algorithm", "Time (ms)", "Million edges/s",
+                "Result");
+        System.out.println("------------------------------------------------------------------------------------------");
+        
+        for (int edges : edgeCounts) {
+            GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                    dataGenerator.generateRandomGraph(vertices, edges, 1000, false));
+            SpanningTreeAlgorithms.SpanningForest reference = null;
+            
+            for (SpanningTreeAlgorithm algorithm : spanningTreeAlgorithms) {
+                // Warm-up run
+                algorithm.findSpanningForest(csrGraph);
+                
+                long startTime = System.nanoTime();
+                SpanningTreeAlgorithms.SpanningForest forest = algorithm.findSpanningForest(csrGraph);
+                long elapsedNanos = System.nanoTime() - startTime;
+                
+                if (reference == null) {
+                    reference = forest;
+                }
+                System.out.printf("%-12d %-34s %-12.3f %-16.2f %-12s\n", csrGraph.getEdgeCount(), algorithm.getName(),
+                        elapsedNanos / 1_000_000.0,
+                        elapsedNanos == 0 ? 0 : csrGraph.getEdgeCount() / (elapsedNanos / 1_000.0),
+                        Arrays.equals(reference.getEdgeIds(), forest.getEdgeIds()) ? "identical" : "MISMATCH");
+                
+                // Add result to performance tracker
+                PerformanceResult result = new PerformanceResult(algorithm, elapsedNanos / 1_000_000, vertices);
+                performanceTracker.addResult(result);
+                resultManager.addResult(result);
+            }
+            System.out.println("Forest weight: " + reference.getTotalWeight() + ", trees: " + reference.getTreeCount());
+        }
+        System.out.println("------------------------------------------------------------------------------------------");
+    }
+    
+    /**
+     * Finds the strongly connected components of a random directed graph with Tarjan's and
+     * Kosaraju's algorithms, then builds a reachability index on the condensation and answers
+     * random reachability queries with it and with a plain search per query, reporting the
+     * build cost, the per-query speedup and the query count at which the index pays off.
+     */
+    private void runReachabilityIndex() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        int queries = getIntInput("Enter number of queries: ");
+        
+        if (vertices < 1 || edges < 0 || queries < 1) {
+            System.out.println("Vertices and queries must be positive.");
+            return;
+        }
+        
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(vertices, edges, 100, false));
+        
+        System.out.println("\nStrongly connected components on " + vertices + " vertices, "
+                + csrGraph.getEdgeCount() + " edges");
+        System.out.println("----------------------------------------------------------------------");
+        System.out.printf("%-44s %-12s %-12s\n", "Algorithm", "Time (ms)", "Result");
+        System.out.println("----------------------------------------------------------------------");
+        int[] reference = null;
+        for (StrongComponentAlgorithm algorithm : List.of(tarjanComponents, kosarajuComponents)) {
+            // Warm-up run
+            algorithm.findStrongComponents(csrGraph);
+            
+            long startTime = System.nanoTime();
+            int[] componentIds = algorithm.findStrongComponents(csrGraph);
+            long elapsedNanos = System.nanoTime() - startTime;
+            
+            if (reference == null) {
+                reference = componentIds;
+            }
+            System.out.printf("%-44s %-12.3f %-12s\n", algorithm.getName(), elapsedNanos / 1_000_000.0,
+                    Arrays.equals(reference, componentIds) ? "identical" : "MISMATCH");
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, elapsedNanos / 1_000_000, vertices);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        System.out.println("----------------------------------------------------------------------");
+        
+        long startTime = System.nanoTime();
+        ReachabilityIndex index = new ReachabilityIndex(csrGraph);
+        long buildNanos = System.nanoTime() - startTime;
+        ConnectivityAlgorithms.Condensation condensation = index.getCondensation();
+        int largest = 0;
+        for (int c = 0; c < condensation.getComponentCount(); c++) {
+            largest = Math.max(largest, condensation.getComponentSize(c));
+        }
+        System.out.println("Components: " + condensation.getComponentCount() + " (largest " + largest
+                + "), condensed edges: " + condensation.getDag().getEdgeCount());
+        System.out.printf("Index build: %.3f ms, %.2f MB\n", buildNanos / 1_000_000.0,
+                index.estimateSizeInBytes() / (1024.0 * 1024.0));
+        
+        Random random = dataGenerator.getRandom();
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(vertices);
+            targets[i] = random.nextInt(vertices);
+        }
+        
+        boolean[] indexAnswers = new boolean[queries];
+        startTime = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            indexAnswers[i] = index.canReach(sources[i], targets[i]);
+        }
+        long indexNanos = System.nanoTime() - startTime;
+        
+        int[] stamps = new int[vertices];
+        int[] stack = new int[vertices];
+        int positives = 0;
+        int mismatches = 0;
+        startTime = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            boolean reachable = searchReachable(csrGraph, sources[i], targets[i], stamps, stack, i + 1);
+            if (reachable) {
+                positives++;
+            }
+            if (reachable != indexAnswers[i]) {
+                mismatches++;
+            }
+        }
+        long searchNanos = System.nanoTime() - startTime;
+        
+        System.out.println("\n" + queries + " random queries, " + positives + " reachable");
+        System.out.println("----------------------------------------------------------------------");
+        System.out.printf("%-44s %-12s %-12s\n", "Method", "Time (ms)", "us/query");
+        System.out.println("----------------------------------------------------------------------");
+        System.out.printf("%-44s %-12.3f %-12.3f\n", "Depth-first search per query", searchNanos / 1_000_000.0,
+                searchNanos / 1_000.0 / queries);
+        System.out.printf("%-44s %-12.3f %-12.3f\n", index.getName(), indexNanos / 1_000_000.0,
+                indexNanos / 1_000.0 / queries);
+        System.out.println("----------------------------------------------------------------------");
+        System.out.printf("Per-query speedup: %.1fx, queries needing a fallback search: %d\n",
+                indexNanos == 0 ? 0 : (double) searchNanos / indexNanos, index.getFallbackSearches());
+        double savedNanosPerQuery = (double) (searchNanos - indexNanos) / queries;
+        if (savedNanosPerQuery > 0) {
+            System.out.printf("Break-even: the index pays for its build after %.0f queries\n",
+                    Math.ceil(buildNanos / savedNanosPerQuery));
+        } else {
+            System.out.println("Break-even: the index did not beat searching on this graph");
+        }
+        if (mismatches > 0) {
+            System.out.println("WARNING: the index disagrees with searching on " + mismatches + " queries");
+        }
+        
+        // Add result to performance tracker
+        PerformanceResult result = new PerformanceResult(index, buildNanos / 1_000_000, vertices);
+        performanceTracker.addResult(result);
+        resultManager.addResult(result);
+    }
+    
+    /**
+     * Checks whether one vertex reaches another with a depth-first search that stops as soon as
+     * the target is found. Vertices are marked visited with a stamp, so the arrays can be reused
+     * across searches without clearing.
+     * 
+     * @param graph The CSR graph
+     * @param source The source vertex
+     * @param target The target vertex
+     * @param stamps The visit stamp of each vertex
+     * @param stack Scratch space for the search stack, of length vertices
+     * @param stamp A stamp not used by any earlier search
+     * @return true if target is reachable from source, false otherwise
+     */
+    private boolean searchReachable(GraphAlgorithms.CsrGraph graph, int source, int target, int[] stamps,
+            int[] stack, int stamp) {
+        if (source == target) {
+            return true;
+        }
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int size = 0;
+        stamps[source] = stamp;
+        stack[size++] = source;
+        while (size > 0) {
+            int vertex = stack[--size];
+            for (int e = offsets[vertex]; e < offsets[vertex + 1]; e++) {
+                int next = targets[e];
+                if (next == target) {
+                    return true;
+                }
+                if (stamps[next] != stamp) {
+                    stamps[next] = stamp;
+                    stack[size++] = next;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Runs parallel PageRank and triangle counting on a random graph, showing the time and
+     * edge rate of every PageRank iteration and every triangle counting phase.
+     */
+    private void runGraphAnalytics() {
+        int vertices = getIntInput("Enter number of vertices: ");
+        int edges = getIntInput("Enter number of edges: ");
+        
+        if (vertices < 1 || edges < 0) {
+            System.out.println("The graph must have at least one vertex.");
+            return;
+        }
+        
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(
+                dataGenerator.generateRandomGraph(vertices, edges, 1, false));
+        
+        // Warm-up runs
+        pageRank.compute(csrGraph);
+        triangleCounter.count(csrGraph);
+        
+        GraphAnalytics.PageRankResult ranks = pageRank.compute(csrGraph);
+        System.out.println("\nPageRank with " + pageRank.getThreads() + " threads (damping "
+                + GraphAnalytics.PageRank.DEFAULT_DAMPING + ", tolerance " + GraphAnalytics.PageRank.DEFAULT_TOLERANCE + ")");
+        System.out.println("------------------------------------------------------------");
+        System.out.printf("%-12s %-16s %-12s %-16s\n", "Iteration", "Residual", "Time (ms)", "Million edges/s");
+        System.out.println("------------------------------------------------------------");
+        for (GraphAnalytics.PageRankIteration iteration : ranks.getIterations()) {
+            System.out.printf("%-12d %-16.3e %-12.3f %-16.2f\n", iteration.getIteration(), iteration.getResidual(),
+                    iteration.getNanos() / 1_000_000.0, iteration.getEdgesPerSecond() / 1_000_000);
+        }
+        System.out.println("------------------------------------------------------------");
+        System.out.printf("%s after %d iterations in %.3f ms, %.2f million edges/s\n",
+                ranks.isConverged() ? "Converged" : "Stopped without converging", ranks.getIterations().size(),
+                ranks.getIterationNanos() / 1_000_000.0, ranks.getEdgesPerSecond() / 1_000_000);
+        System.out.printf("Transpose: %.3f ms (cached by the graph after the first run), total %.3f ms\n",
+                ranks.getTransposeNanos() / 1_000_000.0, ranks.getElapsedNanos() / 1_000_000.0);
+        StringBuilder top = new StringBuilder("Top vertices:");
+        for (int vertex : ranks.getTopVertices(5)) {
+            top.append(String.format(" %d (%.2e)", vertex, ranks.getRanks()[vertex]));
+        }
+        System.out.println(top);
+        
+        GraphAnalytics.TriangleCountResult triangles = triangleCounter.count(csrGraph);
+        System.out.println("\nTriangle counting with " + triangleCounter.getThreads() + " threads, "
+                + triangles.getUndirectedEdges() + " undirected edges");
+        System.out.println("------------------------------------------------------------");
+        System.out.printf("%-32s %-12s %-16s\n", "Phase", "Time (ms)", "Million edges/s");
+        System.out.println("------------------------------------------------------------");
+        long[] phaseNanos = {triangles.getSymmetrizeNanos(), triangles.getOrientNanos(), triangles.getCountNanos()};
+        String[] phaseNames = {"Sort undirected neighbors", "Orient by degree", "Intersect adjacency lists"};
+        for (int i = 0; i < phaseNanos.length; i++) {
+            System.out.printf("%-32s %-12.3f %-16.2f\n", phaseNames[i], phaseNanos[i] / 1_000_000.0,
+                    phaseNanos[i] == 0 ? 0 : triangles.getUndirectedEdges() / (phaseNanos[i] / 1_000.0));
+        }
+        System.out.println("------------------------------------------------------------");
+        System.out.printf("Triangles: %d in %.3f ms, %.2f million edges/s\n", triangles.getTriangles(),
+                triangles.getElapsedNanos() / 1_000_000.0, triangles.getEdgesPerSecond() / 1_000_000);
+        
+        // Add results to performance tracker
+        PerformanceResult rankResult = new PerformanceResult(pageRank, ranks.getElapsedNanos() / 1_000_000, vertices);
+        PerformanceResult triangleResult = new PerformanceResult(triangleCounter, triangles.getElapsedNanos() / 1_000_000, vertices);
+        performanceTracker.addResult(rankResult);
+        performanceTracker.addResult(triangleResult);
+        resultManager.addResult(rankResult);
+        resultManager.addResult(triangleResult);
+    }
+    
+    /**
+     * Times shortest path implementations on a CSR graph and verifies they agree with the first one.
+     * 
+     * @param algorithms The implementations to compare
+     * @param csrGraph The graph
+     * @param sourceVertex The source vertex
+     */
+    private void compareShortestPaths(List<ShortestPathAlgorithm> algorithms, GraphAlgorithms.CsrGraph csrGraph,
+            int sourceVertex) {
+        Map<String, Long> results = new HashMap<>();
+        int[] reference = null;
+        
+        for (ShortestPathAlgorithm algorithm : algorithms) {
+            // Warm-up run
+            int[] distances;
+            try {
+                distances = algorithm.findShortestPaths(csrGraph, sourceVertex);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Skipping " + algorithm.getName() + ": " + e.getMessage());
+                continue;
+            }
+            
+            long startTime = System.nanoTime();
+            algorithm.findShortestPaths(csrGraph, sourceVertex);
+            long endTime = System.nanoTime();
+            long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            
+            if (reference == null) {
+                reference = distances;
+            } else if (!Arrays.equals(reference, distances)) {
+                System.out.println("WARNING: " + algorithm.getName() + " disagrees with " + algorithms.get(0).getName());
+            }
+            results.put(algorithm.getName(), executionTime);
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, executionTime, csrGraph.getVertices());
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        
+        displayComparisonResults(results);
+    }
+    
+    /**
+     * Displays the compare algorithms menu.
+     */
+    private void compareAlgorithmsMenu() {
+        System.out.println("\nCOMPARE ALGORITHMS");
+        System.out.println("Select algorithm category:");
+        System.out.println("1. Sorting Algorithms");
+        System.out.println("2. Searching Algorithms");
+        System.out.println("3. Graph Algorithms");
+        // Dynamic Programming option removed
+        System.out.println("4. Concurrent Ordered Sets (mixed read/write)");
+        System.out.println("5. String Search Algorithms");
+        System.out.println("6. Multi-Pattern Search (Aho-Corasick vs one search per pattern)");
+        System.out.println("7. Repeated Substring Queries (Suffix Array vs re-scanning)");
+        
+        int categoryChoice = getIntInput("Enter your choice: ");
+        
+        switch (categoryChoice) {
+            case 1:
+                compareSortingAlgorithms();
+                break;
+            case 2:
+                compareSearchingAlgorithms();
+                break;
+            case 3:
+                compareGraphAlgorithms();
+                break;
+            case 4:
+                compareConcurrentSets();
+                break;
+            case 5:
+                compareStringSearchAlgorithms();
+                break;
+            case 6:
+                compareMultiPatternSearch();
+                break;
+            case 7:
+                compareRepeatedSubstringQueries();
+                break;
+            default:
+                System.out.println("Invalid choice. Returning to main menu.");
+        }
+    }
+    
+    /**
+     * Compares sorting algorithms.
+     */
+    private void compareSortingAlgorithms() {
+        System.out.println("\nComparing Sorting Algorithms");
+        
+        System.out.println("Select algorithms to compare (comma-separated, e.g., 1,3,5):");
+        System.out.println("1. Bubble Sort");
+        System.out.println("2. Insertion Sort");
+        System.out.println("3. Selection Sort");
+        System.out.println("4. Merge Sort");
+        System.out.println("5. Quick Sort");
+        
+        String input = scanner.next();
+        String[] choices = input.split(",");
+        
+        List<Algorithm> algorithms = new ArrayList<>();
+        List<Function<int[], int[]>> functions = new ArrayList<>();
+        
+        for (String choice : choices) {
+            try {
+                int algorithmChoice = Integer.parseInt(choice.trim());
+                
+                switch (algorithmChoice) {
+                    case 1:
+                        algorithms.add(bubbleSort);
+                        functions.add(bubbleSort::sort);
+                        break;
+                    case 2:
+                        algorithms.add(insertionSort);
+                        functions.add(insertionSort::sort);
+                        break;
+                    case 3:
+                        algorithms.add(selectionSort);
+                        functions.add(selectionSort::sort);
+                        break;
+                    case 4:
+                        algorithms.add(mergeSort);
+                        functions.add(mergeSort::sort);
+                        break;
+                    case 5:
+                        algorithms.add(quickSort);
+                        functions.add(quickSort::sort);
+                        break;
+                    default:
+                        System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
+                }
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input: " + choice + ". Skipping.");
+            }
+        }
+        
+        if (algorithms.isEmpty()) {
+            System.out.println("No valid algorithms selected. Returning to main menu.");
+            return;
+        }
+        
+        System.out.println("\nSelect input type:");
+        System.out.println("1. Random array");
+        System.out.println("2. Nearly sorted array");
+        System.out.println("3. Reversed array");
+        System.out.println("4. Array with many duplicates");
+        
+        int inputChoice = getIntInput("Enter your choice: ");
+        int size = getIntInput("Enter array size: ");
+        
+        int[] array;
+        switch (inputChoice) {
+            case 1:
+                array = dataGenerator.generateRandomIntArray(size, 0, 1000);
+                break;
+            case 2:
+                array = dataGenerator.generateNearlySortedIntArray(size, 0, 1000, 0.1);
+                break;
+            case 3:
+                array = dataGenerator.generateReversedIntArray(size, 0, 1000);
+                break;
+            case 4:
+                int uniqueValues = getIntInput("Enter number of unique values: ");
+                array = dataGenerator.generateArrayWithDuplicates(size, uniqueValues);
+                break;
+            default:
+                System.out.println("Invalid choice. Using random array.");
+                array = dataGenerator.generateRandomIntArray(size, 0, 1000);
+        }
+        
+        System.out.println("\nComparing " + algorithms.size() + " sorting algorithms on an array of size " + size);
+        
+        Map<String, Long> results = new HashMap<>();
+        
+        for (int i = 0; i < algorithms.size(); i++) {
+            Algorithm algorithm = algorithms.get(i);
+            Function<int[], int[]> function = functions.get(i);
+            
+            // Create a copy of the array for each algorithm
+            int[] arrayCopy = Arrays.copyOf(array, array.length);
+            
+            // Warm-up run
+            function.apply(arrayCopy);
+            
+            // Actual measurement
+            long startTime = System.nanoTime();
+            function.apply(arrayCopy);
+            long endTime = System.nanoTime();
+            long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            
+            results.put(algorithm.getName(), executionTime);
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, executionTime, size);
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        
+        displayComparisonResults(results);
+    }
+    
+    /**
+     * Compares searching algorithms.
+     */
+    private void compareSearchingAlgorithms() {
+        System.out.println("\nComparing Searching Algorithms");
+        
+        List<Algorithm> algorithms = new ArrayList<>();
+        algorithms.add(linearSearch);
+        algorithms.add(binarySearch);
+        algorithms.add(eliasFanoSearch);
         
         System.out.println("\nSelect input type:");
         System.out.println("1. Random array");
@@ -806,6 +2677,384 @@ public class ConsoleUI {
         performanceTracker.addResult(binaryResult);
         resultManager.addResult(binaryResult);
         
+        // Elias-Fano Search (on the compressed sorted array)
+        SearchingAlgorithms.EliasFanoSet compressed = eliasFanoSearch.encode(sortedArray);
+        
+        // Warm-up run
+        eliasFanoSearch.search(compressed, target);
+        
+        long startTime3 = System.nanoTime();
+        eliasFanoSearch.search(compressed, target);
+        long endTime3 = System.nanoTime();
+        long eliasFanoTime = (endTime3 - startTime3) / 1_000_000; // Convert to milliseconds
+        
+        results.put(eliasFanoSearch.getName(), eliasFanoTime);
+        
+        // Add result to performance tracker
+        PerformanceResult eliasFanoResult = new PerformanceResult(eliasFanoSearch, eliasFanoTime, size);
+        performanceTracker.addResult(eliasFanoResult);
+        resultManager.addResult(eliasFanoResult);
+        
+        displayComparisonResults(results);
+        displayCompressedSearchReport(sortedArray, compressed);
+    }
+    
+    /**
+     * Displays memory per element next to average query latency for the
+     * uncompressed sorted array and its Elias-Fano encoding.
+     * 
+     * @param sortedArray The sorted array
+     * @param compressed The compressed form of the same array
+     */
+    private void displayCompressedSearchReport(int[] sortedArray, SearchingAlgorithms.EliasFanoSet compressed) {
+        final int queries = 100_000;
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            targets[i] = sortedArray.length == 0 ? 0 : sortedArray[i % sortedArray.length] + (i & 1);
+        }
+        
+        // Warm-up runs
+        for (int target : targets) {
+            binarySearch.search(sortedArray, target);
+            eliasFanoSearch.search(compressed, target);
+        }
+        
+        long startTime = System.nanoTime();
+        for (int target : targets) {
+            binarySearch.search(sortedArray, target);
+        }
+        double binaryNanos = (double) (System.nanoTime() - startTime) / queries;
+        
+        startTime = System.nanoTime();
+        for (int target : targets) {
+            eliasFanoSearch.search(compressed, target);
+        }
+        double eliasFanoNanos = (double) (System.nanoTime() - startTime) / queries;
+        
+        System.out.println("\nMEMORY AND QUERY LATENCY (" + queries + " queries)");
+        System.out.println("--------------------------------------------------");
+        System.out.printf("%-25s %-15s %-15s\n", "Representation", "Bytes/element", "ns/query");
+        System.out.println("--------------------------------------------------");
+        System.out.printf("%-25s %-15.2f %-15.1f\n", "Sorted int[]", (double) Integer.BYTES, binaryNanos);
+        System.out.printf("%-25s %-15.2f %-15.1f\n", "Elias-Fano",
+                compressed.getBitsPerElement() / 8, eliasFanoNanos);
+        System.out.println("--------------------------------------------------");
+    }
+    
+    /**
+     * Compares a concurrent skip list against re-sorting an array plus Binary Search
+     * under the same multi-threaded mix of inserts, deletes, and searches.
+     */
+    private void compareConcurrentSets() {
+        System.out.println("\nComparing Concurrent Ordered Sets");
+        
+        int size = getIntInput("Enter initial set size: ");
+        int threads = getIntInput("Enter number of threads: ");
+        int operations = getIntInput("Enter operations per thread: ");
+        int writePercent = getIntInput("Enter percentage of writes (0-100): ");
+        
+        if (threads < 1) {
+            System.out.println("Invalid thread count. Using 1 thread.");
+            threads = 1;
+        }
+        
+        if (writePercent < 0 || writePercent > 100) {
+            writePercent = Math.max(0, Math.min(100, writePercent));
+            System.out.println("Invalid write percentage. Using " + writePercent + "%.");
+        }
+        int writes = writePercent;
+        
+        // Keys are drawn from twice the initial size so inserts and deletes both succeed regularly
+        int keyRange = Math.max(2, size * 2);
+        int[] initial = dataGenerator.generateRandomIntArray(size, 0, keyRange);
+        
+        SearchingAlgorithms.ConcurrentIntSkipList skipList = skipListSearch.build(initial);
+        ResortedArraySet resortedArray = new ResortedArraySet(initial);
+        
+        System.out.println("\nRunning " + threads + " threads x " + operations + " operations with "
+                + writePercent + "% writes");
+        
+        double skipListThroughput = performanceTracker.measureThroughput(threads, operations, (threadId, i) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int value = random.nextInt(keyRange);
+            int op = random.nextInt(100);
+            
+            if (op < writes / 2) {
+                skipList.add(value);
+            } else if (op < writes) {
+                skipList.remove(value);
+            } else {
+                skipListSearch.search(skipList, value);
+            }
+        });
+        
+        double resortedThroughput = performanceTracker.measureThroughput(threads, operations, (threadId, i) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int value = random.nextInt(keyRange);
+            int op = random.nextInt(100);
+            
+            if (op < writes / 2) {
+                resortedArray.add(value);
+            } else if (op < writes) {
+                resortedArray.remove(value);
+            } else {
+                resortedArray.contains(value);
+            }
+        });
+        
+        long totalOperations = (long) threads * operations;
+        long skipListTime = (long) (totalOperations / skipListThroughput * 1000);
+        long resortedTime = (long) (totalOperations / resortedThroughput * 1000);
+        
+        Map<String, Long> results = new HashMap<>();
+        results.put(skipListSearch.getName(), skipListTime);
+        results.put("Re-sort + " + binarySearch.getName(), resortedTime);
+        
+        // Add result to performance tracker; the re-sorted baseline is not a Binary Search run
+        PerformanceResult skipListResult = new PerformanceResult(skipListSearch, skipListTime, size);
+        performanceTracker.addResult(skipListResult);
+        resultManager.addResult(skipListResult);
+        
+        displayComparisonResults(results);
+        
+        System.out.printf("%-30s %.0f ops/sec\n", skipListSearch.getName() + " throughput:", skipListThroughput);
+        System.out.printf("%-30s %.0f ops/sec\n", "Re-sort + Binary Search throughput:", resortedThroughput);
+    }
+    
+    /**
+     * Sorted array baseline for the concurrent set comparison.
+     * Every insert appends and re-sorts the whole array; searches use Binary Search under a read lock.
+     */
+    private static class ResortedArraySet {
+        private final SearchingAlgorithms.BinarySearch binarySearch = new SearchingAlgorithms.BinarySearch();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private int[] values;
+        
+        /**
+         * Constructs the set from the distinct values of an array.
+         * 
+         * @param arr The initial values
+         */
+        ResortedArraySet(int[] arr) {
+            values = Arrays.stream(arr).distinct().sorted().toArray();
+        }
+        
+        /**
+         * Inserts a value by appending it and re-sorting the array.
+         * 
+         * @param value The value to insert
+         */
+        void add(int value) {
+            lock.writeLock().lock();
+            try {
+                if (binarySearch.search(values, value) == -1) {
+                    int[] grown = Arrays.copyOf(values, values.length + 1);
+                    grown[values.length] = value;
+                    Arrays.sort(grown);
+                    values = grown;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        
+        /**
+         * Removes a value and rebuilds the array without it.
+         * 
+         * @param value The value to remove
+         */
+        void remove(int value) {
+            lock.writeLock().lock();
+            try {
+                int index = binarySearch.search(values, value);
+                if (index != -1) {
+                    int[] shrunk = new int[values.length - 1];
+                    System.arraycopy(values, 0, shrunk, 0, index);
+                    System.arraycopy(values, index + 1, shrunk, index, values.length - index - 1);
+                    values = shrunk;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        
+        /**
+         * Checks whether the set contains a value using Binary Search.
+         * 
+         * @param value The value to look for
+         * @return true if the value is present, false otherwise
+         */
+        boolean contains(int value) {
+            lock.readLock().lock();
+            try {
+                return binarySearch.search(values, value) != -1;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+    
+    /**
+     * Compares substring search algorithms on the same text and pattern.
+     */
+    private void compareStringSearchAlgorithms() {
+        System.out.println("\nComparing String Search Algorithms");
+        
+        String text = getTextCorpus();
+        String pattern = getSearchPattern(text);
+        
+        List<Algorithm> algorithms = List.of(naiveStringSearch, kmpSearch, horspoolSearch, firstCharScanSearch);
+        List<Function<String, Integer>> functions = List.of(
+                t -> naiveStringSearch.countOccurrences(t, pattern),
+                t -> kmpSearch.countOccurrences(t, pattern),
+                t -> horspoolSearch.countOccurrences(t, pattern),
+                t -> firstCharScanSearch.countOccurrences(t, pattern));
+        
+        System.out.println("\nComparing string search algorithms on a text of length " + text.length()
+                + " with a pattern of length " + pattern.length());
+        
+        Map<String, Long> results = new HashMap<>();
+        
+        for (int i = 0; i < algorithms.size(); i++) {
+            Algorithm algorithm = algorithms.get(i);
+            Function<String, Integer> function = functions.get(i);
+            
+            // Warm-up run
+            function.apply(text);
+            
+            long startTime = System.nanoTime();
+            int occurrences = function.apply(text);
+            long endTime = System.nanoTime();
+            long executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            
+            System.out.printf("%-30s %d occurrences, %.1f MB/s\n", algorithm.getName(), occurrences,
+                    megabytesPerSecond(text.length() * 2L, endTime - startTime));
+            results.put(algorithm.getName(), executionTime);
+            
+            // Add result to performance tracker
+            PerformanceResult result = new PerformanceResult(algorithm, executionTime, text.length());
+            performanceTracker.addResult(result);
+            resultManager.addResult(result);
+        }
+        
+        displayComparisonResults(results);
+    }
+    
+    /**
+     * Compares one Aho-Corasick pass against running a single-pattern search once per pattern.
+     */
+    private void compareMultiPatternSearch() {
+        System.out.println("\nComparing Multi-Pattern Search");
+        
+        String text = getTextCorpus();
+        String[] patterns = getPatternSet(text);
+        
+        System.out.println("\nSearching for " + patterns.length + " patterns in a text of length " + text.length());
+        
+        Map<String, Long> results = new HashMap<>();
+        
+        // Aho-Corasick: build once, scan once
+        long buildStart = System.nanoTime();
+        StringSearchAlgorithms.AhoCorasickAutomaton automaton = ahoCorasickSearch.build(patterns);
+        long buildEnd = System.nanoTime();
+        
+        // Warm-up run
+        ahoCorasickSearch.search(automaton, text);
+        
+        long startTime1 = System.nanoTime();
+        int[] counts = ahoCorasickSearch.search(automaton, text);
+        long endTime1 = System.nanoTime();
+        long ahoCorasickTime = (endTime1 - startTime1 + buildEnd - buildStart) / 1_000_000; // Convert to milliseconds
+        
+        displayAutomatonMetrics(automaton, buildEnd - buildStart, text.length(), endTime1 - startTime1);
+        results.put(ahoCorasickSearch.getName() + " (build + scan)", ahoCorasickTime);
+        
+        PerformanceResult ahoCorasickResult = new PerformanceResult(ahoCorasickSearch, ahoCorasickTime, text.length());
+        performanceTracker.addResult(ahoCorasickResult);
+        resultManager.addResult(ahoCorasickResult);
+        
+        // Knuth-Morris-Pratt: one full scan per pattern
+        // Warm-up run
+        kmpSearch.countOccurrences(text, patterns[0]);
+        
+        long startTime2 = System.nanoTime();
+        long kmpTotal = 0;
+        for (String pattern : patterns) {
+            kmpTotal += kmpSearch.countOccurrences(text, pattern);
+        }
+        long endTime2 = System.nanoTime();
+        long kmpTime = (endTime2 - startTime2) / 1_000_000; // Convert to milliseconds
+        
+        results.put(kmpSearch.getName() + " per pattern", kmpTime);
+        
+        PerformanceResult kmpResult = new PerformanceResult(kmpSearch, kmpTime, text.length());
+        performanceTracker.addResult(kmpResult);
+        resultManager.addResult(kmpResult);
+        
+        long ahoCorasickTotal = Arrays.stream(counts).asLongStream().sum();
+        System.out.println("Total occurrences: " + ahoCorasickTotal
+                + (ahoCorasickTotal == kmpTotal ? " (both agree)" : " (MISMATCH: per-pattern search found " + kmpTotal + ")"));
+        
+        displayComparisonResults(results);
+    }
+    
+    /**
+     * Compares answering a batch of substring queries with a suffix array index (including its
+     * construction) against re-scanning the text with Naive String Search for every query.
+     */
+    private void compareRepeatedSubstringQueries() {
+        System.out.println("\nComparing Repeated Substring Queries");
+        
+        String text = getTextCorpus();
+        String[] queries = getPatternSet(text);
+        
+        System.out.println("\nAnswering " + queries.length + " queries on a text of length " + text.length());
+        
+        Map<String, Long> results = new HashMap<>();
+        
+        // Suffix array: index once, then query
+        long buildStart = System.nanoTime();
+        StringSearchAlgorithms.SuffixArrayIndex index = suffixArraySearch.build(text);
+        long buildEnd = System.nanoTime();
+        
+        long startTime1 = System.nanoTime();
+        long indexedTotal = 0;
+        for (String query : queries) {
+            indexedTotal += suffixArraySearch.countOccurrences(index, query);
+        }
+        long endTime1 = System.nanoTime();
+        long buildTime = (buildEnd - buildStart) / 1_000_000; // Convert to milliseconds
+        long queryTime = (endTime1 - startTime1) / 1_000_000; // Convert to milliseconds
+        
+        results.put(suffixArraySearch.getName() + " (build + queries)", buildTime + queryTime);
+        
+        PerformanceResult indexedResult = new PerformanceResult(suffixArraySearch, buildTime + queryTime, text.length());
+        performanceTracker.addResult(indexedResult);
+        resultManager.addResult(indexedResult);
+        
+        // Naive String Search: full re-scan per query
+        long startTime2 = System.nanoTime();
+        long scannedTotal = 0;
+        for (String query : queries) {
+            scannedTotal += naiveStringSearch.countOccurrences(text, query);
+        }
+        long endTime2 = System.nanoTime();
+        long scanTime = (endTime2 - startTime2) / 1_000_000; // Convert to milliseconds
+        
+        results.put(naiveStringSearch.getName() + " per query", scanTime);
+        
+        PerformanceResult scannedResult = new PerformanceResult(naiveStringSearch, scanTime, text.length());
+        performanceTracker.addResult(scannedResult);
+        resultManager.addResult(scannedResult);
+        
+        System.out.println("Construction time: " + buildTime + " ms");
+        System.out.printf("Index memory: %d KB vs %d KB for the text itself\n",
+                index.getSizeInBytes() / 1024, text.length() * 2L / 1024);
+        System.out.printf("Average query time: %.1f us indexed vs %.1f us re-scanning\n",
+                (endTime1 - startTime1) / 1000.0 / queries.length, (endTime2 - startTime2) / 1000.0 / queries.length);
+        System.out.println("Total occurrences: " + indexedTotal
+                + (indexedTotal == scannedTotal ? " (both agree)" : " (MISMATCH: re-scanning found " + scannedTotal + ")"));
+        
         displayComparisonResults(results);
     }
     
@@ -819,6 +3068,12 @@ public class ConsoleUI {
         System.out.println("1. Depth-First Search");
         System.out.println("2. Breadth-First Search");
         System.out.println("3. Dijkstra's Algorithm");
+        System.out.println("4. Dijkstra (Binary Heap)");
+        System.out.println("5. Dijkstra (4-ary Heap)");
+        System.out.println("6. Dijkstra (Dial's Buckets)");
+        System.out.println("7. Dijkstra (Radix Heap)");
+        System.out.println("8. Depth-First Search (Iterative)");
+        System.out.println("9. Delta-Stepping (Parallel)");
         
         String input = scanner.next();
         String[] choices = input.split(",");
@@ -839,6 +3094,24 @@ public class ConsoleUI {
                     case 3:
                         algorithms.add(dijkstra);
                         break;
+                    case 4:
+                        algorithms.add(binaryHeapDijkstra);
+                        break;
+                    case 5:
+                        algorithms.add(daryHeapDijkstra);
+                        break;
+                    case 6:
+                        algorithms.add(dialDijkstra);
+                        break;
+                    case 7:
+                        algorithms.add(radixHeapDijkstra);
+                        break;
+                    case 8:
+                        algorithms.add(iterativeDfs);
+                        break;
+                    case 9:
+                        algorithms.add(deltaStepping);
+                        break;
                     default:
                         System.out.println("Invalid algorithm choice: " + algorithmChoice + ". Skipping.");
                 }
@@ -869,6 +3142,8 @@ public class ConsoleUI {
         
         System.out.println("\nComparing graph algorithms on a graph with " + vertices + " vertices and " + edges + " edges");
         
+        // Convert once so the heap-based variants are not timed building their CSR input
+        GraphAlgorithms.CsrGraph csrGraph = GraphAlgorithms.CsrGraph.fromGraph(graph);
         Map<String, Long> results = new HashMap<>();
         
         for (Algorithm algorithm : algorithms) {
@@ -882,6 +3157,14 @@ public class ConsoleUI {
                 dfs.traverse(graph, startVertex);
                 long endTime = System.nanoTime();
                 executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            } else if (algorithm == iterativeDfs) {
+                // Warm-up run
+                iterativeDfs.traverse(graph, startVertex);
+                
+                long startTime = System.nanoTime();
+                iterativeDfs.traverse(graph, startVertex);
+                long endTime = System.nanoTime();
+                executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
             } else if (algorithm == bfs) {
                 // Warm-up run
                 bfs.traverse(graph, startVertex);
@@ -890,7 +3173,7 @@ public class ConsoleUI {
                 bfs.traverse(graph, startVertex);
                 long endTime = System.nanoTime();
                 executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
-            } else { // Dijkstra
+            } else if (algorithm == dijkstra) {
                 // Warm-up run
                 dijkstra.findShortestPaths(graph, startVertex);
                 
@@ -898,6 +3181,21 @@ public class ConsoleUI {
                 dijkstra.findShortestPaths(graph, startVertex);
                 long endTime = System.nanoTime();
                 executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
+            } else { // CSR shortest path implementations
+                ShortestPathAlgorithm shortestPath = (ShortestPathAlgorithm) algorithm;
+                
+                // Warm-up run
+                try {
+                    shortestPath.findShortestPaths(csrGraph, startVertex);
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Skipping " + algorithm.getName() + ": " + e.getMessage());
+                    continue;
+                }
+                
+                long startTime = System.nanoTime();
+                shortestPath.findShortestPaths(csrGraph, startVertex);
+                long endTime = System.nanoTime();
+                executionTime = (endTime - startTime) / 1_000_000; // Convert to milliseconds
             }
             
             results.put(algorithm.getName(), executionTime);
@@ -917,6 +3215,11 @@ public class ConsoleUI {
      * @param results The map of algorithm names to execution times
      */
     private void displayComparisonResults(Map<String, Long> results) {
+        if (results.isEmpty()) {
+            System.out.println("No results to compare.");
+            return;
+        }
+        
         System.out.println("\nCOMPARISON RESULTS");
         System.out.println("--------------------------------------------------");
         System.out.printf("%-30s %-15s\n", "Algorithm", "Execution Time (ms)");
@@ -1128,6 +3431,99 @@ public class ConsoleUI {
         return array;
     }
     
+    /**
+     * Gets a text corpus from the user, either generated or typed in.
+     * 
+     * @return The text
+     */
+    private String getTextCorpus() {
+        System.out.println("\nSelect text type:");
+        System.out.println("1. Random text (choose alphabet size)");
+        System.out.println("2. Repetitive text");
+        System.out.println("3. Log-like text");
+        System.out.println("4. Custom text");
+        
+        int inputChoice = getIntInput("Enter your choice: ");
+        String text;
+        
+        if (inputChoice >= 1 && inputChoice <= 3) {
+            int length = getIntInput("Enter text length: ");
+            
+            switch (inputChoice) {
+                case 1:
+                    int alphabetSize = getIntInput("Enter alphabet size: ");
+                    text = dataGenerator.generateRandomText(length, alphabetSize);
+                    break;
+                case 2:
+                    int blockLength = getIntInput("Enter repeated block length: ");
+                    text = dataGenerator.generateRepetitiveText(length, blockLength, 4, 0.01);
+                    break;
+                default:
+                    text = dataGenerator.generateLogText(length);
+            }
+        } else if (inputChoice == 4) {
+            System.out.println("Enter the text:");
+            scanner.nextLine(); // Consume newline
+            text = scanner.nextLine();
+        } else {
+            System.out.println("Invalid choice. Using random text.");
+            text = dataGenerator.generateRandomString(1000);
+        }
+        
+        System.out.println("\nText preview: " + (text.length() > 200 ? text.substring(0, 200) + "..." : text));
+        return text;
+    }
+    
+    /**
+     * Gets a search pattern from the user, either typed in or taken from the text.
+     * 
+     * @param text The text the pattern will be searched in
+     * @return The pattern
+     */
+    private String getSearchPattern(String text) {
+        int length = getIntInput("Enter pattern length to sample from the text (0 to type a pattern): ");
+        
+        if (length > 0 && length <= text.length()) {
+            String pattern = dataGenerator.generatePatternFromText(text, length);
+            System.out.println("Pattern: " + pattern);
+            return pattern;
+        }
+        
+        System.out.print("Enter the pattern to search for: ");
+        return scanner.next();
+    }
+    
+    /**
+     * Gets a set of search patterns sampled from a text.
+     * 
+     * @param text The text to sample the patterns from
+     * @return The patterns
+     */
+    private String[] getPatternSet(String text) {
+        int count = getIntInput("Enter number of patterns: ");
+        int minLength = getIntInput("Enter minimum pattern length: ");
+        int maxLength = getIntInput("Enter maximum pattern length: ");
+        
+        if (count < 1 || minLength < 1 || maxLength < minLength || text.isEmpty()) {
+            System.out.println("Invalid pattern settings. Using 100 patterns of length 4 to 8.");
+            count = 100;
+            minLength = 4;
+            maxLength = 8;
+        }
+        return dataGenerator.generatePatternSet(text, count, minLength, maxLength);
+    }
+    
+    /**
+     * Converts a byte count and elapsed time into a throughput.
+     * 
+     * @param bytes The number of bytes processed
+     * @param nanos The elapsed time in nanoseconds
+     * @return The throughput in megabytes per second
+     */
+    private double megabytesPerSecond(long bytes, long nanos) {
+        return nanos == 0 ? 0 : (bytes / (1024.0 * 1024.0)) / (nanos / 1_000_000_000.0);
+    }
+    
     /**
      * Gets a custom graph from the user.
      * 